@@ -0,0 +1,38 @@
+package benchmarks;
+
+import engine.Game;
+import engine.ai.strategies.RandomStrategy;
+import network.GameClient;
+import simulation.LocalGameClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe utilitaire permettant de préparer une partie initialisée pour les mesures.
+ * @author Noé Mourton-Comte
+ */
+final class BenchmarkGame
+{
+    private BenchmarkGame() {}
+
+    /**
+     * Fonction permettant de créer une partie de deux joueurs locaux, initialisée mais pas encore commencée
+     */
+    static Game create() throws Exception
+    {
+        List<GameClient> clients = new ArrayList<>();
+        clients.add(new LocalGameClient(RandomStrategy.class));
+        clients.add(new LocalGameClient(RandomStrategy.class));
+
+        Game game = new Game(clients, Runnable::run);
+
+        for(GameClient client : clients)
+        {
+            ((LocalGameClient) client).bind(game);
+        }
+
+        game.init();
+        return game;
+    }
+}
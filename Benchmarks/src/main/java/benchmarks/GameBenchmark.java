@@ -0,0 +1,45 @@
+package benchmarks;
+
+import engine.Game;
+import engine.core.Invention;
+import engine.exceptions.RequestedInventionNotFoundException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure des fonctions de la partie appelées à chaque tour.
+ * @author Noé Mourton-Comte
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark
+{
+    private Game game;
+    private String lastInventionName;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        this.game = BenchmarkGame.create();
+
+        //La dernière invention de la table est le pire cas d'une recherche par nom
+        this.lastInventionName = this.game.getInventionsList().get(this.game.getInventionsList().size() - 1).getName();
+    }
+
+    @Benchmark
+    public boolean eraCompleted()
+    {
+        return this.game.eraCompleted();
+    }
+
+    @Benchmark
+    public Invention getInventionByName() throws RequestedInventionNotFoundException
+    {
+        return this.game.getInventionByName(this.lastInventionName);
+    }
+}
@@ -0,0 +1,44 @@
+package benchmarks;
+
+import engine.core.Invention;
+import engine.core.Inventor;
+import engine.core.Knowledges;
+import engine.core.Player;
+import engine.core.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure de la contribution d'un inventeur à une invention.
+ * La mesure inclut la création d'une invention vierge, l'état d'une invention étant modifié par chaque contribution.
+ * @author Noé Mourton-Comte
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventionBenchmark
+{
+    private Player player;
+    private Inventor inventor;
+    private Knowledges requiredKnowledges;
+
+    @Setup
+    public void setup()
+    {
+        this.player = new Player();
+        this.inventor = new Inventor("Albert Einstein", new Knowledges(1, 2, 1, 1), Team.Rouge);
+        this.requiredKnowledges = new Knowledges(3, 1, 2, 3);
+    }
+
+    @Benchmark
+    public Invention updateActualKnowledges()
+    {
+        Invention invention = new Invention("Téléphone", this.requiredKnowledges, 3);
+        invention.updateActualKnowledges(this.player, this.inventor.getKnowledges());
+        return invention;
+    }
+}
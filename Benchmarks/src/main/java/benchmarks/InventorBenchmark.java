@@ -0,0 +1,38 @@
+package benchmarks;
+
+import engine.core.Invention;
+import engine.core.Inventor;
+import engine.core.Knowledges;
+import engine.core.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure de l'évaluation d'un inventeur relativement à une invention.
+ * @author Noé Mourton-Comte
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventorBenchmark
+{
+    private Inventor inventor;
+    private Invention invention;
+
+    @Setup
+    public void setup()
+    {
+        this.inventor = new Inventor("Nikola Tesla", new Knowledges(1, 0, 2, 1), Team.Rouge);
+        this.invention = new Invention("Automobile", new Knowledges(1, 3, 4, 1), 3);
+    }
+
+    @Benchmark
+    public int getGrade()
+    {
+        return this.inventor.getGrade(this.invention);
+    }
+}
@@ -0,0 +1,45 @@
+package benchmarks;
+
+import engine.core.Inventor;
+import engine.core.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure de la récupération des inventeurs disponibles d'un joueur.
+ * @author Noé Mourton-Comte
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark
+{
+    private Player player;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        this.player = BenchmarkGame.create().getPlayers().values().iterator().next();
+
+        //La moitié des inventeurs du joueur est occupée
+        this.player.getInventors().get(0).makeBusy();
+        this.player.getInventors().get(2).makeBusy();
+    }
+
+    @Benchmark
+    public List<Inventor> getFreeInventors()
+    {
+        return this.player.getFreeInventors();
+    }
+
+    @Benchmark
+    public int getFreeInventorsCount()
+    {
+        return this.player.getFreeInventorsCount();
+    }
+}
@@ -0,0 +1,50 @@
+package benchmarks;
+
+import engine.Game;
+import network.JsonPayload;
+import network.ProtocolJson;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure de la sérialisation et de la désérialisation du contenu d'un message "SynchronizeMessage".
+ * @author Noé Mourton-Comte
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark
+{
+    private Game game;
+
+    private String inventorsJson;
+    private String inventionsJson;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        this.game = BenchmarkGame.create();
+
+        this.inventorsJson = new JsonPayload(this.game.getMergedInventors()).toJson();
+        this.inventionsJson = new JsonPayload(this.game.getInventionsList()).toJson();
+    }
+
+    @Benchmark
+    public void synchronizeMessage(Blackhole blackhole)
+    {
+        blackhole.consume(new JsonPayload(this.game.getMergedInventors()).toJson());
+        blackhole.consume(new JsonPayload(this.game.getInventionsList()).toJson());
+    }
+
+    @Benchmark
+    public void synchronizeMessageParsing(Blackhole blackhole)
+    {
+        blackhole.consume(ProtocolJson.GSON.fromJson(this.inventorsJson, ProtocolJson.INVENTORS_BY_PLAYER_TYPE));
+        blackhole.consume(ProtocolJson.GSON.fromJson(this.inventionsJson, ProtocolJson.INVENTIONS_TYPE));
+    }
+}
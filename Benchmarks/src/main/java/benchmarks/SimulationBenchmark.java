@@ -0,0 +1,46 @@
+package benchmarks;
+
+import engine.ai.strategies.Strategy;
+import org.openjdk.jmh.annotations.*;
+import simulation.SimulationResult;
+import simulation.Simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure d'une partie complète simulée entre deux joueurs utilisant la même stratégie.
+ * @author Noé Mourton-Comte
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationBenchmark
+{
+    @Param({ "RandomStrategy", "VictoryPointsStrategy", "StealStrategy" })
+    private String strategy;
+
+    private Simulator simulator;
+
+    @Setup
+    public void setup() throws ClassNotFoundException
+    {
+        Class<? extends Strategy> strategyType = Class.forName("engine.ai.strategies." + this.strategy).asSubclass(Strategy.class);
+
+        List<Class<? extends Strategy>> strategies = new ArrayList<>();
+        strategies.add(strategyType);
+        strategies.add(strategyType);
+
+        this.simulator = new Simulator(strategies);
+    }
+
+    @Benchmark
+    public SimulationResult playGame() throws Exception
+    {
+        return this.simulator.play();
+    }
+}
@@ -1,12 +1,20 @@
 package console;
 
 import network.AIClient;
+import network.ProtocolEncodings;
 import network.listener.AIClientListener;
+import logging.AsyncLogStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class Main
 {
+    static
+    {
+        //Les logs sont écrits par un thread dédié, avant la création du premier logger
+        AsyncLogStream.install();
+    }
+
     private static final Logger log = LoggerFactory.getLogger(Main.class);
 
     private static int currentGameNumber = 1;
@@ -14,9 +22,9 @@ public class Main
 
     public static void main(String[] args)
     {
-        if(args.length != 3)
+        if(args.length < 3 || args.length > 4)
         {
-            log.error("Impossible de démarrer un client sans préciser les arguments suivants : nom de la strégie, nombre de parties à jouer, afficher ou non les logs.");
+            log.error("Impossible de démarrer un client sans préciser les arguments suivants : nom de la strégie, nombre de parties à jouer, afficher ou non les logs (et éventuellement l'encodage : JSON ou BINARY).");
         }
         else
         {
@@ -33,6 +41,9 @@ public class Main
                 Class<?> strategyType = Class.forName(String.format("engine.ai.strategies.%s", strategyName));
                 AIClient client = new AIClient(strategyType, displayLog);
 
+                if(args.length == 4)
+                    client.setPreferredEncoding(ProtocolEncodings.valueOf(args[3].toUpperCase()));
+
                 //Écouteur attendant la fin d'une la partie...
                 AIClientListener aiClientListener = new AIClientListener() {
                     @Override
@@ -41,14 +52,24 @@ public class Main
                         if(victory)
                             wonGames++;
 
-                        log.info(String.format("%d sur %d partie(s) terminée(s).", currentGameNumber, gamesToPlay));
+                        log.info("{} sur {} partie(s) terminée(s).", currentGameNumber, gamesToPlay);
 
-                        client.disconnect();
+                        //Le client reste connecté tant qu'il reste des parties à jouer
+                        if(currentGameNumber < gamesToPlay)
+                        {
+                            currentGameNumber++;
+                            client.requestNextGame();
+                        }
+                        else
+                        {
+                            client.disconnect();
+                        }
                     }
 
                     @Override
                     public void onGameClosed()
                     {
+                        //Reconnexion uniquement en cas de déconnexion inattendue au cours d'une série
                         if(currentGameNumber < gamesToPlay)
                         {
                             currentGameNumber++;
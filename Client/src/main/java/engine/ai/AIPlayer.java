@@ -55,9 +55,6 @@ public class AIPlayer extends Player
      */
     public void refreshInventors(List<Inventor> refreshedInventors)
     {
-        synchronized (super.inventors) {
-            super.inventors.clear();
-            super.inventors.addAll(refreshedInventors);
-        }
+        super.setInventors(refreshedInventors);
     }
 }
@@ -0,0 +1,116 @@
+package engine.ai.strategies;
+
+/**
+ * Classe représentant un noeud de l'arbre de recherche de MctsStrategy.
+ * Les noeuds sont fournis par un MctsNodePool et réutilisés d'un tour à l'autre (voir reset) : les enfants sont
+ * chaînés entre eux plutôt que rangés dans une liste.
+ * @author Noé Mourton-Comte
+ */
+class MctsNode
+{
+    private MctsNode parent;
+    private MctsNode firstChild;
+    private MctsNode nextSibling;
+
+    //Coup menant à ce noeud et place du joueur qui l'a joué
+    private int move;
+    private int seat;
+
+    private volatile boolean isExpanded;
+    private volatile int visits;
+    private volatile double wins;
+
+    /**
+     * Méthode permettant de réinitialiser le noeud avant sa réutilisation
+     * @param parent noeud parent, ou null pour la racine
+     * @param move coup menant à ce noeud
+     * @param seat place du joueur ayant joué le coup
+     */
+    void reset(MctsNode parent, int move, int seat)
+    {
+        this.parent = parent;
+        this.firstChild = null;
+        this.nextSibling = null;
+        this.move = move;
+        this.seat = seat;
+        this.isExpanded = false;
+        this.visits = 0;
+        this.wins = 0;
+    }
+
+    /**
+     * Méthode permettant de compter une visite du noeud, avant que son résultat ne soit connu (perte virtuelle :
+     * les autres fils d'exécution sont ainsi incités à explorer d'autres branches)
+     */
+    synchronized void addVisit()
+    {
+        this.visits++;
+    }
+
+    /**
+     * Méthode permettant d'ajouter le résultat d'une simulation passée par ce noeud
+     * @param result résultat pour la place du joueur ayant joué le coup (voir MctsState.getResult)
+     */
+    synchronized void addResult(double result)
+    {
+        this.wins += result;
+    }
+
+    /**
+     * Méthode permettant d'attacher les enfants du noeud, une seule fois
+     * @param firstChild premier enfant, les suivants étant chaînés par leur frère
+     */
+    void setChildren(MctsNode firstChild)
+    {
+        this.firstChild = firstChild;
+        this.isExpanded = true;
+    }
+
+    /**
+     * Méthode permettant de chaîner un noeud à son frère suivant
+     */
+    void setNextSibling(MctsNode nextSibling)
+    {
+        this.nextSibling = nextSibling;
+    }
+
+    MctsNode getParent()
+    {
+        return this.parent;
+    }
+
+    MctsNode getFirstChild()
+    {
+        return this.firstChild;
+    }
+
+    MctsNode getNextSibling()
+    {
+        return this.nextSibling;
+    }
+
+    int getMove()
+    {
+        return this.move;
+    }
+
+    int getSeat()
+    {
+        return this.seat;
+    }
+
+    boolean isExpanded()
+    {
+        return this.isExpanded;
+    }
+
+    int getVisits()
+    {
+        return this.visits;
+    }
+
+    double getWins()
+    {
+        return this.wins;
+    }
+}
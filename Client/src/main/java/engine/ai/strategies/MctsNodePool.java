@@ -0,0 +1,85 @@
+package engine.ai.strategies;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Classe fournissant les noeuds de l'arbre de recherche de MctsStrategy.
+ * Les noeuds sont créés à la première utilisation puis recyclés à chaque nouvelle recherche : après quelques tours,
+ * la recherche n'alloue plus aucun noeud. L'attribution d'un noeud se fait sans verrou.
+ * @author Noé Mourton-Comte
+ */
+class MctsNodePool
+{
+    private final MctsNode[] nodes;
+    private final AtomicInteger usedNodes;
+
+    /**
+     * Constructeur
+     * @param capacity nombre maximum de noeuds d'un arbre
+     */
+    MctsNodePool(int capacity)
+    {
+        this.nodes = new MctsNode[capacity];
+        this.usedNodes = new AtomicInteger();
+    }
+
+    /**
+     * Fonction permettant d'obtenir un noeud réinitialisé
+     * @param parent noeud parent, ou null pour la racine
+     * @param move coup menant au noeud
+     * @param seat place du joueur ayant joué le coup
+     * @return le noeud, ou null si la capacité est atteinte
+     */
+    MctsNode acquire(MctsNode parent, int move, int seat)
+    {
+        //Une fois la capacité atteinte, le compteur n'est plus incrémenté
+        if(this.usedNodes.get() >= this.nodes.length)
+            return null;
+
+        int index = this.usedNodes.getAndIncrement();
+
+        if(index >= this.nodes.length)
+            return null;
+
+        //Chaque indice n'est attribué qu'à un seul fil d'exécution
+        MctsNode node = this.nodes[index];
+        if(node == null)
+        {
+            node = new MctsNode();
+            this.nodes[index] = node;
+        }
+
+        node.reset(parent, move, seat);
+
+        return node;
+    }
+
+    /**
+     * Méthode permettant de recycler tous les noeuds, l'arbre précédent ne doit plus être utilisé
+     */
+    void recycle()
+    {
+        this.usedNodes.set(0);
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de noeuds de l'arbre courant
+     */
+    int getUsedNodes()
+    {
+        return Math.min(this.usedNodes.get(), this.nodes.length);
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de noeuds déjà créés
+     */
+    int getCreatedNodes()
+    {
+        int created = 0;
+
+        while(created < this.nodes.length && this.nodes[created] != null)
+            created++;
+
+        return created;
+    }
+}
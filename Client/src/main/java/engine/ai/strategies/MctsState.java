@@ -0,0 +1,270 @@
+package engine.ai.strategies;
+
+import engine.core.Knowledges;
+
+/**
+ * Classe représentant l'état simplifié d'une partie exploré par MctsStrategy.
+ * Les connaissances sont regroupées (voir Knowledges.toPacked) et l'état est copié dans des tableaux réutilisés :
+ * jouer un coup n'alloue rien. Les places sont numérotées dans l'ordre de jeu, le joueur de la stratégie étant à la place 0.
+ * Seules les inventions visibles sont simulées, les époques suivantes ne sont pas connues du client.
+ * @author Noé Mourton-Comte
+ */
+class MctsState
+{
+    /**
+     * Coup consistant à rendre disponibles tous les inventeurs occupés.
+     */
+    static final int MAKE_AVAILABLE = -1;
+    /**
+     * Coup d'un joueur ne pouvant rien faire.
+     */
+    static final int PASS = -2;
+
+    private final int seats;
+    private final int inventionsCount;
+    private final int maxPlies;
+
+    //Données partagées par toutes les copies de l'état
+    private final int[][] inventors;
+    private final int[] requiredKnowledges;
+    private final int[][] rewards;
+
+    private final int[] actualKnowledges;
+    private final int[] contributions;
+    private final int[] busyMasks;
+    private final int[] gains;
+    private int remainingInventions;
+    private int currentSeat;
+    private int passes;
+    private int plies;
+
+    /**
+     * Constructeur d'un état
+     * @param inventors connaissances regroupées des inventeurs de chaque place
+     * @param busyMasks inventeurs occupés de chaque place (le bit i correspond au i-ème inventeur)
+     * @param requiredKnowledges connaissances regroupées requises par chaque invention
+     * @param actualKnowledges connaissances regroupées déjà apportées à chaque invention
+     * @param contributions cubes apportés à chaque invention par chaque place (invention * places + place)
+     * @param rewards valeurs des récompenses de chaque invention, par ordre décroissant
+     * @param maxPlies nombre de coups simulés au maximum
+     */
+    MctsState(int[][] inventors, int[] busyMasks, int[] requiredKnowledges, int[] actualKnowledges, int[] contributions,
+              int[][] rewards, int maxPlies)
+    {
+        this.seats = inventors.length;
+        this.inventionsCount = requiredKnowledges.length;
+        this.maxPlies = maxPlies;
+
+        this.inventors = inventors;
+        this.requiredKnowledges = requiredKnowledges;
+        this.rewards = rewards;
+
+        this.actualKnowledges = actualKnowledges.clone();
+        this.contributions = contributions.clone();
+        this.busyMasks = busyMasks.clone();
+        this.gains = new int[this.seats];
+
+        for(int invention = 0; invention < this.inventionsCount; invention++)
+        {
+            if(this.actualKnowledges[invention] != this.requiredKnowledges[invention])
+                this.remainingInventions++;
+        }
+    }
+
+    /**
+     * Constructeur d'une copie d'un état
+     * @param state état à copier
+     */
+    MctsState(MctsState state)
+    {
+        this(state.inventors, state.busyMasks, state.requiredKnowledges, state.actualKnowledges, state.contributions,
+                state.rewards, state.maxPlies);
+        this.copyFrom(state);
+    }
+
+    /**
+     * Méthode permettant de remplacer cet état par un autre état de la même partie, sans allocation
+     * @param state état à copier
+     */
+    void copyFrom(MctsState state)
+    {
+        System.arraycopy(state.actualKnowledges, 0, this.actualKnowledges, 0, this.inventionsCount);
+        System.arraycopy(state.contributions, 0, this.contributions, 0, this.contributions.length);
+        System.arraycopy(state.busyMasks, 0, this.busyMasks, 0, this.seats);
+        System.arraycopy(state.gains, 0, this.gains, 0, this.seats);
+
+        this.remainingInventions = state.remainingInventions;
+        this.currentSeat = state.currentSeat;
+        this.passes = state.passes;
+        this.plies = state.plies;
+    }
+
+    /**
+     * Fonction permettant de connaître la taille minimale du tableau passé à getLegalMoves
+     */
+    int getMaxMoves()
+    {
+        int maxInventors = 0;
+
+        for(int[] seatInventors : this.inventors)
+            maxInventors = Math.max(maxInventors, seatInventors.length);
+
+        return maxInventors * this.inventionsCount + 1;
+    }
+
+    /**
+     * Fonction permettant de lister les coups possibles du joueur courant
+     * @param moves tableau recevant les coups (voir getMaxMoves)
+     * @return le nombre de coups possibles, au moins 1 (PASS si le joueur ne peut rien faire)
+     */
+    int getLegalMoves(int[] moves)
+    {
+        int count = 0;
+        int[] seatInventors = this.inventors[this.currentSeat];
+        int busyMask = this.busyMasks[this.currentSeat];
+
+        for(int inventor = 0; inventor < seatInventors.length; inventor++)
+        {
+            if((busyMask & 1 << inventor) != 0)
+                continue;
+
+            for(int invention = 0; invention < this.inventionsCount; invention++)
+            {
+                //Même règle que Inventor.canWorkOn
+                if(Knowledges.weightRemainingPacked(seatInventors[inventor], this.requiredKnowledges[invention],
+                        this.actualKnowledges[invention]) > 0)
+                    moves[count++] = inventor * this.inventionsCount + invention;
+            }
+        }
+
+        if(busyMask != 0)
+            moves[count++] = MAKE_AVAILABLE;
+
+        if(count == 0)
+            moves[count++] = PASS;
+
+        return count;
+    }
+
+    /**
+     * Méthode permettant de jouer un coup pour le joueur courant puis de passer au joueur suivant
+     * @param move coup à jouer (voir getLegalMoves)
+     */
+    void play(int move)
+    {
+        if(move == PASS)
+        {
+            this.passes++;
+        }
+        else
+        {
+            this.passes = 0;
+
+            if(move == MAKE_AVAILABLE)
+            {
+                this.busyMasks[this.currentSeat] = 0;
+            }
+            else
+            {
+                int inventor = move / this.inventionsCount;
+                int invention = move % this.inventionsCount;
+
+                int previous = this.actualKnowledges[invention];
+                int actual = Knowledges.addUpToPacked(previous, this.inventors[this.currentSeat][inventor],
+                        this.requiredKnowledges[invention]);
+
+                this.actualKnowledges[invention] = actual;
+                this.contributions[invention * this.seats + this.currentSeat] += Knowledges.sumPacked(actual - previous);
+                this.busyMasks[this.currentSeat] |= 1 << inventor;
+
+                if(actual == this.requiredKnowledges[invention])
+                    this.distributeRewards(invention);
+            }
+        }
+
+        this.currentSeat = (this.currentSeat + 1) % this.seats;
+        this.plies++;
+    }
+
+    /**
+     * Méthode permettant d'attribuer les récompenses d'une invention complétée : chaque contributeur, du plus grand
+     * au plus petit, choisit la récompense de plus grande valeur restante (égalité en faveur du joueur courant)
+     */
+    private void distributeRewards(int invention)
+    {
+        int[] inventionRewards = this.rewards[invention];
+        int rewardedSeats = 0;
+
+        this.remainingInventions--;
+
+        for(int reward = 0; reward < inventionRewards.length; reward++)
+        {
+            int bestSeat = -1;
+            int bestContribution = 0;
+
+            for(int offset = 0; offset < this.seats; offset++)
+            {
+                int seat = (this.currentSeat + offset) % this.seats;
+                int contribution = this.contributions[invention * this.seats + seat];
+
+                if((rewardedSeats & 1 << seat) == 0 && contribution > bestContribution)
+                {
+                    bestSeat = seat;
+                    bestContribution = contribution;
+                }
+            }
+
+            if(bestSeat < 0)
+                break;
+
+            rewardedSeats |= 1 << bestSeat;
+            this.gains[bestSeat] += inventionRewards[reward];
+        }
+    }
+
+    /**
+     * Fonction permettant de savoir si la simulation est terminée
+     */
+    boolean isTerminal()
+    {
+        return this.remainingInventions == 0 || this.passes >= this.seats || this.plies >= this.maxPlies;
+    }
+
+    /**
+     * Fonction permettant d'évaluer l'état pour une place : 1 si elle a gagné plus de points que les autres places,
+     * 0.5 en cas d'égalité et 0 sinon
+     * @param seat place à évaluer
+     */
+    double getResult(int seat)
+    {
+        //Sans adversaire connu, la place est comparée à une place n'ayant rien gagné
+        int bestOtherGain = 0;
+
+        for(int otherSeat = 0; otherSeat < this.seats; otherSeat++)
+        {
+            if(otherSeat != seat)
+                bestOtherGain = Math.max(bestOtherGain, this.gains[otherSeat]);
+        }
+
+        if(this.gains[seat] > bestOtherGain)
+            return 1;
+
+        return this.gains[seat] == bestOtherGain ? 0.5 : 0;
+    }
+
+    /**
+     * Fonction permettant de connaître la place du joueur courant
+     */
+    int getCurrentSeat()
+    {
+        return this.currentSeat;
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre d'inventions de l'état
+     */
+    int getInventionsCount()
+    {
+        return this.inventionsCount;
+    }
+}
@@ -0,0 +1,383 @@
+package engine.ai.strategies;
+
+import engine.ai.strategies.providers.InventionProvider;
+import engine.ai.strategies.providers.OpponentsProvider;
+import engine.ai.strategies.providers.UUIDProvider;
+import engine.core.Invention;
+import engine.core.Inventor;
+import engine.core.Player;
+import engine.core.rewards.Reward;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classe modélisant une stratégie d'IA fondée sur une recherche arborescente Monte-Carlo (MCTS).
+ * À chaque tour, l'état visible de la partie (inventions et inventeurs de tous les joueurs) est simulé jusqu'à la fin de
+ * l'époque, ou jusqu'à MAX_PLIES coups, par plusieurs fils d'exécution qui partagent le même arbre jusqu'à une
+ * échéance stricte. Le coup le plus visité depuis la racine est ensuite joué.
+ * Propriétés système : inventors.mcts.budget (temps de recherche par tour en millisecondes), inventors.mcts.parallelism
+ * (nombre de fils d'exécution de recherche) et inventors.mcts.nodes (nombre maximum de noeuds de l'arbre).
+ * @author Noé Mourton-Comte
+ */
+public class MctsStrategy extends Strategy
+{
+    public static final String BUDGET_PROPERTY = "inventors.mcts.budget";
+    public static final String PARALLELISM_PROPERTY = "inventors.mcts.parallelism";
+    public static final String NODES_PROPERTY = "inventors.mcts.nodes";
+
+    public static final long DEFAULT_BUDGET_MILLIS = 100;
+    public static final int DEFAULT_NODES = 1 << 16;
+
+    /**
+     * Nombre maximum de coups simulés depuis la racine.
+     */
+    public static final int MAX_PLIES = 64;
+
+    //Constante d'exploration de la formule UCT
+    private static final double EXPLORATION = Math.sqrt(2);
+
+    //Les recherches de toutes les stratégies MCTS du processus se partagent les mêmes fils d'exécution
+    private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(
+            Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+
+    private final ForkJoinPool searchPool;
+    private final long budgetNanos;
+    private final MctsNodePool nodePool;
+
+    /**
+     * Constructeur de la stratégie, configurée par les propriétés système.
+     * @param player joueur pour lequel la stratégie va définir les actions.
+     * @param uuidProvider interface fournissant l'UUID du joueur.
+     * @param inventionProvider interface fournissant l'accès aux données des inventions en jeu (et aux inventeurs des
+     *                          autres joueurs s'il implémente OpponentsProvider).
+     */
+    public MctsStrategy(Player player, UUIDProvider uuidProvider, InventionProvider inventionProvider)
+    {
+        this(player, uuidProvider, inventionProvider, Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_MILLIS), SEARCH_POOL);
+    }
+
+    /**
+     * Constructeur de la stratégie
+     * @param player joueur pour lequel la stratégie va définir les actions.
+     * @param uuidProvider interface fournissant l'UUID du joueur.
+     * @param inventionProvider interface fournissant l'accès aux données des inventions en jeu.
+     * @param budgetMillis temps de recherche par tour en millisecondes.
+     * @param searchPool fils d'exécution de la recherche.
+     */
+    public MctsStrategy(Player player, UUIDProvider uuidProvider, InventionProvider inventionProvider, long budgetMillis,
+                        ForkJoinPool searchPool)
+    {
+        super(player, uuidProvider, inventionProvider);
+
+        this.searchPool = searchPool;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.nodePool = new MctsNodePool(Integer.getInteger(NODES_PROPERTY, DEFAULT_NODES));
+    }
+
+    /**
+     * Permet de déterminer une action pour le joueur.
+     * @return action sous forme de tableau de String.
+     */
+    @Override
+    public String[] determinateAction()
+    {
+        List<Inventor> inventors = this.player.getInventors();
+        List<Invention> inventions = new ArrayList<>();
+
+        for(Invention invention : this.inventionProvider.getInventions())
+        {
+            if(!invention.isCompleted())
+                inventions.add(invention);
+        }
+
+        MctsState rootState = this.createRootState(inventors, inventions);
+        int[] moves = new int[rootState.getMaxMoves()];
+        int movesCount = rootState.getLegalMoves(moves);
+
+        //Inutile de chercher lorsqu'un seul coup est possible
+        int move = movesCount == 1 ? moves[0] : this.search(rootState, moves[0]);
+
+        if(move == MctsState.MAKE_AVAILABLE || move == MctsState.PASS)
+            return this.createMakeAvalaibleAction();
+
+        return this.createWorkAction(inventors.get(move / inventions.size()), inventions.get(move % inventions.size()));
+    }
+
+    /**
+     * Détermine une récompense parmi celles proposées.
+     * @param avalaibleReward récompenses disponibles.
+     * @return récompense choisie.
+     */
+    @Override
+    public Integer determinateReward(ArrayList<Reward> avalaibleReward)
+    {
+        //Les simulations font le même choix : la récompense de plus grande valeur
+        return avalaibleReward.indexOf(Collections.max(avalaibleReward, Comparator.comparing(r -> r.getValue())));
+    }
+
+    /**
+     * Fonction permettant de construire l'état simulé à partir de l'état visible de la partie.
+     * Le joueur est à la place 0, les autres joueurs le suivent dans l'ordre fourni par l'OpponentsProvider.
+     */
+    private MctsState createRootState(List<Inventor> inventors, List<Invention> inventions)
+    {
+        List<List<Inventor>> seatsInventors = new ArrayList<>();
+        Map<UUID, Integer> seatsByUUID = new HashMap<>();
+
+        seatsInventors.add(inventors);
+        if(this.uuidProvider.getUUID() != null)
+            seatsByUUID.put(UUID.fromString(this.uuidProvider.getUUID()), 0);
+
+        if(this.inventionProvider instanceof OpponentsProvider)
+        {
+            Map<UUID, List<Inventor>> opponents = ((OpponentsProvider)this.inventionProvider).getOthersPlayersInventors();
+
+            for(Map.Entry<UUID, List<Inventor>> opponent : opponents.entrySet())
+            {
+                seatsByUUID.put(opponent.getKey(), seatsInventors.size());
+                seatsInventors.add(opponent.getValue());
+            }
+        }
+
+        int seats = seatsInventors.size();
+        int[][] packedInventors = new int[seats][];
+        int[] busyMasks = new int[seats];
+
+        for(int seat = 0; seat < seats; seat++)
+        {
+            List<Inventor> seatInventors = seatsInventors.get(seat);
+            packedInventors[seat] = new int[Math.min(seatInventors.size(), Player.MAX_INVENTORS)];
+
+            for(int i = 0; i < packedInventors[seat].length; i++)
+            {
+                packedInventors[seat][i] = seatInventors.get(i).getKnowledges().toPacked();
+
+                if(seatInventors.get(i).isBusy())
+                    busyMasks[seat] |= 1 << i;
+            }
+        }
+
+        int[] requiredKnowledges = new int[inventions.size()];
+        int[] actualKnowledges = new int[inventions.size()];
+        int[] contributions = new int[inventions.size() * seats];
+        int[][] rewards = new int[inventions.size()][];
+
+        for(int i = 0; i < inventions.size(); i++)
+        {
+            Invention invention = inventions.get(i);
+
+            requiredKnowledges[i] = invention.getRequiredKnowledges().toPacked();
+            actualKnowledges[i] = invention.getActualKnowledges().toPacked();
+
+            for(Map.Entry<UUID, Integer> contribution : invention.getContributions().entrySet())
+            {
+                Integer seat = seatsByUUID.get(contribution.getKey());
+
+                if(seat != null)
+                    contributions[i * seats + seat] = contribution.getValue();
+            }
+
+            List<Reward> inventionRewards = invention.getRewards();
+            rewards[i] = new int[inventionRewards.size()];
+
+            for(int reward = 0; reward < rewards[i].length; reward++)
+                rewards[i][reward] = inventionRewards.get(reward).getValue();
+
+            //Ordre décroissant
+            Arrays.sort(rewards[i]);
+            for(int left = 0, right = rewards[i].length - 1; left < right; left++, right--)
+            {
+                int value = rewards[i][left];
+                rewards[i][left] = rewards[i][right];
+                rewards[i][right] = value;
+            }
+        }
+
+        return new MctsState(packedInventors, busyMasks, requiredKnowledges, actualKnowledges, contributions, rewards,
+                MAX_PLIES);
+    }
+
+    /**
+     * Fonction permettant de rechercher le meilleur coup pendant le temps imparti.
+     * Le fil d'exécution appelant participe à la recherche et n'attend jamais les tâches du pool au-delà de l'échéance :
+     * les tâches qui n'ont pas démarré à temps (pool partagé occupé) sont annulées, celles en cours s'arrêtent à la fin
+     * de leur simulation.
+     * @param rootState état de la partie au début du tour
+     * @param fallbackMove coup joué si aucune simulation n'a pu être menée
+     * @return le coup le plus visité depuis la racine
+     */
+    private int search(MctsState rootState, int fallbackMove)
+    {
+        //Les noeuds de l'arbre du tour précédent sont réutilisés
+        this.nodePool.recycle();
+
+        MctsNode root = this.nodePool.acquire(null, MctsState.PASS, -1);
+        long deadline = System.nanoTime() + this.budgetNanos;
+
+        //Le fil appelant est inscrit ; une tâche ne peut plus s'inscrire une fois la recherche close
+        Phaser searchPhaser = new Phaser(1);
+
+        List<ForkJoinTask<?>> workers = new ArrayList<>();
+        for(int i = 1; i < this.searchPool.getParallelism(); i++)
+        {
+            workers.add(this.searchPool.submit(() ->
+            {
+                if(searchPhaser.register() < 0)
+                    return;
+
+                try
+                {
+                    this.runSimulations(root, rootState, deadline);
+                }
+                finally
+                {
+                    searchPhaser.arriveAndDeregister();
+                }
+            }));
+        }
+
+        this.runSimulations(root, rootState, deadline);
+
+        for(ForkJoinTask<?> worker : workers)
+            worker.cancel(false);
+
+        //Attente des seules tâches démarrées, qui terminent leur simulation en cours : l'arbre peut ensuite être recyclé
+        searchPhaser.awaitAdvance(searchPhaser.arriveAndDeregister());
+
+        MctsNode bestChild = null;
+        for(MctsNode child = root.getFirstChild(); child != null; child = child.getNextSibling())
+        {
+            if(child.getVisits() > 0 && (bestChild == null || child.getVisits() > bestChild.getVisits()))
+                bestChild = child;
+        }
+
+        return bestChild != null ? bestChild.getMove() : fallbackMove;
+    }
+
+    /**
+     * Méthode exécutée par chaque fil d'exécution de la recherche : sélection, expansion, simulation et
+     * rétropropagation, tant que l'échéance n'est pas atteinte
+     */
+    private void runSimulations(MctsNode root, MctsState rootState, long deadline)
+    {
+        MctsState state = new MctsState(rootState);
+        int[] moves = new int[state.getMaxMoves()];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while(System.nanoTime() < deadline)
+        {
+            state.copyFrom(rootState);
+
+            MctsNode node = root;
+            node.addVisit();
+
+            //Sélection
+            while(node.isExpanded() && !state.isTerminal())
+            {
+                node = this.select(node);
+                node.addVisit();
+                state.play(node.getMove());
+            }
+
+            //Expansion
+            if(!state.isTerminal() && this.expand(node, state, moves))
+            {
+                node = this.select(node);
+                node.addVisit();
+                state.play(node.getMove());
+            }
+
+            //Simulation
+            while(!state.isTerminal())
+            {
+                state.play(moves[random.nextInt(state.getLegalMoves(moves))]);
+            }
+
+            //Rétropropagation
+            for(; node != root; node = node.getParent())
+            {
+                node.addResult(state.getResult(node.getSeat()));
+            }
+        }
+    }
+
+    /**
+     * Fonction permettant de choisir l'enfant à explorer selon la formule UCT, les enfants jamais visités en premier
+     */
+    private MctsNode select(MctsNode node)
+    {
+        double logVisits = Math.log(Math.max(1, node.getVisits()));
+        MctsNode bestChild = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+
+        for(MctsNode child = node.getFirstChild(); child != null; child = child.getNextSibling())
+        {
+            int visits = child.getVisits();
+
+            if(visits == 0)
+                return child;
+
+            double score = child.getWins() / visits + EXPLORATION * Math.sqrt(logVisits / visits);
+
+            if(score > bestScore)
+            {
+                bestChild = child;
+                bestScore = score;
+            }
+        }
+
+        return bestChild;
+    }
+
+    /**
+     * Fonction permettant de créer les enfants d'un noeud, un par coup possible du joueur courant
+     * @return vrai si le noeud a des enfants, faux si la capacité de l'arbre est atteinte
+     */
+    private boolean expand(MctsNode node, MctsState state, int[] moves)
+    {
+        synchronized (node)
+        {
+            if(node.isExpanded())
+                return true;
+
+            int movesCount = state.getLegalMoves(moves);
+            MctsNode firstChild = null;
+
+            for(int i = movesCount - 1; i >= 0; i--)
+            {
+                MctsNode child = this.nodePool.acquire(node, moves[i], state.getCurrentSeat());
+
+                if(child == null)
+                    return false;
+
+                child.setNextSibling(firstChild);
+                firstChild = child;
+            }
+
+            node.setChildren(firstChild);
+
+            return true;
+        }
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de noeuds de l'arbre du dernier tour
+     */
+    int getTreeSize()
+    {
+        return this.nodePool.getUsedNodes();
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de noeuds créés depuis le premier tour
+     */
+    int getCreatedNodes()
+    {
+        return this.nodePool.getCreatedNodes();
+    }
+}
@@ -98,7 +98,7 @@ public class RandomStrategy extends Strategy
      */
     private Inventor pickRandomInventor(Invention randomInvention)
     {
-        ArrayList<Inventor> inventorArrayList = this.player.getFreeInventors();
+        List<Inventor> inventorArrayList = this.player.getFreeInventors();
         Inventor randomInventor = inventorArrayList.get(randomizer.nextInt(inventorArrayList.size()));
         while(!randomInventor.canWorkOn(randomInvention))
             randomInventor = inventorArrayList.get(randomizer.nextInt(inventorArrayList.size()));
@@ -34,7 +34,7 @@ public class StealStrategy extends Strategy
         String[] actionToDo;
 
         Invention bestInvention = findBestInvention();
-        if(player.getFreeInventors().stream().filter(i -> i.canWorkOn(bestInvention)).count() > 0)
+        if(this.canAnyFreeInventorWorkOn(bestInvention))
         {
             actionToDo = createWorkAction(findBestInventor(bestInvention), bestInvention);
         } else {
@@ -9,6 +9,7 @@ import engine.core.rewards.Reward;
 import network.ProtocolTypes;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Class abstraite servant à l'implémentation des stratégies.
@@ -40,6 +41,24 @@ public abstract class Strategy
      */
     public abstract Integer determinateReward(ArrayList<Reward> avalaibleRewards);
 
+    /**
+     * Permet de savoir si au moins un inventeur disponible du joueur peut travailler sur une invention.
+     * @param invention invention sur laquelle on veut travailler.
+     * @return vrai si un inventeur disponible peut travailler sur l'invention.
+     */
+    protected boolean canAnyFreeInventorWorkOn(Invention invention)
+    {
+        List<Inventor> freeInventors = this.player.getFreeInventors();
+
+        for(int i = 0; i < freeInventors.size(); i++)
+        {
+            if(freeInventors.get(i).canWorkOn(invention))
+                return true;
+        }
+
+        return false;
+    }
+
     /**
      * Permet de créer rapidement une makeAvailaibleAction sous forme de tableau de String (prêt à l'envoi au serveur)
      * @return makeAvailaibleAction sous forme de tableau de String.
@@ -51,14 +70,15 @@ public abstract class Strategy
     }
 
     /**
-     * Permet de créer rapidement une workAction sous forme de tableau de String (prêt à l'envoi au serveur)
+     * Permet de créer rapidement une workAction sous forme de tableau de String (prêt à l'envoi au serveur) :
+     * l'inventeur et l'invention sont désignés par leur identifiant dans le catalogue.
      * @param inventor inventeur qui va travailler.
      * @param invention invention sur laquelle l'inventeur va travailler.
      * @return workAction sous forme de tableau de String.
      */
     protected String[] createWorkAction(Inventor inventor, Invention invention)
     {
-        String[] workAction = {ProtocolTypes.WorkAction.name(), inventor.getName(), invention.getName()};
+        String[] workAction = {ProtocolTypes.WorkAction.name(), String.valueOf(inventor.getId()), String.valueOf(invention.getId())};
         return workAction;
     }
 }
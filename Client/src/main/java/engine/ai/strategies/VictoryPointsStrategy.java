@@ -33,7 +33,7 @@ public class VictoryPointsStrategy extends Strategy
         String[] actionToDo;
 
         Invention bestInvention = Collections.max(inventionProvider.getInventions().stream().filter(i -> !i.isCompleted()).collect(Collectors.toCollection(ArrayList::new)), Comparator.comparing(i -> i.getVictoryPoints()));
-        if(player.getFreeInventors().stream().filter(i -> i.canWorkOn(bestInvention)).count() > 0)
+        if(this.canAnyFreeInventorWorkOn(bestInvention))
         {
             actionToDo = createWorkAction(findBestInventor(bestInvention), bestInvention);
         } else {
@@ -0,0 +1,16 @@
+package engine.ai.strategies.providers;
+
+import engine.core.Inventor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Interface d'un "fournisseur" des inventeurs des autres joueurs de la partie.
+ * @author Noé Mourton-Comte
+ */
+public interface OpponentsProvider
+{
+    Map<UUID, List<Inventor>> getOthersPlayersInventors();
+}
@@ -1,14 +1,17 @@
 package network;
 
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonSyntaxException;
 import engine.ai.AIPlayer;
 import engine.ai.strategies.Strategy;
 import engine.ai.strategies.providers.InventionProvider;
+import engine.ai.strategies.providers.OpponentsProvider;
 import engine.ai.strategies.providers.UUIDProvider;
 import engine.core.Invention;
 import engine.core.Inventor;
 import engine.core.Player;
+import engine.core.exceptions.AlreadyAvailableException;
+import engine.core.exceptions.AlreadyBusyException;
 import engine.core.rewards.Reward;
 import io.socket.client.Ack;
 import io.socket.client.Socket;
@@ -18,6 +21,7 @@ import network.listener.InjectableListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URISyntaxException;
@@ -27,10 +31,12 @@ import java.util.*;
  * Classe permettant de gérer les évenements envoyés par le serveur et liés à l'IA.
  * @author Sappa Valentin & Louis Prud'homme & Alexandre Ciarafoni
  */
-public class AIClient extends Client implements InventionProvider, UUIDProvider
+public class AIClient extends Client implements InventionProvider, UUIDProvider, OpponentsProvider
 {
     private static final Logger log = LoggerFactory.getLogger(AIClient.class);
 
+    private static final Gson gsonSerializer = ProtocolJson.GSON;
+
     private ArrayList<AIClientListener> listeners;
 
     private AIPlayer aiPlayer;
@@ -40,7 +46,13 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
     private HashMap<UUID, List<Inventor>> otherPlayers;
     private ArrayList<Invention> availableInventions;
 
-    private Gson gsonSerializer = new Gson();
+    //Encodage souhaité par le client et encodage négocié avec le serveur
+    private ProtocolEncodings preferredEncoding;
+    private ProtocolEncodings encoding;
+
+    //Version de l'état de la partie connue par le client
+    private long syncVersion;
+    private boolean isResyncing;
 
     public AIClient(Class<?> strategyType, boolean displayLog) throws URISyntaxException
     {
@@ -55,6 +67,9 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
         this.otherPlayers = new HashMap<>();
         this.availableInventions = new ArrayList<>();
 
+        this.preferredEncoding = ProtocolEncodings.JSON;
+        this.encoding = ProtocolEncodings.JSON;
+
         this.registerHandlers();
     }
 
@@ -69,6 +84,7 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
         super.registerHandler(ProtocolMessages.GameStartedMessage.name(), gameStartedMessageListener(this, this.aiPlayer));
         super.registerHandler(ProtocolMessages.TurnStartedMessage.name(), turnStartedMessageListener(this, this.aiPlayer, false));
         super.registerHandler(ProtocolMessages.SynchronizeMessage.name(), synchronizeMessageListener(this, this.aiPlayer));
+        super.registerHandler(ProtocolMessages.SynchronizeDeltaMessage.name(), synchronizeDeltaMessageListener(this, this.aiPlayer));
         super.registerHandler(ProtocolMessages.GameEndedMessage.name(), gameEndedMessageListener);
         super.registerHandler(ProtocolMessages.RewardMessage.name(), rewardMessageListener(this, this.aiPlayer));
         super.registerHandler(ProtocolMessages.LogMessage.name(), logMessageListener);
@@ -89,6 +105,17 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
      */
     public Emitter.Listener welcomeMessageListener = objects ->
     {
+        //Négociation de l'encodage : l'encodage souhaité est utilisé si le serveur le propose
+        this.encoding = ProtocolEncodings.JSON;
+
+        if(objects.length > 0 && objects[objects.length - 1] instanceof Ack)
+        {
+            if(objects.length > 2 && parseEncodings(objects[1]).contains(this.preferredEncoding))
+                this.encoding = this.preferredEncoding;
+
+            ((Ack)objects[objects.length - 1]).call(this.encoding.name());
+        }
+
         if(displayLog)
         {
             log.info("Votre inscription pour la prochaine partie vient d'être confirmée !");
@@ -107,7 +134,18 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
             public void call(Object... objects)
             {
                 String rewards = "";
-                ArrayList<Reward> rewardList = gsonSerializer.fromJson(objects[0].toString(), new TypeToken<ArrayList<Reward>>(){}.getType());
+                ArrayList<Reward> rewardList;
+
+                try
+                {
+                    rewardList = objects[0] instanceof byte[] ? BinaryCodec.decodeRewards((byte[])objects[0]) :
+                            gsonSerializer.fromJson(objects[0].toString(), ProtocolJson.REWARDS_TYPE);
+                }
+                catch (IOException ex)
+                {
+                    log.error("Impossible de décoder les récompenses : {}", ex.getMessage());
+                    return;
+                }
 
                 int i = 1;
                 for (Reward r : rewardList)
@@ -124,7 +162,7 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
                 }
 
                 if(displayLog)
-                    log.info("Récompenses disponibles : " + rewards);
+                    log.info("Récompenses disponibles : {}", rewards);
 
                 Ack ack = (Ack)objects[objects.length - 1];
 
@@ -132,7 +170,7 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
                 ack.call(selectedReward);
 
                 if(displayLog)
-                    log.info("Vous avez choisi la récompense : " + rewardList.get(selectedReward).toString());
+                    log.info("Vous avez choisi la récompense : {}", rewardList.get(selectedReward));
 
             }
         };
@@ -161,11 +199,22 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
                     log.error(e.getMessage());
                 }
 
-                //Désérialisation du json...
-                aiClient.otherPlayers = gsonSerializer.fromJson((String) objects[0],
-                        new TypeToken<HashMap<UUID, List<Inventor>>>() {}.getType());
+                //Désérialisation du json (ou de l'encodage binaire)...
+                try
+                {
+                    aiClient.otherPlayers = decodeInventors(objects[0]);
+                    aiClient.availableInventions = decodeInventions(objects[1]);
+                }
+                catch (IOException ex)
+                {
+                    log.error("Impossible de décoder l'état de la partie : {}", ex.getMessage());
+                    aiClient.requestResync();
+                    return;
+                }
 
-                aiClient.availableInventions = gsonSerializer.fromJson((String)objects[1], new TypeToken<ArrayList<Invention>>(){}.getType());
+                //Version de l'état reçu, les modifications suivantes s'appliqueront sur celle-ci
+                aiClient.syncVersion = objects.length > 2 ? ((Number)objects[2]).longValue() : 0;
+                aiClient.isResyncing = false;
 
                 //Tri des inventeurs du joueur et rfraichissmeent avant suppression de la liste, uniquement consacrée à cataloguer les inventeurs des autres joueurs.
                 aiPlayer.refreshInventors(aiClient.otherPlayers.get(UUID.fromString(aiClient.getUUID())));
@@ -187,7 +236,11 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
                 Ack ack = (Ack)objects[objects.length - 1];
 
                 String[] action = aiClient.playTurn();
-                ack.call((Object)action);
+
+                if(aiClient.getEncoding() == ProtocolEncodings.BINARY)
+                    ack.call(aiClient.packAction(action));
+                else
+                    ack.call((Object)action);
             }
         };
     }
@@ -202,16 +255,47 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
             @Override
             public void call(Object... objects)
             {
-                ArrayList<Invention> inventions = gsonSerializer.fromJson((String)objects[1],
-                        new TypeToken<ArrayList<Invention>>(){}.getType());
-                HashMap<UUID, List<Inventor>> playerInventors = gsonSerializer.fromJson((String)objects[0],
-                        new TypeToken<HashMap<UUID, List<Inventor>>>(){}.getType());
-                
+                ArrayList<Invention> inventions;
+                HashMap<UUID, List<Inventor>> playerInventors;
+
+                try
+                {
+                    inventions = decodeInventions(objects[1]);
+                    playerInventors = decodeInventors(objects[0]);
+                }
+                catch (IOException ex)
+                {
+                    log.error("Impossible de décoder l'état de la partie : {}", ex.getMessage());
+                    aiClient.requestResync();
+                    return;
+                }
+
+                if(objects.length > 2)
+                    aiClient.syncVersion = ((Number)objects[2]).longValue();
+                aiClient.isResyncing = false;
+
                 aiClient.sync(inventions, playerInventors, aiClient, aiPlayer);
             }
         };
     }
 
+    /**
+     * Ecouteur du message SynchronizeDelta, qui transmet au joueur uniquement les informations de la partie modifiées depuis la dernière synchronisation.
+     */
+    public InjectableListener synchronizeDeltaMessageListener(AIClient aiClient, AIPlayer aiPlayer)
+    {
+        return new InjectableListener(aiClient, aiPlayer)
+        {
+            @Override
+            public void call(Object... objects)
+            {
+                SynchronizeDelta delta = gsonSerializer.fromJson((String)objects[0], SynchronizeDelta.class);
+
+                aiClient.applyDelta(delta, aiClient, aiPlayer);
+            }
+        };
+    }
+
     /**
      * Ecouteur du message GameEnded qui permet de connaitre le gagnant ou le eprdant d'une partie
      */
@@ -221,11 +305,11 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
 
         if (victory)
         {
-            log.info(String.format("Vous avez gagné avec %d point(s) !", objects[1]));
+            log.info("Vous avez gagné avec {} point(s) !", objects[1]);
         }
         else
         {
-            log.info(String.format("Vous avez perdu avec %d point(s) ...", objects[1]));
+            log.info("Vous avez perdu avec {} point(s) ...", objects[1]);
         }
 
         this.availableInventions.clear();
@@ -267,7 +351,7 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
         aiPlayer.setStrategy(strategy);
 
         if(displayLog)
-            log.info(String.format("Initialisation de l'intelligence artificielle '%s' terminée.", this.strategyType.getName()));
+            log.info("Initialisation de l'intelligence artificielle '{}' terminée.", this.strategyType.getName());
     }
 
     /**
@@ -279,6 +363,99 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
         return this.aiPlayer.requestAction();
     }
 
+    /**
+     * Fonction permettant de lire la liste des encodages proposés par le serveur, reçue sous forme de tableau
+     * ou de tableau JSON. Les noms inconnus sont ignorés.
+     * @param payload paramètre du message
+     */
+    static List<ProtocolEncodings> parseEncodings(Object payload)
+    {
+        List<ProtocolEncodings> encodings = new ArrayList<>();
+        String[] names;
+
+        if(payload instanceof Object[])
+            names = Arrays.stream((Object[])payload).map(String::valueOf).toArray(String[]::new);
+        else if(payload instanceof Collection)
+            names = ((Collection<?>)payload).stream().map(String::valueOf).toArray(String[]::new);
+        else
+        {
+            try
+            {
+                names = gsonSerializer.fromJson(String.valueOf(payload), String[].class);
+            }
+            catch (JsonSyntaxException ex)
+            {
+                log.warn("Liste des encodages proposés illisible : {}", payload);
+                return encodings;
+            }
+        }
+
+        if(names == null)
+            return encodings;
+
+        for(String name : names)
+        {
+            for(ProtocolEncodings e : ProtocolEncodings.values())
+            {
+                if(e.name().equals(name) && !encodings.contains(e))
+                    encodings.add(e);
+            }
+        }
+
+        return encodings;
+    }
+
+    /**
+     * Fonction permettant de désérialiser les inventeurs de tous les joueurs, reçus en JSON ou sous forme binaire
+     * @param payload paramètre du message
+     */
+    private HashMap<UUID, List<Inventor>> decodeInventors(Object payload) throws IOException
+    {
+        if(payload instanceof byte[])
+            return BinaryCodec.decodeInventors((byte[])payload);
+
+        return gsonSerializer.fromJson((String)payload, ProtocolJson.INVENTORS_BY_PLAYER_TYPE);
+    }
+
+    /**
+     * Fonction permettant de désérialiser les inventions, reçues en JSON ou sous forme binaire
+     * @param payload paramètre du message
+     */
+    private ArrayList<Invention> decodeInventions(Object payload) throws IOException
+    {
+        if(payload instanceof byte[])
+            return BinaryCodec.decodeInventions((byte[])payload);
+
+        return gsonSerializer.fromJson((String)payload, ProtocolJson.INVENTIONS_TYPE);
+    }
+
+    /**
+     * Fonction permettant de regrouper une action dans un entier (encodage binaire) :
+     * l'inventeur et l'invention sont désignés par leur identifiant dans le catalogue
+     * @param action action à effectuer
+     */
+    public int packAction(String[] action)
+    {
+        return BinaryCodec.packAction(action);
+    }
+
+    /**
+     * Méthode permettant de définir l'encodage souhaité, utilisé à partir de la prochaine inscription si le serveur le propose
+     * @param preferredEncoding encodage souhaité
+     */
+    public void setPreferredEncoding(ProtocolEncodings preferredEncoding)
+    {
+        this.preferredEncoding = preferredEncoding;
+    }
+
+    /**
+     * Retourne l'encodage négocié avec le serveur
+     */
+    public ProtocolEncodings getEncoding()
+    {
+        return this.encoding;
+    }
+
     /**
      * Méthode permettant de "synchroniser" le client
      */
@@ -297,6 +474,113 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
             log.info("Mise à jour des informations de la partie effectuée.");
     }
 
+    /**
+     * Méthode permettant d'appliquer les modifications de la partie depuis la dernière synchronisation.
+     * Si une version a été manquée ou si les modifications ne correspondent pas à l'état connu, l'état complet est demandé au serveur.
+     */
+    public void applyDelta(SynchronizeDelta delta, AIClient aiClient, AIPlayer aiPlayer)
+    {
+        //L'état complet a déjà été demandé, les modifications sont ignorées jusqu'à sa réception
+        if(aiClient.isResyncing)
+            return;
+
+        if(delta.getVersion() != aiClient.syncVersion + 1)
+        {
+            log.warn("Synchronisation manquée (version {} attendue, version {} reçue).",
+                    aiClient.syncVersion + 1, delta.getVersion());
+            aiClient.requestResync();
+            return;
+        }
+
+        try
+        {
+            UUID clientId = UUID.fromString(aiClient.getUUID());
+
+            //mise à jour des inventeurs
+            for(SynchronizeDelta.InventorChange inventorChange : delta.getInventors())
+            {
+                List<Inventor> inventors = inventorChange.getOwner().equals(clientId) ? aiPlayer.getInventors() :
+                        aiClient.otherPlayers.get(inventorChange.getOwner());
+
+                Inventor inventor = inventors.stream()
+                        .filter(entry -> entry.getName().equals(inventorChange.getInventor())).findFirst().get();
+
+                if(inventorChange.isBusy())
+                    inventor.makeBusy();
+                else
+                    inventor.makeAvailable();
+            }
+
+            //mise à jour des inventions
+            for(SynchronizeDelta.InventionChange inventionChange : delta.getInventions())
+            {
+                Invention invention = aiClient.availableInventions.stream()
+                        .filter(entry -> entry.getName().equals(inventionChange.getInvention())).findFirst().get();
+
+                invention.getActualKnowledges().add(inventionChange.getAddedKnowledges());
+
+                for(Map.Entry<UUID, Integer> contribution : inventionChange.getAddedContributions().entrySet())
+                {
+                    invention.addContribution(contribution.getKey(), contribution.getValue());
+                }
+
+                for(int rewardIndex : inventionChange.getTakenRewards())
+                {
+                    invention.takeReward(rewardIndex);
+                }
+            }
+        }
+        catch (NullPointerException | NoSuchElementException | IndexOutOfBoundsException
+                | AlreadyBusyException | AlreadyAvailableException ex)
+        {
+            log.warn("Les modifications reçues ne correspondent pas à l'état connu de la partie.");
+            aiClient.requestResync();
+            return;
+        }
+
+        aiClient.syncVersion = delta.getVersion();
+
+        if(displayLog)
+            log.info("Mise à jour des informations de la partie effectuée.");
+    }
+
+    /**
+     * Méthode permettant de demander l'état complet de la partie au serveur
+     */
+    public void requestResync()
+    {
+        if(!this.isResyncing)
+        {
+            this.isResyncing = true;
+            super.emit(ProtocolMessages.ResyncRequestMessage.name());
+        }
+    }
+
+    /**
+     * Méthode permettant de rester connecté et de demander au serveur une nouvelle partie,
+     * l'état propre à la partie précédente est réinitialisé sur place
+     */
+    public void requestNextGame()
+    {
+        this.availableInventions.clear();
+        this.otherPlayers.clear();
+        if(this.aiPlayer != null)
+            this.aiPlayer.refreshInventors(new ArrayList<>());
+
+        this.syncVersion = 0;
+        this.isResyncing = false;
+
+        super.emit(ProtocolMessages.RequeueMessage.name());
+    }
+
+    /**
+     * Retourne la version de l'état de la partie connue par le client
+     */
+    public long getSyncVersion()
+    {
+        return this.syncVersion;
+    }
+
     /**
      * Retourne une liste des inventions disponibles sur le plateau.
      * @return liste des inventions disponibles sur le plateau.
@@ -309,6 +593,7 @@ public class AIClient extends Client implements InventionProvider, UUIDProvider
     /**
      * Retourne un dictionnaire des inventeurs des autres joueurs de la partie indexé par UUID
      */
+    @Override
     public Map<UUID, List<Inventor>> getOthersPlayersInventors()
     {
         return this.otherPlayers;
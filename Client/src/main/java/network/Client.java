@@ -38,7 +38,7 @@ public class Client
             log.warn("Une erreur est survenue lors de la connexion au serveur.");
         });
         this.socket.on("disconnect", objects -> {
-            log.info(String.format("Déconnecté du serveur (%s).", objects[0].toString()));
+            log.info("Déconnecté du serveur ({}).", objects[0]);
         });
     }
 
@@ -63,6 +63,16 @@ public class Client
             this.socket.disconnect();
     }
 
+    /**
+     * Méthode permettant d'envoyer un événement au serveur
+     * @param eventName nom de l'événement
+     * @param params paramètres
+     */
+    public void emit(String eventName, Object... params)
+    {
+        this.socket.emit(eventName, params);
+    }
+
     /**
      * Méthode permettant d'enregister un listener depuis une classe extérieure
      * @param eventName nom de l'événement
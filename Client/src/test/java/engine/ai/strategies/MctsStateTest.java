@@ -0,0 +1,60 @@
+package engine.ai.strategies;
+
+import engine.core.Knowledges;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test de MctsState.
+ * @author Noé Mourton-Comte
+ */
+public class MctsStateTest
+{
+    /**
+     * Teste si les récompenses d'une invention complétée sont attribuées par ordre de contribution.
+     */
+    @Test
+    public void distributeRewardsByContribution()
+    {
+        int[][] inventors = { { new Knowledges(1, 0, 0, 0).toPacked() }, { new Knowledges(0, 2, 0, 0).toPacked() } };
+        int[] required = { new Knowledges(1, 2, 0, 0).toPacked() };
+
+        MctsState state = new MctsState(inventors, new int[2], required, new int[1], new int[2], new int[][] { { 5, 2 } }, 64);
+        int[] moves = new int[state.getMaxMoves()];
+
+        assertEquals(1, state.getLegalMoves(moves));
+        state.play(moves[0]);
+        assertFalse(state.isTerminal());
+
+        //La place 1 apporte deux cubes, elle choisit la première
+        assertEquals(1, state.getLegalMoves(moves));
+        state.play(moves[0]);
+
+        assertTrue(state.isTerminal());
+        assertEquals(0, state.getResult(0), 0);
+        assertEquals(1, state.getResult(1), 0);
+    }
+
+    /**
+     * Teste si un joueur sans coup possible passe son tour, et si la simulation s'arrête lorsque personne ne peut jouer.
+     */
+    @Test
+    public void passWhenNothingToDo()
+    {
+        int[][] inventors = { { new Knowledges(1, 0, 0, 0).toPacked() } };
+        int[] required = { new Knowledges(0, 1, 0, 0).toPacked() };
+
+        MctsState state = new MctsState(inventors, new int[1], required, new int[1], new int[1], new int[][] { { 1 } }, 64);
+        int[] moves = new int[state.getMaxMoves()];
+
+        assertEquals(1, state.getLegalMoves(moves));
+        assertEquals(MctsState.PASS, moves[0]);
+
+        MctsState copy = new MctsState(state);
+        copy.play(moves[0]);
+
+        assertTrue(copy.isTerminal());
+        assertFalse(state.isTerminal());
+    }
+}
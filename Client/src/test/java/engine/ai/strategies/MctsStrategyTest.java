@@ -0,0 +1,164 @@
+package engine.ai.strategies;
+
+import engine.ai.AIPlayer;
+import engine.core.Invention;
+import engine.core.Inventor;
+import engine.core.Knowledges;
+import engine.core.Team;
+import network.AIClient;
+import network.ProtocolTypes;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Classe de test de MctsStrategy.
+ * @author Noé Mourton-Comte
+ */
+public class MctsStrategyTest
+{
+    private ForkJoinPool searchPool;
+
+    private AIPlayer aiPlayer;
+    private AIClient mockedAIClient;
+
+    private ArrayList<Invention> inventions;
+    private HashMap<UUID, List<Inventor>> opponents;
+
+    private MctsStrategy testMctsStrategy;
+
+    /**
+     * Initialise les variables nécessaires aux tests.
+     */
+    @Before
+    public void initialize()
+    {
+        this.searchPool = new ForkJoinPool(2);
+
+        this.aiPlayer = new AIPlayer();
+        this.mockedAIClient = Mockito.mock(AIClient.class);
+
+        this.inventions = new ArrayList<>();
+        this.opponents = new HashMap<>();
+
+        Mockito.when(this.mockedAIClient.getUUID()).thenReturn(new UUID(0, 1).toString());
+        Mockito.when(this.mockedAIClient.getInventions()).thenReturn(this.inventions);
+        Mockito.when(this.mockedAIClient.getOthersPlayersInventors()).thenReturn(this.opponents);
+
+        this.testMctsStrategy = new MctsStrategy(this.aiPlayer, this.mockedAIClient, this.mockedAIClient, 50, this.searchPool);
+    }
+
+    @After
+    public void shutdown()
+    {
+        this.searchPool.shutdown();
+    }
+
+    /**
+     * Teste si l'IA rend ses inventeurs disponibles lorsqu'ils sont tous occupés.
+     */
+    @Test
+    public void doesForceMakeAvalaible() throws Exception
+    {
+        this.aiPlayer.refreshInventors(Collections.singletonList(new Inventor("Inventeur", new Knowledges(1, 0, 0, 0), Team.Rouge)));
+        this.aiPlayer.getInventor(0).makeBusy();
+        this.inventions.add(new Invention("Invention", new Knowledges(1, 0, 0, 0), 1));
+
+        assertArrayEquals(new String[] { ProtocolTypes.MakeAvailableAction.name() }, this.testMctsStrategy.determinateAction());
+    }
+
+    /**
+     * Teste si l'IA complète une invention qu'un adversaire pourrait compléter au tour suivant.
+     */
+    @Test
+    public void doesCompleteContestedInvention()
+    {
+        this.aiPlayer.refreshInventors(Arrays.asList(
+                new Inventor(0, "Physicien", new Knowledges(1, 0, 0, 0), Team.Rouge),
+                new Inventor(1, "Chimiste", new Knowledges(0, 1, 0, 0), Team.Rouge)));
+        this.opponents.put(new UUID(0, 2), Collections.singletonList(new Inventor("Adversaire", new Knowledges(1, 0, 0, 0), Team.Jaune)));
+
+        this.inventions.add(new Invention(0, "Lente", new Knowledges(0, 3, 0, 0), 1));
+        this.inventions.add(new Invention(1, "Disputée", new Knowledges(1, 0, 0, 0), 3));
+
+        //Le physicien (n°0) doit travailler sur l'invention disputée (n°1)
+        assertArrayEquals(new String[] { ProtocolTypes.WorkAction.name(), "0", "1" },
+                this.testMctsStrategy.determinateAction());
+    }
+
+    /**
+     * Teste si les noeuds de l'arbre sont réutilisés d'un tour à l'autre.
+     */
+    @Test
+    public void doesRecycleNodes()
+    {
+        this.aiPlayer.refreshInventors(Arrays.asList(
+                new Inventor("Inventeur1", new Knowledges(1, 1, 0, 0), Team.Rouge),
+                new Inventor("Inventeur2", new Knowledges(0, 1, 1, 0), Team.Rouge)));
+        this.opponents.put(new UUID(0, 2), Collections.singletonList(new Inventor("Adversaire", new Knowledges(1, 0, 0, 1), Team.Jaune)));
+
+        this.inventions.add(new Invention("Invention1", new Knowledges(3, 2, 0, 0), 1));
+        this.inventions.add(new Invention("Invention2", new Knowledges(0, 2, 3, 1), 2));
+
+        this.testMctsStrategy.determinateAction();
+        int firstTreeSize = this.testMctsStrategy.getTreeSize();
+
+        this.testMctsStrategy.determinateAction();
+        int secondTreeSize = this.testMctsStrategy.getTreeSize();
+
+        assertEquals(Math.max(firstTreeSize, secondTreeSize), this.testMctsStrategy.getCreatedNodes());
+    }
+
+    /**
+     * Teste si l'IA respecte son échéance lorsque le pool de recherche est occupé par d'autres tâches.
+     */
+    @Test
+    public void meetsDeadlineWithBusyPool() throws Exception
+    {
+        this.aiPlayer.refreshInventors(Arrays.asList(
+                new Inventor(0, "Physicien", new Knowledges(1, 0, 0, 0), Team.Rouge),
+                new Inventor(1, "Chimiste", new Knowledges(0, 1, 0, 0), Team.Rouge)));
+
+        this.inventions.add(new Invention(0, "Physique", new Knowledges(2, 0, 0, 0), 1));
+        this.inventions.add(new Invention(1, "Chimie", new Knowledges(0, 2, 0, 0), 1));
+
+        //Tous les fils du pool sont bloqués pendant la recherche
+        CountDownLatch release = new CountDownLatch(1);
+        for(int i = 0; i < this.searchPool.getParallelism(); i++)
+            this.searchPool.execute(() ->
+            {
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+        try
+        {
+            long start = System.nanoTime();
+            String[] action = this.testMctsStrategy.determinateAction();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals(ProtocolTypes.WorkAction.name(), action[0]);
+            assertTrue("Recherche terminée en " + elapsedMillis + " ms", elapsedMillis < 1000);
+        }
+        finally
+        {
+            release.countDown();
+        }
+    }
+}
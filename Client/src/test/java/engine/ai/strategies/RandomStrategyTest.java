@@ -136,8 +136,8 @@ public class RandomStrategyTest
     {
         Invention mockedInventionBad = Mockito.mock(Invention.class);
 
-        Mockito.when(mockedInvention.getName()).thenReturn("good");
-        Mockito.when(mockedInventionBad.getName()).thenReturn("bad");
+        Mockito.when(mockedInvention.getId()).thenReturn(1);
+        Mockito.when(mockedInventionBad.getId()).thenReturn(2);
 
         mockedInventionsList.add(mockedInventionBad);
 
@@ -151,7 +151,7 @@ public class RandomStrategyTest
         Mockito.when(mockedInventor.canWorkOn(mockedInventionBad)).thenReturn(false);
         Mockito.when(mockedRandom.nextInt(mockedAIClient.getInventions().size())).thenReturn(1).thenReturn(0);
 
-        assertEquals(mockedInvention.getName(), testRandomStrategy.determinateAction()[2]);
+        assertEquals(String.valueOf(mockedInvention.getId()), testRandomStrategy.determinateAction()[2]);
     }
 
 
@@ -163,8 +163,8 @@ public class RandomStrategyTest
     {
         Invention mockedInvention2 = Mockito.mock(Invention.class);
 
-        Mockito.when(mockedInvention.getName()).thenReturn("good");
-        Mockito.when(mockedInvention2.getName()).thenReturn("bad");
+        Mockito.when(mockedInvention.getId()).thenReturn(1);
+        Mockito.when(mockedInvention2.getId()).thenReturn(2);
 
         mockedInventionsList.add(mockedInvention2);
 
@@ -191,8 +191,8 @@ public class RandomStrategyTest
 
         mockedInventorsList.add(mockedInventorBad);
 
-        Mockito.when(mockedInventor.getName()).thenReturn("good");
-        Mockito.when(mockedInventorBad.getName()).thenReturn("bad");
+        Mockito.when(mockedInventor.getId()).thenReturn(1);
+        Mockito.when(mockedInventorBad.getId()).thenReturn(2);
 
         Mockito.when(mockedAIPlayer.getInventors()).thenReturn(mockedInventorsList);
         Mockito.when(mockedAIPlayer.getFreeInventors()).thenReturn(mockedInventorsList);
@@ -205,7 +205,7 @@ public class RandomStrategyTest
         Mockito.when(mockedInventorBad.canWorkOn(mockedInvention)).thenReturn(false);
         Mockito.when(mockedRandom.nextInt(mockedAIPlayer.getFreeInventors().size())).thenReturn(1).thenReturn(0);
 
-        assertEquals(mockedInventor.getName(), testRandomStrategy.determinateAction()[1]);
+        assertEquals(String.valueOf(mockedInventor.getId()), testRandomStrategy.determinateAction()[1]);
     }
 
     /**
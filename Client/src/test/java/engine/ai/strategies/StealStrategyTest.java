@@ -122,8 +122,8 @@ public class StealStrategyTest
         Mockito.when(mockedInventor.getGrade(mockedInvention)).thenReturn(2);
         Mockito.when(mockedInvention.getVictoryPoints()).thenReturn(1);
 
-        Mockito.when(mockedInventor.getName()).thenReturn("good");
-        Mockito.when(mockedInventorBad.getName()).thenReturn("bad");
+        Mockito.when(mockedInventor.getId()).thenReturn(1);
+        Mockito.when(mockedInventorBad.getId()).thenReturn(2);
 
         mockedInventionArrayList.add(mockedInvention);
         mockedInventorArrayList.add(mockedInventor);
@@ -131,7 +131,7 @@ public class StealStrategyTest
         Mockito.when(mockedAIPlayer.getFreeInventors()).thenReturn(mockedInventorArrayList);
         Mockito.when(mockedAIClient.getInventions()).thenReturn(mockedInventionArrayList);
 
-        assertEquals(mockedInventor.getName(), testStealStrategy.determinateAction()[1]);
+        assertEquals(String.valueOf(mockedInventor.getId()), testStealStrategy.determinateAction()[1]);
     }
 
     /**
@@ -178,10 +178,10 @@ public class StealStrategyTest
         Mockito.when(mockedInventionContributedNBest.getVictoryPoints()).thenReturn(1);
         Mockito.when(mockedInventionContributedNWorst.getVictoryPoints()).thenReturn(0);
 
-        Mockito.when(mockedInvention.getName()).thenReturn("good");
-        Mockito.when(mockedInventionNotContributedNWorst.getName()).thenReturn("bad1");
-        Mockito.when(mockedInventionContributedNBest.getName()).thenReturn("bad2");
-        Mockito.when(mockedInventionContributedNWorst.getName()).thenReturn("bad3");
+        Mockito.when(mockedInvention.getId()).thenReturn(1);
+        Mockito.when(mockedInventionNotContributedNWorst.getId()).thenReturn(2);
+        Mockito.when(mockedInventionContributedNBest.getId()).thenReturn(3);
+        Mockito.when(mockedInventionContributedNWorst.getId()).thenReturn(4);
 
         HashMap<UUID, Integer> modelHashMap = new HashMap<>();
         HashMap<UUID, Integer> contributedHashMap = Mockito.mock(modelHashMap.getClass());
@@ -205,7 +205,7 @@ public class StealStrategyTest
         Mockito.when(mockedAIPlayer.getFreeInventors()).thenReturn(mockedInventorArrayList);
         Mockito.when(mockedAIClient.getInventions()).thenReturn(mockedInventionArrayList);
 
-        assertEquals(mockedInvention.getName(), testStealStrategy.determinateAction()[2]);
+        assertEquals(String.valueOf(mockedInvention.getId()), testStealStrategy.determinateAction()[2]);
     }
 
     /**
@@ -226,8 +226,8 @@ public class StealStrategyTest
         Mockito.when(mockedInvention.getVictoryPoints()).thenReturn(1);
         Mockito.when(mockedInventionNotContributedNWorst.getVictoryPoints()).thenReturn(0);
 
-        Mockito.when(mockedInvention.getName()).thenReturn("good");
-        Mockito.when(mockedInventionNotContributedNWorst.getName()).thenReturn("bad");
+        Mockito.when(mockedInvention.getId()).thenReturn(1);
+        Mockito.when(mockedInventionNotContributedNWorst.getId()).thenReturn(2);
 
         HashMap<UUID, Integer> contributedHashMap = Mockito.mock(modelHashMap.getClass());
 
@@ -244,6 +244,6 @@ public class StealStrategyTest
         Mockito.when(mockedAIPlayer.getFreeInventors()).thenReturn(mockedInventorArrayList);
         Mockito.when(mockedAIClient.getInventions()).thenReturn(mockedInventionArrayList);
 
-        assertEquals(mockedInvention.getName(), testStealStrategy.determinateAction()[2]);
+        assertEquals(String.valueOf(mockedInvention.getId()), testStealStrategy.determinateAction()[2]);
     }
 }
\ No newline at end of file
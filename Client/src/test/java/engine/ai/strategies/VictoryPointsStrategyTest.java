@@ -114,8 +114,8 @@ public class VictoryPointsStrategyTest
         Mockito.when(mockedInventor.getGrade(mockedInvention)).thenReturn(2);
         Mockito.when(mockedInvention.getVictoryPoints()).thenReturn(1);
 
-        Mockito.when(mockedInventor.getName()).thenReturn("good");
-        Mockito.when(mockedInventorBad.getName()).thenReturn("bad");
+        Mockito.when(mockedInventor.getId()).thenReturn(1);
+        Mockito.when(mockedInventorBad.getId()).thenReturn(2);
 
         mockedInventionArrayList.add(mockedInvention);
         mockedInventorArrayList.add(mockedInventor);
@@ -123,7 +123,7 @@ public class VictoryPointsStrategyTest
         Mockito.when(mockedAIPlayer.getFreeInventors()).thenReturn(mockedInventorArrayList);
         Mockito.when(mockedAIClient.getInventions()).thenReturn(mockedInventionArrayList);
 
-        assertEquals(mockedInventor.getName(), testVictoryPointsStrategy.determinateAction()[1]);
+        assertEquals(String.valueOf(mockedInventor.getId()), testVictoryPointsStrategy.determinateAction()[1]);
     }
 
     /**
@@ -144,8 +144,8 @@ public class VictoryPointsStrategyTest
         Mockito.when(mockedInvention.getVictoryPoints()).thenReturn(1);
         Mockito.when(mockedInventionAvalaibleNWorst.getVictoryPoints()).thenReturn(0);
 
-        Mockito.when(mockedInvention.getName()).thenReturn("good");
-        Mockito.when(mockedInventionAvalaibleNWorst.getName()).thenReturn("bad");
+        Mockito.when(mockedInvention.getId()).thenReturn(1);
+        Mockito.when(mockedInventionAvalaibleNWorst.getId()).thenReturn(2);
 
         mockedInventorArrayList.add(mockedInventor);
 
@@ -155,7 +155,7 @@ public class VictoryPointsStrategyTest
         Mockito.when(mockedAIPlayer.getFreeInventors()).thenReturn(mockedInventorArrayList);
         Mockito.when(mockedAIClient.getInventions()).thenReturn(mockedInventionArrayList);
 
-        assertEquals(mockedInvention.getName(), testVictoryPointsStrategy.determinateAction()[2]);
+        assertEquals(String.valueOf(mockedInvention.getId()), testVictoryPointsStrategy.determinateAction()[2]);
     }
 
     /**
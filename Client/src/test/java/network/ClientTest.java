@@ -109,7 +109,7 @@ public class ClientTest
     {
         when(this.mockedAIClient.playTurn())
                 .thenReturn(new String[] { ProtocolTypes.MakeAvailableAction.name() })
-                .thenReturn(new String[] { ProtocolTypes.WorkAction.name(), "Inventeur", "Invention" });
+                .thenReturn(new String[] { ProtocolTypes.WorkAction.name(), "3", "7" });
 
         //Initilisation d'un ACK mocké...
         Ack mockedAck = mock(Ack.class);
@@ -212,4 +212,137 @@ public class ClientTest
 
         assertEquals(ackCaptor.getValue().intValue(), 1);
     }
+
+    /**
+     * Méthode permettant de tester le comportement de l'écouteur d'un SynchronizeDeltaMessage
+     */
+    @Test
+    public void synchronizeDeltaMessageBehavior() throws Exception
+    {
+        when(this.mockedAIClient.getInventions()).thenCallRealMethod();
+        when(this.mockedAIClient.getSyncVersion()).thenCallRealMethod();
+        doCallRealMethod().when(this.mockedAIClient).applyDelta(any(SynchronizeDelta.class), any(AIClient.class), any(AIPlayer.class));
+
+        UUID playerId = UUID.fromString(this.mockedAIClient.getUUID());
+
+        //Liste d'inventions présente sur "la table"
+        ArrayList<Invention> oneInventionList = new ArrayList<>();
+        Invention invention = new Invention("Invention", new Knowledges(1, 2, 3, 4), 1);
+        invention.pickRewardPawns();
+        oneInventionList.add(invention);
+
+        //Liste d'inventeurs du joueur
+        ArrayList<Inventor> playerInventors = new ArrayList<>();
+        playerInventors.add(new Inventor("Inventeur1", new Knowledges(1, 0, 1, 0), Team.Bleu));
+
+        HashMap<UUID, ArrayList<Inventor>> mergedInventors = new HashMap<>();
+        mergedInventors.put(playerId, playerInventors);
+
+        //Réception d'un "GameStartedMessage" (version 0)...
+        this.legitAIClient.gameStartedMessageListener(this.mockedAIClient, this.legitAIPlayer).call(
+                this.gsonSerializer.toJson(mergedInventors),
+                this.gsonSerializer.toJson(oneInventionList), 0L);
+
+        //Le joueur fait travailler son inventeur sur l'invention puis prend une récompense
+        SynchronizeDelta delta = new SynchronizeDelta();
+        delta.setVersion(1);
+        delta.addInventorChange(playerId, "Inventeur1", true);
+        delta.addKnowledges("Invention", playerId, new Knowledges(1, 0, 1, 0));
+        delta.addTakenReward("Invention", 0);
+
+        this.legitAIClient.synchronizeDeltaMessageListener(this.mockedAIClient, this.legitAIPlayer).call(
+                this.gsonSerializer.toJson(delta));
+
+        Invention syncedInvention = this.mockedAIClient.getInventions().get(0);
+
+        assertEquals(1, this.mockedAIClient.getSyncVersion());
+        assertTrue(this.legitAIPlayer.getInventors().get(0).isBusy());
+        assertTrue(syncedInvention.getActualKnowledges().equals(new Knowledges(1, 0, 1, 0)));
+        assertEquals(2, syncedInvention.getContributions().get(playerId).intValue());
+        assertEquals(Invention.NUMBER_OF_REWARDS_BY_INVENTION - 1, syncedInvention.getRewards().size());
+        verify(this.mockedAIClient, never()).requestResync();
+    }
+
+    /**
+     * Méthode permettant de tester qu'une version manquée déclenche une demande de resynchronisation
+     */
+    @Test
+    public void synchronizeDeltaMessageGap() throws Exception
+    {
+        when(this.mockedAIClient.getSyncVersion()).thenCallRealMethod();
+        doCallRealMethod().when(this.mockedAIClient).applyDelta(any(SynchronizeDelta.class), any(AIClient.class), any(AIPlayer.class));
+
+        HashMap<UUID, ArrayList<Inventor>> mergedInventors = new HashMap<>();
+        mergedInventors.put(UUID.fromString(this.mockedAIClient.getUUID()), new ArrayList<>());
+
+        //Réception d'un "GameStartedMessage" (version 0)...
+        this.legitAIClient.gameStartedMessageListener(this.mockedAIClient, this.legitAIPlayer).call(
+                this.gsonSerializer.toJson(mergedInventors),
+                this.gsonSerializer.toJson(new ArrayList<Invention>()), 0L);
+
+        //La version 1 n'a jamais été reçue
+        SynchronizeDelta delta = new SynchronizeDelta();
+        delta.setVersion(2);
+
+        this.legitAIClient.synchronizeDeltaMessageListener(this.mockedAIClient, this.legitAIPlayer).call(
+                this.gsonSerializer.toJson(delta));
+
+        assertEquals(0, this.mockedAIClient.getSyncVersion());
+        verify(this.mockedAIClient).requestResync();
+    }
+
+    /**
+     * Méthode permettant de tester qu'un client resté connecté réinitialise son état avant de demander une nouvelle partie
+     */
+    @Test
+    public void requestNextGameResetsState()
+    {
+        this.legitAIClient.getInventions().add(new Invention("Invention1", new Knowledges(1, 1, 1, 1), 1));
+        this.legitAIClient.getOthersPlayersInventors().put(UUID.randomUUID(), new ArrayList<>());
+
+        this.legitAIClient.requestNextGame();
+
+        assertTrue(this.legitAIClient.getInventions().isEmpty());
+        assertTrue(this.legitAIClient.getOthersPlayersInventors().isEmpty());
+        assertEquals(0, this.legitAIClient.getSyncVersion());
+    }
+
+    /**
+     * Méthode permettant de tester que l'encodage est négocié par égalité sur la liste des encodages proposés
+     */
+    @Test
+    public void welcomeNegotiatesEncodingByExactMatch()
+    {
+        this.legitAIClient.setPreferredEncoding(ProtocolEncodings.BINARY);
+
+        Ack mockedAck = mock(Ack.class);
+        this.legitAIClient.welcomeMessageListener.call("", new String[] { "JSON", "BINARY" }, mockedAck);
+        assertEquals(ProtocolEncodings.BINARY, this.legitAIClient.getEncoding());
+        verify(mockedAck).call("BINARY");
+
+        this.legitAIClient.welcomeMessageListener.call("", "[\"JSON\",\"BINARY\"]", mock(Ack.class));
+        assertEquals(ProtocolEncodings.BINARY, this.legitAIClient.getEncoding());
+
+        //Un nom contenant celui de l'encodage souhaité ne doit pas être retenu
+        this.legitAIClient.welcomeMessageListener.call("", new String[] { "JSON", "BINARY_V2" }, mock(Ack.class));
+        assertEquals(ProtocolEncodings.JSON, this.legitAIClient.getEncoding());
+
+        this.legitAIClient.welcomeMessageListener.call("", "[\"JSON\",\"BINARY_V2\"]", mock(Ack.class));
+        assertEquals(ProtocolEncodings.JSON, this.legitAIClient.getEncoding());
+    }
+
+    /**
+     * Méthode permettant de tester la lecture de la liste des encodages proposés par le serveur
+     */
+    @Test
+    public void parseOfferedEncodings()
+    {
+        List<ProtocolEncodings> encodings = AIClient.parseEncodings(new String[] { "BINARY", "UNKNOWN", "JSON" });
+        assertEquals(2, encodings.size());
+        assertEquals(ProtocolEncodings.BINARY, encodings.get(0));
+        assertEquals(ProtocolEncodings.JSON, encodings.get(1));
+
+        assertTrue(AIClient.parseEncodings("pas du json [").isEmpty());
+        assertTrue(AIClient.parseEncodings(null).isEmpty());
+    }
 }
@@ -1,18 +1,33 @@
 package console;
 
-import com.corundumstudio.socketio.SocketIOClient;
-import engine.Game;
+import engine.history.GameEventLog;
+import engine.scheduler.GameScheduler;
+import engine.scheduler.ScheduledGame;
+import engine.scheduler.exceptions.GameRejectedException;
+import network.GameClient;
+import network.ProtocolMessages;
 import network.Server;
 import network.ServerListener;
+import logging.AsyncLogStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.UUID;
 
 public class Main
 {
+    static
+    {
+        //Les logs sont écrits par un thread dédié, avant la création du premier logger
+        AsyncLogStream.install();
+    }
+
     private static final Logger log = LoggerFactory.getLogger(Main.class);
 
+    public static final String HISTORY_DIRECTORY_PROPERTY = "inventors.history.dir";
+
     public static void main(String[] args)
     {
         try
@@ -21,30 +36,58 @@ public class Main
             System.out.println("ProjectInventors - Server");
             System.out.println("-------------------------");
 
+            GameScheduler gameScheduler = new GameScheduler();
+
+            //L'historique des parties n'est enregistré que si un dossier est indiqué
+            GameEventLog eventLog = null;
+            String historyDirectory = System.getProperty(HISTORY_DIRECTORY_PROPERTY);
+            if(historyDirectory != null)
+            {
+                eventLog = new GameEventLog(Paths.get(historyDirectory));
+                gameScheduler.setEventLog(eventLog);
+            }
+
             Server inventorsServer = new Server();
+            inventorsServer.setGameScheduler(gameScheduler);
             inventorsServer.addListener(new ServerListener()
             {
                 @Override
-                public void onGameReady(List<SocketIOClient> players)
+                public void onGameReady(List<GameClient> players)
                 {
-                    Game game = new Game(players);
-
                     try
                     {
-                        game.init();
-                        game.play();
+                        gameScheduler.submit(players);
                     }
-                    catch (Exception ex)
+                    catch (GameRejectedException ex)
                     {
-                        log.error(ex.getMessage());
-                        ex.printStackTrace();
+                        log.warn(ex.getMessage());
+
+                        //La partie ne peut pas être jouée, les joueurs en sont informés puis déconnectés
+                        for(GameClient player : players)
+                        {
+                            player.sendEvent(ProtocolMessages.GameDeniedMessage.name(), "");
+                            player.disconnect();
+                        }
                     }
                 }
+
+                @Override
+                public void onResyncRequested(UUID sessionId)
+                {
+                    ScheduledGame scheduledGame = gameScheduler.getGameBySession(sessionId);
+
+                    if(scheduledGame != null)
+                        scheduledGame.getGame().onResyncRequested(sessionId);
+                }
             });
 
             inventorsServer.start();
             Thread.sleep(Integer.MAX_VALUE);
             inventorsServer.stop();
+            gameScheduler.shutdown();
+
+            if(eventLog != null)
+                eventLog.close();
         }
         catch (Exception ex)
         {
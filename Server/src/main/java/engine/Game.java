@@ -1,34 +1,43 @@
 package engine;
 
-import com.corundumstudio.socketio.SocketIOClient;
 import com.github.javafaker.Faker;
-import com.google.gson.Gson;
 import engine.actions.*;
 import engine.comparators.ContributorComparator;
 import engine.core.Invention;
 import engine.core.Inventor;
+import engine.core.Knowledges;
 import engine.core.Player;
 import engine.core.Team;
 import engine.core.rewards.Reward;
 import engine.core.rewards.RewardType;
 import engine.exceptions.*;
+import engine.history.GameEventType;
+import engine.history.GameHistory;
+import engine.managers.InventionDeck;
 import engine.managers.InventionManager;
+import engine.managers.InventorDeck;
 import engine.managers.InventorManager;
 import engine.managers.exceptions.DuplicateInventionException;
 import engine.managers.exceptions.DuplicateInventorException;
 import engine.reflection.Singleton;
+import network.BroadcastEvent;
+import network.GameClient;
+import network.JsonPayload;
 import network.ProtocolMessages;
+import network.SynchronizeDelta;
 import network.callbacks.ActionAckCallback;
 import network.callbacks.RewardAckCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
 
 /**
  * Classe modélisant une partie.
  * La méthode init doit être appelée avant le début de chaque nouvelle partie.
+ * Le déroulement de la partie est piloté par les réponses des clients : aucune méthode n'attend la réponse d'un joueur,
+ * chaque réponse fait avancer la partie jusqu'à la prochaine demande.
  * @author Valentin Sappa, Noé Mourton-Comte, Alexandre Ciarafoni, Barry Hezam
  */
 public class Game
@@ -37,33 +46,143 @@ public class Game
 
     private static final int CARDS_PER_PLAYER = 4;
     public static final int REQUIRED_PLAYERS = 2;
+    public static final int DEFAULT_MAX_TURNS = 1000;
+
+    //Le générateur de noms est coûteux à créer, il est partagé par toutes les parties
+    private static final Faker faker = new Faker(new Locale("fr"));
 
     private boolean isStarted;
-    private HashMap<SocketIOClient, Player> players;
+    private HashMap<GameClient, Player> players;
+    //Joueurs rangés par place à la table (voir Player.getSeat), une place libérée par une expulsion vaut null
+    private GameClient[] clientsBySeat;
+    private Player[] playersBySeat;
+    private LegalMoves[] legalMovesBySeat;
+    //Anneau des places occupées, dans l'ordre du jeu : une place libérée est retirée de l'anneau
+    private int[] nextSeats;
+    private int[] previousSeats;
+    //Place du joueur détenant la statuette Léonard de Vinci, qui joue le tour courant
+    private int currentSeat;
     private ArrayList<Team> takenTeams;
 
+    private InventorDeck inventorDeck;
+    private InventionDeck inventionDeck;
+
     private ArrayList<Invention> inventionsList;
     private int currentEra;
+    //Nombre d'inventions de l'époque courante complétées, tenu à jour à chaque action
+    private int completedInventionsCount;
+
+    //Tables indexées par identifiant du catalogue, permettant de retrouver directement l'objet désigné par une action
+    private Inventor[] inventorsById;
+    private Player[] inventorsOwners;
+    private Invention[] inventionsById;
 
-    private Gson gsonSerializer = new Gson();
-    private Faker faker = new Faker(new Locale("fr"));
     private Object locker;
+    private Random random;
+    private GameHistory history;
+
+    private Executor executor;
+    private ArrayList<GameListener> listeners;
+
+    //Pilotage de la partie
+    private ArrayDeque<Runnable> pendingSteps;
+    private boolean isDriving;
+    private int turn;
+    private int maxTurns;
+
+    //État du tour courant
+    private TurnState state;
+    private GameClient currentClient;
+    private Player currentPlayer;
+    private ActionAckCallback pendingActionCallback;
+    private WorkAction pendingWorkAction;
+    private ArrayDeque<Map.Entry<GameClient, Player>> pendingContributors;
+    private Map.Entry<GameClient, Player> currentContributor;
+    private RewardAckCallback pendingRewardCallback;
+
+    //Synchronisation des clients
+    private SynchronizeDelta pendingDelta;
+    private long syncVersion;
+    private boolean isSnapshotRequired;
+
+    //Version de la "table", modifiée à chaque changement des inventions : les actions autorisées sont alors recalculées
+    private long tableVersion;
 
     //region Initialisation de la partie
 
-    public Game(List<SocketIOClient> clients)
+    public Game(List<GameClient> clients)
+    {
+        this(clients, Runnable::run);
+    }
+
+    /**
+     * Constructeur d'une partie
+     * @param clients clients participant à la partie
+     * @param executor exécuteur sur lequel sont traitées les réponses des clients
+     */
+    public Game(List<GameClient> clients, Executor executor)
+    {
+        this(clients, executor, DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Constructeur d'une partie
+     * @param clients clients participant à la partie
+     * @param executor exécuteur sur lequel sont traitées les réponses des clients
+     * @param maxTurns nombre maximum de tours, au-delà duquel la partie est terminée
+     */
+    public Game(List<GameClient> clients, Executor executor, int maxTurns)
+    {
+        this(clients, executor, maxTurns, new Random());
+    }
+
+    /**
+     * Constructeur d'une partie
+     * @param clients clients participant à la partie
+     * @param executor exécuteur sur lequel sont traitées les réponses des clients
+     * @param maxTurns nombre maximum de tours, au-delà duquel la partie est terminée
+     * @param random générateur utilisé pour mélanger les paquets (une graine fixe permet de rejouer la même donne)
+     */
+    public Game(List<GameClient> clients, Executor executor, int maxTurns, Random random)
     {
         this.locker = new Object();
+        this.random = random;
+        this.history = GameHistory.DISABLED;
+        this.executor = executor;
+        this.listeners = new ArrayList<>();
+        this.state = TurnState.IDLE;
+
+        this.pendingSteps = new ArrayDeque<>();
+        this.isDriving = false;
+        this.turn = 0;
+        this.maxTurns = maxTurns;
 
         this.players = new HashMap<>();
         this.takenTeams = new ArrayList<>();
-
-        for(SocketIOClient client : clients)
+        this.clientsBySeat = new GameClient[clients.size()];
+        this.playersBySeat = new Player[clients.size()];
+        this.legalMovesBySeat = new LegalMoves[clients.size()];
+        this.nextSeats = new int[clients.size()];
+        this.previousSeats = new int[clients.size()];
+        this.currentSeat = Player.NO_SEAT;
+
+        for(int seat = 0; seat < clients.size(); seat++)
         {
-            this.players.put(client, new Player(faker.name().firstName(), client.getSessionId()));
+            GameClient client = clients.get(seat);
+            Player player = new Player(faker.name().firstName(), client.getSessionId(), seat);
+
+            this.players.put(client, player);
+            this.clientsBySeat[seat] = client;
+            this.playersBySeat[seat] = player;
+            this.nextSeats[seat] = (seat + 1) % clients.size();
+            this.previousSeats[seat] = (seat + clients.size() - 1) % clients.size();
         }
 
         this.inventionsList = new ArrayList<>();
+
+        this.pendingDelta = new SynchronizeDelta();
+        this.syncVersion = 0;
+        this.isSnapshotRequired = false;
     }
 
     public void init() throws DuplicateInventorException, DuplicateInventionException
@@ -72,14 +191,22 @@ public class Game
 
         this.isStarted = true;
 
-        //Initialisation des Inventions et des Inventeurs
-        Singleton.getInstance(InventorManager.class).load();
-        Singleton.getInstance(InventionManager.class).load();
+        //Initialisation des paquets d'Inventions et d'Inventeurs propres à cette partie
+        this.inventorDeck = Singleton.getInstance(InventorManager.class).createDeck();
+        this.inventionDeck = Singleton.getInstance(InventionManager.class).createDeck(this.random);
+
+        this.inventorsById = new Inventor[this.inventorDeck.getCatalogSize()];
+        this.inventorsOwners = new Player[this.inventorDeck.getCatalogSize()];
+        this.inventionsById = new Invention[this.inventionDeck.getCatalogSize()];
 
         //Tirage de quatre cartes par joueurs...
-        for (Map.Entry<SocketIOClient, Player> playerEntry : this.getPlayers().entrySet())
+        for (Map.Entry<GameClient, Player> playerEntry : this.getPlayers().entrySet())
         {
             Player player = playerEntry.getValue();
+            UUID uuid = player.getUUID();
+            this.history.record(this.turn, GameEventType.PLAYER_SEATED, player.getSeat(),
+                    (int) (uuid.getMostSignificantBits() >>> 32), (int) uuid.getMostSignificantBits(),
+                    (int) (uuid.getLeastSignificantBits() >>> 32), (int) uuid.getLeastSignificantBits());
 
             //Récupération d'une équipe pour le joueur
             Team playerTeam = this.getTeamForPlayer();
@@ -89,9 +216,10 @@ public class Game
         }
 
         //Le trophé est donné au premier joueur
-        if(this.getPlayers().values().size() > 0)
+        if(this.playersBySeat.length > 0)
         {
-            ((Player) this.getPlayers().values().toArray()[0]).giveTrophy();
+            this.currentSeat = 0;
+            this.playersBySeat[this.currentSeat].giveTrophy();
         }
 
         //Ajout d'inventions sur la "table" pour l'époque 1
@@ -102,8 +230,9 @@ public class Game
 
         //Envoi d'un "GameStartedMessage" pour initializer le début de la partie chez les clients...
         this.broadcastEvent(ProtocolMessages.GameStartedMessage.name(),
-                this.gsonSerializer.toJson(this.getMergedInventors()),
-                this.gsonSerializer.toJson(this.getInventionsList()));
+                new JsonPayload(this.getMergedInventors()),
+                new JsonPayload(this.getInventionsList()),
+                this.syncVersion);
     }
 
     /**
@@ -112,12 +241,20 @@ public class Game
     private void pickInventionsForEra()
     {
         this.inventionsList.clear();
+        this.completedInventionsCount = 0;
+        this.tableVersion++;
+
+        //Les inventions de l'époque précédente ne peuvent plus être la cible d'une action
+        Arrays.fill(this.inventionsById, null);
+        this.history.record(this.turn, GameEventType.ERA_STARTED, this.getCurrentEra());
 
         for(int i = 0; i < this.REQUIRED_PLAYERS + 3; i++)
         {
-            Invention invention = Singleton.getInstance(InventionManager.class).pickInvention(this.getCurrentEra());
+            Invention invention = this.inventionDeck.pickInvention(this.getCurrentEra());
             invention.pickRewardPawns();
             this.inventionsList.add(invention);
+            this.inventionsById[invention.getId()] = invention;
+            this.history.record(this.turn, GameEventType.INVENTION_DEALT, invention.getId());
         }
     }
 
@@ -127,8 +264,15 @@ public class Game
      */
     private void pickInventorsForPlayer(Player player, Team team)
     {
-        List<Inventor> inventors = Singleton.getInstance(InventorManager.class).pickInventor(team);
+        List<Inventor> inventors = this.inventorDeck.pickInventor(team);
         player.addAllInventors(inventors);
+
+        for(Inventor inventor : inventors)
+        {
+            this.inventorsById[inventor.getId()] = inventor;
+            this.inventorsOwners[inventor.getId()] = player;
+            this.history.record(this.turn, GameEventType.INVENTOR_DEALT, player.getSeat(), inventor.getId());
+        }
     }
 
     //endregion
@@ -136,236 +280,551 @@ public class Game
     //region Déroulement de la partie
 
     /**
-     * Méthode permettant de jouer le prochain tour
+     * Méthode permettant de lancer le premier tour de la partie, les tours suivants sont enchaînés par la boucle de pilotage
      * @throws CurrentPlayerNotFoundException
      */
     public void play() throws CurrentPlayerNotFoundException, CantDeterminateWinnerException
     {
-        log.info("Exécution du prochain tour...");
+        if(!this.hasCurrentPlayer())
+            throw new CurrentPlayerNotFoundException("Impossible de déterminer le joueur qui doit jouer ce tour !");
 
-        Optional<Map.Entry<SocketIOClient, Player>> currentPlayerResult = this.getPlayers().entrySet().stream()
-                .filter(entry -> entry.getValue().hasLeonardoDaVinciTrophy()).findFirst();
+        this.drive(this::startTurn);
+    }
 
-        if(currentPlayerResult.isPresent())
+    /**
+     * Méthode permettant d'exécuter une étape de la partie.
+     * Les étapes sont exécutées les unes après les autres par une boucle : une étape déclenchée pendant l'exécution
+     * d'une autre (par exemple lorsqu'un client répond immédiatement) est mise en attente au lieu d'être exécutée
+     * récursivement, la pile d'appels reste donc constante quelle que soit la durée de la partie.
+     * @param step étape à exécuter
+     */
+    private void drive(Runnable step)
+    {
+        synchronized (this.locker)
         {
-            Map.Entry<SocketIOClient, Player> currentPlayerEntry = currentPlayerResult.get();
+            this.pendingSteps.add(step);
 
-            //Récupération du client associé au joueur
-            SocketIOClient currentClient = currentPlayerEntry.getKey();
-            //Récupération du joueur
-            Player currentPlayer = currentPlayerEntry.getValue();
+            //Une boucle est déjà en cours sur ce thread, elle exécutera l'étape
+            if(this.isDriving)
+                return;
 
-            //Nous demandons au joueur l'action qu'il souhaite effectuer, puis nous l'exécutons...
-            this.requestAndExecuteAction(currentClient, currentPlayer);
+            this.isDriving = true;
 
-            //Nous vérifions si la partie est terminée ou non
-            if(this.isFinished())
-            {
-                this.terminate();
-            }
-            else
+            try
             {
-                //Suppression du trophée au joueur qui vient de jouer ce tour
-                currentPlayerEntry.getValue().removeTrophy();
-
-                //Le trophée est maintenant donné au joueur qui jouera le prochain tour
-                Map.Entry<SocketIOClient, Player> nextPlayerEntry = null;
-
-                Iterator<Map.Entry<SocketIOClient, Player>> i = this.getPlayers().entrySet().iterator();
-                while (i.hasNext() && nextPlayerEntry == null)
+                Runnable nextStep;
+                while ((nextStep = this.pendingSteps.poll()) != null)
                 {
-                    Map.Entry<SocketIOClient, Player> entry = i.next();
-                    if(entry == currentPlayerEntry && i.hasNext())
-                        nextPlayerEntry = i.next();
+                    nextStep.run();
                 }
+            }
+            catch (RuntimeException ex)
+            {
+                //Les étapes s'exécutent sur les fils de l'exécuteur : une erreur non traitée bloquerait la partie
+                this.abort(ex);
+            }
+            finally
+            {
+                this.isDriving = false;
+            }
+        }
+    }
 
-                //Si il n'y a plus d'entrée supérieure, nous revenons à la première
-                if(nextPlayerEntry == null)
-                    nextPlayerEntry = this.getPlayers().entrySet().iterator().next();
+    /**
+     * Méthode permettant de débuter un tour : l'action est demandée au joueur courant, sa réponse fera avancer la partie
+     */
+    private void startTurn()
+    {
+        if(this.hasCurrentPlayer())
+        {
+            this.turn++;
+            log.info("Exécution du tour n°{}...", this.turn);
 
-                nextPlayerEntry.getValue().giveTrophy();
+            //Récupération du client associé au joueur
+            this.currentClient = this.clientsBySeat[this.currentSeat];
+            //Récupération du joueur
+            this.currentPlayer = this.playersBySeat[this.currentSeat];
 
-                //Si la partie n'est pas terminée, le tour suivant est joué.
-                this.play();
-            }
+            //Nous demandons au joueur l'action qu'il souhaite effectuer, sa réponse sera traitée par "onActionReceived"
+            this.state = TurnState.AWAITING_ACTION;
+            this.pendingActionCallback = new ActionAckCallback(this, this.currentPlayer);
+            this.requestAction(this.currentClient, this.pendingActionCallback);
         }
         else
         {
-            throw new CurrentPlayerNotFoundException("Impossible de déterminer le joueur qui doit jouer ce tour !");
+            log.error("Impossible de déterminer le joueur qui doit jouer ce tour !");
+            this.terminate();
         }
     }
 
-    public void requestAndExecuteAction(SocketIOClient currentClient, Player currentPlayer)
+    /**
+     * Méthode appelée lorsqu'un client a répondu (ou n'a pas répondu à temps) à une demande d'action
+     * @param actionAckCallback callback de la demande
+     */
+    public void onActionReceived(ActionAckCallback actionAckCallback)
     {
+        this.executor.execute(() -> this.drive(() -> this.executeAction(actionAckCallback)));
+    }
+
+    /**
+     * Méthode appelée lorsqu'un client a répondu (ou n'a pas répondu à temps) à une demande de récompense
+     * @param rewardAckCallback callback de la demande
+     */
+    public void onRewardReceived(RewardAckCallback rewardAckCallback)
+    {
+        this.executor.execute(() -> this.drive(() -> this.addReward(rewardAckCallback)));
+    }
+
+    /**
+     * Méthode permettant d'exécuter l'action communiquée par le joueur courant
+     * @param actionAckCallback callback de la demande d'action
+     */
+    private void executeAction(ActionAckCallback actionAckCallback)
+    {
+        //Les réponses tardives ou inattendues sont ignorées
+        if(this.state != TurnState.AWAITING_ACTION || actionAckCallback != this.pendingActionCallback)
+            return;
+
+        this.pendingActionCallback = null;
+
+        GameClient currentClient = this.currentClient;
+        Player currentPlayer = this.currentPlayer;
+        Action playerAction = actionAckCallback.getAction();
+
+        //Une réponse absente ou invalide (action nulle) entraîne l'exclusion du joueur
+        if(playerAction == null)
+        {
+            log.error("Le joueur {} ne répond plus : aucune action valide n'a été communiquée.", currentPlayer.getName());
+            this.kick(currentClient);
+            this.endTurn();
+            return;
+        }
+
+        //Une action interdite est refusée par un simple test d'appartenance, sans construire d'exception
+        ActionResult actionResult = this.getLegalMoves(currentPlayer).check(playerAction);
+        if(actionResult != ActionResult.LEGAL)
+        {
+            log.error("Le joueur {} a essayé d'effectuer une action impossible ! ({})",
+                    currentPlayer.getName(), actionResult);
+            this.kick(currentClient);
+            this.endTurn();
+            return;
+        }
+
         try
         {
-            //Récupération puis exécution de l'action du joueur...
-            ActionAckCallback actionAckCallback = new ActionAckCallback(this.locker, this, currentPlayer);
-            Action playerAction = this.requestAction(currentClient, actionAckCallback, true);
+            this.executeAndRecord(playerAction);
 
-            if(playerAction != null)
-            {
-                playerAction.execute();
+            //La description de l'action est envoyée aux clients : elle n'est construite qu'une seule fois
+            String playerActionDescription = playerAction.toString();
+            log.info("Le joueur {} a effectué l'action : {}", currentPlayer.getName(), playerActionDescription);
 
-                String playerActionLogMessage = String.format("Le joueur %s a effectué l'action : %s",
-                        currentPlayer.getName(), playerAction.toString());
-                log.info(playerActionLogMessage);
+            //Envoi d'un message pour afficher l'action chez tous les clients sauf celui a effectué l'action
+            ArrayList<UUID> toExclude = new ArrayList<>();
+            toExclude.add(currentClient.getSessionId());
 
-                //Envoi d'un message pour afficher l'action chez tous les clients sauf celui a effectué l'action
-                ArrayList<UUID> toExclude = new ArrayList<>();
-                toExclude.add(currentClient.getSessionId());
+            this.broadcastEvent(toExclude, ProtocolMessages.LogMessage.name(),
+                    "Le joueur " + currentPlayer.getName() + " a effectué l'action : " + playerActionDescription);
 
-                this.broadcastEvent(toExclude,
-                        ProtocolMessages.LogMessage.name(), playerActionLogMessage);
+            //Envoi d'un message pour afficher l'action chez le joueur qui a effecuté l'action
+            currentClient.sendEvent(ProtocolMessages.LogMessage.name(),
+                    "Vous avez effectué l'action : " + playerActionDescription);
+        }
+        catch (Exception ex)
+        {
+            log.error("Le joueur {} a essayé d'effectuer une action impossible !", currentPlayer.getName());
+            log.error("Détails concernant l'action : {}", ex.getMessage());
+            this.kick(currentClient);
+            this.endTurn();
+            return;
+        }
+
+        //Nous vérifions si la dernière action a terminée une invention
+        if (playerAction instanceof WorkAction && ((WorkAction)playerAction).getTargetedInvention().isCompleted())
+        {
+            //Les récompenses sont demandées aux contributeurs, le tour reprendra après le dernier choix
+            this.requestRewards(currentPlayer, (WorkAction)playerAction);
+        }
+        else
+        {
+            this.completeAction(playerAction);
+        }
+    }
+
+    /**
+     * Fonction permettant de récupérer les actions autorisées pour un joueur sur les inventions de l'époque courante.
+     * L'ensemble de chaque place est conservé et n'est recalculé que si la "table" ou les inventeurs du joueur ont changé.
+     * @param player joueur
+     */
+    public LegalMoves getLegalMoves(Player player)
+    {
+        int seat = player.getSeat();
 
-                //Envoi d'un message pour afficher l'action chez le joueur qui a effecuté l'action
-                currentClient.sendEvent(ProtocolMessages.LogMessage.name(),
-                        String.format("Vous avez effectué l'action : %s", playerAction.toString()));
+        if(seat < 0 || seat >= this.playersBySeat.length || this.playersBySeat[seat] != player)
+            return new LegalMoves(player, this.inventionsList, this.inventionsById.length);
 
-                if (playerAction instanceof WorkAction)
-                {
-                    WorkAction workAction = (WorkAction)playerAction;
-                    Invention targetedInvention = workAction.getTargetedInvention();
-
-                    //Nous vérifions si la dernière action a terminée une invention
-                    if(targetedInvention.isCompleted())
-                    {
-                        this.requestAndAddRewards(currentPlayer, workAction);
-                    }
-
-                    //Nous vérifions si l'époque est terminée...
-                    if (this.eraCompleted() && this.currentEra < 3)
-                    {
-                        //Ajout d'inventions sur la "table" pour l'époque suivante
-                        this.currentEra++;
-                        this.pickInventionsForEra();
-                        log.info(String.format("L'époque %d a débuté !", this.currentEra));
-                    }
-                }
+        if(this.legalMovesBySeat[seat] == null)
+        {
+            this.legalMovesBySeat[seat] = new LegalMoves(player, this.inventionsList, this.inventionsById.length, this.tableVersion);
+            return this.legalMovesBySeat[seat];
+        }
+
+        return this.legalMovesBySeat[seat].refresh(this.inventionsList, this.tableVersion);
+    }
+
+    /**
+     * Méthode permettant d'exécuter une action en enregistrant ses modifications pour la prochaine synchronisation
+     * @param playerAction action à exécuter
+     */
+    private void executeAndRecord(Action playerAction) throws Exception
+    {
+        if (playerAction instanceof WorkAction)
+        {
+            WorkAction workAction = (WorkAction) playerAction;
+            Knowledges actualKnowledges = workAction.getTargetedInvention().getActualKnowledges();
+            Knowledges previousKnowledges = new Knowledges(actualKnowledges);
+            boolean wasCompleted = workAction.getTargetedInvention().isCompleted();
+
+            workAction.execute();
+            this.tableVersion++;
+
+            if (!wasCompleted && workAction.getTargetedInvention().isCompleted())
+                this.completedInventionsCount++;
+
+            Knowledges addedKnowledges = actualKnowledges.remaining(previousKnowledges);
+            int seat = workAction.getOwner().getSeat();
+            this.history.record(this.turn, GameEventType.WORK, seat,
+                    workAction.getWorkingInventor().getId(), workAction.getTargetedInvention().getId());
+            this.history.record(this.turn, GameEventType.CUBES, workAction.getTargetedInvention().getId(), seat,
+                    addedKnowledges.toPacked());
+
+            this.pendingDelta.addKnowledges(workAction.getTargetedInvention().getName(), workAction.getOwner().getUUID(),
+                    addedKnowledges);
+            this.pendingDelta.addInventorChange(workAction.getOwner().getUUID(), workAction.getWorkingInventor().getName(), true);
+        }
+        else if (playerAction instanceof MakeAvailableAction)
+        {
+            Player owner = playerAction.getOwner();
+            int busyInventors = owner.getBusyMask();
 
-                //Envoi d'un message pour la synchronisation des joueurs...
-                this.broadcastEvent(ProtocolMessages.SynchronizeMessage.name(),
-                        this.gsonSerializer.toJson(this.getMergedInventors()),
-                        this.gsonSerializer.toJson(this.getInventionsList()));
+            playerAction.execute();
+            this.history.record(this.turn, GameEventType.MAKE_AVAILABLE, owner.getSeat());
+
+            for (; busyInventors != 0; busyInventors &= busyInventors - 1)
+            {
+                Inventor inventor = owner.getInventor(Integer.numberOfTrailingZeros(busyInventors));
+                this.pendingDelta.addInventorChange(owner.getUUID(), inventor.getName(), false);
             }
-            else
+        }
+        else
+        {
+            //Les modifications d'une action inconnue ne peuvent pas être décrites, l'état complet sera envoyé
+            playerAction.execute();
+            this.isSnapshotRequired = true;
+            this.tableVersion++;
+
+            this.completedInventionsCount = (int) this.getInventionsList().stream().filter(Invention::isCompleted).count();
+        }
+    }
+
+    /**
+     * Méthode permettant de terminer une action : changement d'époque éventuel puis synchronisation des joueurs
+     * @param playerAction action exécutée
+     */
+    private void completeAction(Action playerAction)
+    {
+        if (playerAction instanceof WorkAction)
+        {
+            //Nous vérifions si l'époque est terminée...
+            if (this.eraCompleted() && this.currentEra < 3)
             {
-                throw new PlayerNotRespondingException("aucune action n'a été communiquée.");
+                //Ajout d'inventions sur la "table" pour l'époque suivante
+                this.currentEra++;
+                this.pickInventionsForEra();
+                log.info("L'époque {} a débuté !", this.currentEra);
+
+                //Les inventions ont toutes changé, l'état complet est envoyé
+                this.isSnapshotRequired = true;
             }
         }
-        catch (PlayerNotRespondingException ex)
+
+        //Envoi d'un message pour la synchronisation des joueurs...
+        this.synchronize();
+
+        this.endTurn();
+    }
+
+    /**
+     * Méthode permettant de synchroniser les joueurs : seules les modifications depuis la synchronisation précédente
+     * sont envoyées, sauf si l'état complet est nécessaire (changement d'époque, joueur expulsé...)
+     */
+    private void synchronize()
+    {
+        if(this.isSnapshotRequired)
         {
-            log.error(String.format("Le joueur %s ne répond plus : %s", currentPlayer.getName(), ex.getMessage()));
-            this.kick(currentClient);
+            this.syncVersion++;
+            this.broadcastEvent(ProtocolMessages.SynchronizeMessage.name(),
+                    new JsonPayload(this.getMergedInventors()),
+                    new JsonPayload(this.getInventionsList()),
+                    this.syncVersion);
+
+            this.isSnapshotRequired = false;
         }
-        catch (Exception ex)
+        else if(!this.pendingDelta.isEmpty())
         {
-            log.error(String.format("Le joueur %s a essayé d'effectuer une action impossible !",
-                    currentPlayer.getName()));
-            log.error(String.format("Détails concernant l'action : %s", ex.getMessage()));
-            this.kick(currentClient);
+            this.syncVersion++;
+            this.pendingDelta.setVersion(this.syncVersion);
+            this.broadcastEvent(ProtocolMessages.SynchronizeDeltaMessage.name(), new JsonPayload(this.pendingDelta));
         }
+
+        this.pendingDelta = new SynchronizeDelta();
     }
 
     /**
-     * Fonction permettant d'intérroger le joueur sur l'action qu'il souhaite effectuer
+     * Méthode appelée lorsqu'un client a manqué une synchronisation et demande l'état complet de la partie
+     * @param sessionId identifiant de session du client
      */
-    public Action requestAction(SocketIOClient playerClient, ActionAckCallback actionAckCallback, boolean wait) throws InterruptedException
+    public void onResyncRequested(UUID sessionId)
     {
-        synchronized (this.locker)
+        this.executor.execute(() -> this.drive(() -> this.resync(sessionId)));
+    }
+
+    /**
+     * Méthode permettant d'envoyer l'état complet de la partie à un client
+     * @param sessionId identifiant de session du client
+     */
+    private void resync(UUID sessionId)
+    {
+        Optional<GameClient> client = this.getPlayers().keySet().stream()
+                .filter(entry -> entry.getSessionId().equals(sessionId)).findFirst();
+
+        if(!client.isPresent() || this.state == TurnState.FINISHED)
+            return;
+
+        if(!this.pendingDelta.isEmpty())
+        {
+            //Des modifications sont en attente (distribution des récompenses en cours), l'état envoyé ne correspondrait
+            //à aucune version : l'état complet sera envoyé à tous les joueurs lors de la prochaine synchronisation
+            this.isSnapshotRequired = true;
+            return;
+        }
+
+        log.info("Envoi de l'état complet de la partie au client {}.", sessionId);
+
+        client.get().sendEvent(ProtocolMessages.SynchronizeMessage.name(),
+                new JsonPayload(this.getMergedInventors()),
+                new JsonPayload(this.getInventionsList()),
+                this.syncVersion);
+    }
+
+    /**
+     * Méthode permettant de terminer le tour courant, puis de passer au tour suivant ou de terminer la partie
+     */
+    private void endTurn()
+    {
+        //Nous vérifions si la partie est terminée ou non
+        if(this.isFinished())
+        {
+            this.terminate();
+        }
+        else if(this.turn >= this.maxTurns)
+        {
+            //La partie n'avance plus (les joueurs ne font que libérer leurs inventeurs par exemple), elle est arrêtée
+            log.warn("La partie a atteint la limite de {} tour(s), elle est terminée.", this.maxTurns);
+            this.terminate();
+        }
+        else
         {
-            playerClient.sendEvent(ProtocolMessages.TurnStartedMessage.name(), actionAckCallback);
-            if(wait)
-                this.locker.wait();
+            //Suppression du trophée au joueur qui vient de jouer ce tour
+            this.currentPlayer.removeTrophy();
+
+            //Le trophée est maintenant donné au joueur assis à la place suivante
+            this.currentSeat = this.getNextSeat(this.currentSeat);
+            this.playersBySeat[this.currentSeat].giveTrophy();
 
-            return actionAckCallback.getAction();
+            //Si la partie n'est pas terminée, le tour suivant est joué par la boucle de pilotage
+            this.drive(this::startTurn);
         }
     }
 
-    public void requestAndAddRewards(Player currentPlayer, WorkAction workAction) throws InterruptedException, PlayerNotRespondingException
+    /**
+     * Fonction permettant de savoir si un joueur détient la statuette Léonard de Vinci et peut jouer le tour courant
+     */
+    private boolean hasCurrentPlayer()
+    {
+        return this.playersBySeat != null && this.currentSeat >= 0 && this.currentSeat < this.playersBySeat.length
+                && this.playersBySeat[this.currentSeat] != null;
+    }
+
+    /**
+     * Fonction permettant de connaître la place du joueur qui jouera après celui assis à une place donnée
+     * @param seat place du joueur courant (éventuellement libérée par une expulsion)
+     * @return place occupée suivante
+     */
+    private int getNextSeat(int seat)
+    {
+        int nextSeat = this.nextSeats[seat];
+
+        //Une place libérée pendant le tour n'est plus dans l'anneau, mais ses liens peuvent désigner une autre place libérée
+        while(this.playersBySeat[nextSeat] == null && nextSeat != seat)
+            nextSeat = this.nextSeats[nextSeat];
+
+        return nextSeat;
+    }
+
+    /**
+     * Méthode permettant d'envoyer une demande d'action au joueur
+     */
+    public void requestAction(GameClient playerClient, ActionAckCallback actionAckCallback)
+    {
+        playerClient.sendEvent(ProtocolMessages.TurnStartedMessage.name(), actionAckCallback);
+    }
+
+    /**
+     * Méthode permettant de préparer la distribution des récompenses d'une invention complétée
+     * @param currentPlayer joueur ayant complété l'invention
+     * @param workAction action ayant complété l'invention
+     */
+    private void requestRewards(Player currentPlayer, WorkAction workAction)
     {
         Invention targetedInvention = workAction.getTargetedInvention();
 
         //Nous demandons à chaque joueur ayant participé à la complétion
         // de l'invention la récompense qu'il souhaite choisir...
-        Map<SocketIOClient, Player> contributors = this.getPlayers().entrySet().stream()
-                .filter(entry -> targetedInvention.getContributions().get(entry.getValue().getUUID()) != null)
-                .sorted(new ContributorComparator(currentPlayer, targetedInvention))
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (a, b) -> a, LinkedHashMap::new));
+        this.pendingWorkAction = workAction;
 
-        List<Reward> availableRewards = workAction.getTargetedInvention().getRewards();
+        ContributorComparator contributorComparator = new ContributorComparator(currentPlayer, targetedInvention);
+        ArrayList<Map.Entry<GameClient, Player>> contributors = new ArrayList<>(this.playersBySeat.length);
 
-        for(Map.Entry<SocketIOClient, Player> contributor : contributors.entrySet())
+        for(int seat = 0; seat < this.playersBySeat.length; seat++)
         {
-            try
+            Player player = this.playersBySeat[seat];
+
+            if(player != null && targetedInvention.getContribution(player) > 0)
             {
-                log.info(String.format("%s doit choisir une récompense pour sa contribution de %d cube(s) à l'invention '%s'...",
-                        contributor.getValue().getName(),
-                        targetedInvention.getContributions().get(contributor.getValue().getUUID()),
-                        targetedInvention.getName()));
+                //Tri par insertion : il y a au plus un contributeur par place
+                Map.Entry<GameClient, Player> contributor = new AbstractMap.SimpleImmutableEntry<>(this.clientsBySeat[seat], player);
+                int position = contributors.size();
+
+                while(position > 0 && contributorComparator.compare(contributors.get(position - 1), contributor) > 0)
+                    position--;
+
+                contributors.add(position, contributor);
+            }
+        }
 
-                RewardAckCallback rewardAckCallback = new RewardAckCallback(this.locker,
-                        availableRewards);
+        this.pendingContributors = new ArrayDeque<>(contributors);
 
-                Reward selectedReward = this.requestReward(contributor.getKey(), rewardAckCallback,
-                        workAction.getTargetedInvention().getRewards(), true);
+        this.requestNextReward();
+    }
 
-                if (selectedReward != null)
-                {
-                    contributor.getValue().addReward(selectedReward);
+    /**
+     * Méthode permettant de demander sa récompense au prochain contributeur, ou de terminer l'action si tous ont choisi
+     */
+    private void requestNextReward()
+    {
+        Map.Entry<GameClient, Player> contributor = this.pendingContributors.poll();
 
-                    //Si le joueur à choisit la carte, nous l'ajoutons à sa liste d'inventions complétées...
-                    if (selectedReward.getType() == RewardType.CARD)
-                        contributor.getValue().addCompletedInvention(targetedInvention);
+        if(contributor != null)
+        {
+            Invention targetedInvention = this.pendingWorkAction.getTargetedInvention();
 
-                    availableRewards.remove(selectedReward);
+            log.info("{} doit choisir une récompense pour sa contribution de {} cube(s) à l'invention '{}'...",
+                    contributor.getValue().getName(),
+                    targetedInvention.getContribution(contributor.getValue()),
+                    targetedInvention.getName());
 
-                    log.info(String.format("%s a choisit la récompense suivante : %s.", contributor.getValue().getName(),
-                            selectedReward.toString()));
-                }
-                else
+            this.state = TurnState.AWAITING_REWARD;
+            this.currentContributor = contributor;
+            this.pendingRewardCallback = new RewardAckCallback(this, contributor.getValue(), targetedInvention.getRewards());
+            this.requestReward(contributor.getKey(), this.pendingRewardCallback, targetedInvention.getRewards());
+        }
+        else
+        {
+            WorkAction workAction = this.pendingWorkAction;
+
+            this.pendingWorkAction = null;
+            this.currentContributor = null;
+            this.state = TurnState.AWAITING_ACTION;
+
+            this.completeAction(workAction);
+        }
+    }
+
+    /**
+     * Méthode permettant d'attribuer au contributeur courant la récompense qu'il a choisie
+     * @param rewardAckCallback callback de la demande de récompense
+     */
+    private void addReward(RewardAckCallback rewardAckCallback)
+    {
+        //Les réponses tardives ou inattendues sont ignorées
+        if(this.state != TurnState.AWAITING_REWARD || rewardAckCallback != this.pendingRewardCallback)
+            return;
+
+        this.pendingRewardCallback = null;
+
+        Map.Entry<GameClient, Player> contributor = this.currentContributor;
+        Invention targetedInvention = this.pendingWorkAction.getTargetedInvention();
+
+        try
+        {
+            Reward selectedReward = rewardAckCallback.getSelectedReward();
+
+            if (selectedReward != null)
+            {
+                contributor.getValue().addReward(selectedReward);
+                this.history.record(this.turn, GameEventType.REWARD, contributor.getValue().getSeat(),
+                        targetedInvention.getId(), selectedReward.getType().ordinal(), selectedReward.getValue());
+
+                //Si le joueur à choisit la carte, nous l'ajoutons à sa liste d'inventions complétées...
+                if (selectedReward.getType() == RewardType.CARD)
+                    contributor.getValue().addCompletedInvention(targetedInvention);
+
+                int rewardIndex = targetedInvention.getRewards().indexOf(selectedReward);
+                if (rewardIndex >= 0)
                 {
-                    throw new PlayerNotRespondingException("aucun choix de récompense n'a été communiqué.");
+                    this.pendingDelta.addTakenReward(targetedInvention.getName(), rewardIndex);
+                    targetedInvention.takeReward(rewardIndex);
                 }
+
+                log.info("{} a choisit la récompense suivante : {}.", contributor.getValue().getName(),
+                        selectedReward);
             }
-            catch (PlayerNotRespondingException ex)
+            else
             {
-                log.error(String.format("Le joueur %s ne répond plus : %s", contributor.getValue().getName(), ex.getMessage()));
-                this.kick(contributor.getKey());
+                throw new PlayerNotRespondingException("aucun choix de récompense n'a été communiqué.");
             }
         }
-    }
+        catch (PlayerNotRespondingException ex)
+        {
+            log.error("Le joueur {} ne répond plus : {}", contributor.getValue().getName(), ex.getMessage());
+            this.kick(contributor.getKey());
+        }
 
+        this.requestNextReward();
+    }
 
     /**
-     * Fonction permettant d'intérroger le joueur sur la récompense qu'il souhaite acquérir
+     * Méthode permettant d'envoyer une demande de récompense au joueur
      */
-    public Reward requestReward(SocketIOClient playerClient, RewardAckCallback rewardAckCallback, List<Reward> availableRewards, boolean wait) throws InterruptedException
+    public void requestReward(GameClient playerClient, RewardAckCallback rewardAckCallback, List<Reward> availableRewards)
     {
-        synchronized (this.locker)
-        {
-            playerClient.sendEvent(ProtocolMessages.RewardMessage.name(), rewardAckCallback, availableRewards);
-            if(wait)
-                this.locker.wait();
-
-            return rewardAckCallback.getSelectedReward();
-        }
+        playerClient.sendEvent(ProtocolMessages.RewardMessage.name(), rewardAckCallback, availableRewards);
     }
 
     /**
      * Fonction permettant de déterminer le gagnant
      */
-    public Map.Entry<SocketIOClient, Player> determinateWinner() throws CantDeterminateWinnerException
+    public Map.Entry<GameClient, Player> determinateWinner() throws CantDeterminateWinnerException
     {
-        Map.Entry<SocketIOClient, Player> winnerEntry = null;
+        Map.Entry<GameClient, Player> winnerEntry = null;
 
         if(this.getPlayers().size() > 1)
         {
             int maxVictoryPoints = 0;
+            boolean isTied = false;
 
-            for(Map.Entry<SocketIOClient, Player> playerEntry : this.getPlayers().entrySet())
+            for(Map.Entry<GameClient, Player> playerEntry : this.getPlayers().entrySet())
             {
                 int playerVictoryPoints = this.getPlayerVictoryPoint(playerEntry.getValue());
 
@@ -373,13 +832,22 @@ public class Game
                 {
                     maxVictoryPoints = playerVictoryPoints;
                     winnerEntry = playerEntry;
+                    isTied = false;
+                }
+                else if(playerVictoryPoints == maxVictoryPoints)
+                {
+                    isTied = true;
                 }
             }
+
+            //Une égalité en tête ne désigne aucun gagnant, quel que soit l'ordre de parcours des joueurs
+            if(isTied)
+                winnerEntry = null;
         }
         else
         {
             //Si il n'y a pas de gagnant légitime, le dernier joueur encore dans la partie a gagné.
-            Optional<Map.Entry<SocketIOClient, Player>> winnerResult = this.getPlayers().entrySet().stream().findAny();
+            Optional<Map.Entry<GameClient, Player>> winnerResult = this.getPlayers().entrySet().stream().findAny();
             if(winnerResult.isPresent())
             {
                 winnerEntry = winnerResult.get();
@@ -393,55 +861,130 @@ public class Game
     }
 
     /**
-     * Méthode permettant de mettre fin à la partie
+     * Méthode permettant de mettre fin à la partie : tous les joueurs restants en sont informés, même sans gagnant
+     * (aucun joueur ne mène, par exemple lorsque la partie est arrêtée par la limite de tours)
      */
     public void terminate()
     {
+        int winnerSeat = Player.NO_SEAT;
+        GameClient winnerClient = null;
+
         try
         {
-            Map.Entry<SocketIOClient, Player> winnerEntry = this.determinateWinner();
+            Map.Entry<GameClient, Player> winnerEntry = this.determinateWinner();
+            winnerSeat = winnerEntry.getValue().getSeat();
+            winnerClient = winnerEntry.getKey();
 
-            SocketIOClient winnerClient = winnerEntry.getKey();
+            log.info("Le joueur {} remporte la partie avec {} point(s) !", winnerEntry.getValue().getName(),
+                    this.getPlayerVictoryPoint(winnerEntry.getValue()));
+        }
+        catch (CantDeterminateWinnerException ex)
+        {
+            log.info("Aucun joueur ne mène, la partie se termine sans gagnant.");
+        }
 
-            //Envoi d'un message au gagnant
-            winnerClient.sendEvent(ProtocolMessages.GameEndedMessage.name(), true, this.getPlayerVictoryPoint(winnerEntry.getValue()));
+        //Envoi d'un message à chaque joueur, gagnant ou non
+        for(Map.Entry<GameClient, Player> playerEntry : this.getPlayers().entrySet())
+        {
+            playerEntry.getKey().sendEvent(ProtocolMessages.GameEndedMessage.name(), playerEntry.getKey() == winnerClient,
+                    this.getPlayerVictoryPoint(playerEntry.getValue()));
+        }
 
-            //Envoi d'un message aux perdants
-            for(Map.Entry<SocketIOClient, Player> playerEntry : this.getPlayers().entrySet())
-            {
-                if(playerEntry.getKey() != winnerEntry.getValue())
-                {
-                    playerEntry.getKey().sendEvent(ProtocolMessages.GameEndedMessage.name(), false, this.getPlayerVictoryPoint(playerEntry.getValue()));
-                }
-            }
+        log.info("Partie terminée.");
+        this.history.record(this.turn, GameEventType.GAME_ENDED, winnerSeat);
 
-            log.info(String.format("Le joueur %s remporte la partie avec %d point(s) !", winnerEntry.getValue().getName(),
-                    this.getPlayerVictoryPoint(winnerEntry.getValue())));
+        this.state = TurnState.FINISHED;
+        this.onGameEnded();
+    }
 
-        }
-        catch (CantDeterminateWinnerException ex)
+    /**
+     * Méthode permettant d'arrêter la partie à la suite d'une erreur lors d'une étape : les étapes en attente sont
+     * abandonnées, les joueurs restants sont informés de la fin de la partie et les écouteurs de son échec
+     * @param cause erreur ayant interrompu la partie
+     */
+    private void abort(RuntimeException cause)
+    {
+        log.error("La partie s'est arrêtée sur une erreur : {}", cause.getMessage());
+
+        this.pendingSteps.clear();
+        this.pendingActionCallback = null;
+        this.pendingRewardCallback = null;
+        this.state = TurnState.FINISHED;
+
+        //Les réponses tardives sont ignorées, la partie étant terminée ; aucun joueur n'est désigné gagnant
+        for(Map.Entry<GameClient, Player> playerEntry : this.getPlayers().entrySet())
         {
-            log.error(ex.getMessage());
+            try
+            {
+                playerEntry.getKey().sendEvent(ProtocolMessages.GameEndedMessage.name(), false,
+                        this.getPlayerVictoryPoint(playerEntry.getValue()));
+            }
+            catch (RuntimeException ex)
+            {
+                log.error("Impossible d'informer le joueur {} de la fin de la partie : {}",
+                        playerEntry.getValue().getName(), ex.getMessage());
+            }
         }
 
-        log.info("Partie terminée.");
+        this.onGameFailed(cause);
     }
 
     /**
      * Méthode permettant d'expulser un joueur de la partie
      */
-    public void kick(SocketIOClient client)
+    public void kick(GameClient client)
     {
         client.sendEvent(ProtocolMessages.KickedMessage.name(), "");
         client.disconnect();
 
-        this.players.remove(client);
+        Player player = this.players.remove(client);
+        if(player != null && player.getSeat() != Player.NO_SEAT)
+        {
+            int seat = player.getSeat();
+            this.history.record(this.turn, GameEventType.KICK, seat);
+
+            this.clientsBySeat[seat] = null;
+            this.playersBySeat[seat] = null;
+            this.legalMovesBySeat[seat] = null;
+
+            //La place est retirée de l'anneau ; ses propres liens sont conservés pour que le tour puisse passer à la
+            //place suivante si le joueur expulsé était en train de jouer
+            this.nextSeats[this.previousSeats[seat]] = this.nextSeats[seat];
+            this.previousSeats[this.nextSeats[seat]] = this.previousSeats[seat];
+        }
+
+        //Le joueur expulsé doit disparaître chez les autres clients, l'état complet leur sera envoyé
+        this.isSnapshotRequired = true;
     }
 
     //endregion
 
     //region Gestion de la partie
 
+    /**
+     * Fonction permettant de connaître l'état du déroulement de la partie
+     */
+    public TurnState getState()
+    {
+        return this.state;
+    }
+
+    /**
+     * Fonction permettant de connaître le numéro du tour courant
+     */
+    public int getTurn()
+    {
+        return this.turn;
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre maximum de tours de la partie
+     */
+    public int getMaxTurns()
+    {
+        return this.maxTurns;
+    }
+
     /**
      * Fonction permettant de récupérer une équipe pour un joueur
      */
@@ -465,14 +1008,7 @@ public class Game
      */
     public int getPlayerVictoryPoint(Player player)
     {
-        int playerVictoryPoints = 0;
-
-        for(Reward reward : player.getRewards())
-        {
-            playerVictoryPoints += reward.getValue();
-        }
-
-        return playerVictoryPoints;
+        return player.getVictoryPoints();
     }
 
     /**
@@ -487,7 +1023,7 @@ public class Game
     /**
      * Fonction permettant de récupérer la liste des joueurs
      */
-    public HashMap<SocketIOClient, Player> getPlayers()
+    public HashMap<GameClient, Player> getPlayers()
     {
         return this.players;
     }
@@ -508,7 +1044,7 @@ public class Game
     {
         HashMap<UUID, List<Inventor>> mergedInventors = new HashMap<>();
 
-        for(Map.Entry<SocketIOClient, Player> playerEntry : this.getPlayers().entrySet())
+        for(Map.Entry<GameClient, Player> playerEntry : this.getPlayers().entrySet())
         {
             mergedInventors.put(playerEntry.getKey().getSessionId(), playerEntry.getValue().getInventors());
         }
@@ -536,6 +1072,33 @@ public class Game
         }
     }
 
+    /**
+     * Fonction permettant de récupérer l'inventeur d'un joueur par son identifiant, en temps constant
+     * @param player joueur
+     * @param inventorId identifiant de l'inventeur dans le catalogue
+     * @return l'inventeur, ou null si le joueur ne possède pas cet inventeur
+     */
+    public Inventor getPlayerInventorById(Player player, int inventorId)
+    {
+        if(inventorId < 0 || inventorId >= this.inventorsById.length || this.inventorsOwners[inventorId] != player)
+            return null;
+
+        return this.inventorsById[inventorId];
+    }
+
+    /**
+     * Fonction permettant de récupérer une invention présente "sur la table" par son identifiant, en temps constant
+     * @param inventionId identifiant de l'invention dans le catalogue
+     * @return l'invention, ou null si elle n'est pas présente "sur la table"
+     */
+    public Invention getInventionById(int inventionId)
+    {
+        if(inventionId < 0 || inventionId >= this.inventionsById.length)
+            return null;
+
+        return this.inventionsById[inventionId];
+    }
+
     /**
      * Fonction permettant de récupérer une invention par son nom
      * @param inventionName nom de l'invention
@@ -559,18 +1122,7 @@ public class Game
      */
     public boolean eraCompleted()
     {
-        boolean completed = false;
-
-        ArrayList<Invention> completedInventions = this.getInventionsList().stream()
-                .filter(Invention::isCompleted)
-                .collect(Collectors.toCollection(ArrayList::new));
-
-        if(completedInventions.size() == this.getInventionsList().size() - 1)
-        {
-            completed = true;
-        }
-
-        return completed;
+        return this.completedInventionsCount == this.getInventionsList().size() - 1;
     }
 
     /**
@@ -588,20 +1140,32 @@ public class Game
         return finished;
     }
 
+    /**
+     * Méthode permettant d'enregistrer les événements de la partie dans un historique, à appeler avant "init"
+     * @param history historique de la partie
+     */
+    public void setHistory(GameHistory history)
+    {
+        this.history = history;
+    }
+
     //endregion
 
     //region Gestion des clients
 
     /**
-     * Méthode permettant d'envoyer un évenement à tous les clients connectés
+     * Méthode permettant d'envoyer un évenement à tous les clients connectés.
+     * L'événement n'est encodé qu'une seule fois, quel que soit le nombre de clients
      * @param eventName nom de l'événement
      * @param params paramètres
      */
     public void broadcastEvent(String eventName, Object... params)
     {
-        for (SocketIOClient client : this.getPlayers().keySet())
+        BroadcastEvent event = new BroadcastEvent(eventName, params);
+
+        for (GameClient client : this.getPlayers().keySet())
         {
-            client.sendEvent(eventName, params);
+            client.sendEvent(event);
         }
     }
 
@@ -612,13 +1176,37 @@ public class Game
      */
     public void broadcastEvent(ArrayList<UUID> toExclude, String eventName, Object... params)
     {
-        List<SocketIOClient> clients = this.getPlayers().keySet().stream()
-                .filter(entry -> !toExclude.contains(entry.getSessionId()))
-                .collect(Collectors.toList());
+        BroadcastEvent event = new BroadcastEvent(eventName, params);
+
+        for (GameClient client : this.getPlayers().keySet())
+        {
+            if(!toExclude.contains(client.getSessionId()))
+                client.sendEvent(event);
+        }
+    }
+
+    //endregion
+
+    //region Listeners
 
-        for(SocketIOClient client : clients)
+    public void addListener(GameListener listener)
+    {
+        this.listeners.add(listener);
+    }
+
+    private void onGameEnded()
+    {
+        for(GameListener listener : this.listeners)
+        {
+            listener.onGameEnded(this);
+        }
+    }
+
+    private void onGameFailed(Exception cause)
+    {
+        for(GameListener listener : this.listeners)
         {
-            client.sendEvent(eventName, params);
+            listener.onGameFailed(this, cause);
         }
     }
 
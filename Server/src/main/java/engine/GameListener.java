@@ -0,0 +1,17 @@
+package engine;
+
+/**
+ * Interface d'un écouteur de partie.
+ * @author Noé Mourton-Comte
+ */
+public interface GameListener
+{
+    void onGameEnded(Game game);
+
+    /**
+     * Méthode appelée lorsque la partie a été arrêtée par une erreur
+     * @param game partie
+     * @param cause erreur ayant interrompu la partie
+     */
+    void onGameFailed(Game game, Exception cause);
+}
@@ -0,0 +1,17 @@
+package engine;
+
+/**
+ * Énumération des différents états du déroulement d'une partie.
+ * @author Noé Mourton-Comte
+ */
+public enum TurnState
+{
+    //La partie n'a pas encore commencé
+    IDLE,
+    //Une action a été demandée au joueur courant
+    AWAITING_ACTION,
+    //Une récompense a été demandée à un contributeur
+    AWAITING_REWARD,
+    //La partie est terminée
+    FINISHED;
+}
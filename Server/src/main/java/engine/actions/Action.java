@@ -19,4 +19,22 @@ public abstract class Action
      * Méthode abstraite représentant l'exécution de l'action
      */
     abstract public void execute() throws Exception;
+
+    /**
+     * Fonction permettant de vérifier, sans lever d'exception, si l'action peut être exécutée
+     * @return LEGAL si l'action peut être exécutée, la raison du refus sinon
+     */
+    public ActionResult validate()
+    {
+        return ActionResult.LEGAL;
+    }
+
+    /**
+     * Permet de retourner l'initiateur de l'action
+     * @return le joueur ayant initié l'action
+     */
+    public Player getOwner()
+    {
+        return this.owner;
+    }
 }
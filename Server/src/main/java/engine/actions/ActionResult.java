@@ -0,0 +1,19 @@
+package engine.actions;
+
+/**
+ * Énumération des résultats de la vérification d'une action.
+ * @author Noé Mourton-Comte
+ */
+public enum ActionResult
+{
+    //L'action peut être exécutée
+    LEGAL,
+    //L'inventeur est déjà occupé
+    BUSY_INVENTOR,
+    //L'inventeur ne peut pas travailler sur l'invention (ou n'appartient pas au joueur)
+    INCOMPATIBLE_INVENTOR,
+    //Aucun inventeur du joueur n'est occupé
+    NOTHING_TO_MAKE_AVAILABLE,
+    //L'action n'a pas été initiée par le joueur courant
+    WRONG_PLAYER;
+}
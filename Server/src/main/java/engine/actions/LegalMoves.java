@@ -0,0 +1,156 @@
+package engine.actions;
+
+import engine.core.Invention;
+import engine.core.Inventor;
+import engine.core.Player;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Classe représentant l'ensemble des actions autorisées pour un joueur à un instant donné.
+ * Les couples (inventeur, invention) autorisés sont rangés dans un BitSet indexé par les identifiants de catalogue :
+ * vérifier une action revient à tester un bit, sans lever d'exception.
+ * @author Noé Mourton-Comte
+ */
+public class LegalMoves
+{
+    private final Player player;
+    private final int inventionsCatalogSize;
+    private final BitSet workMoves;
+    private boolean canMakeAvailable;
+
+    //Etat de la partie lors du dernier calcul : version de la "table" et inventeurs disponibles du joueur
+    private long tableVersion;
+    private int freeMask;
+
+    /**
+     * Constructeur de la classe LegalMoves
+     * @param player joueur dont les actions sont calculées
+     * @param inventions inventions sur la "table"
+     * @param inventionsCatalogSize nombre d'inventions du catalogue (les identifiants sont compris entre 0 et ce nombre)
+     */
+    public LegalMoves(Player player, List<Invention> inventions, int inventionsCatalogSize)
+    {
+        this(player, inventions, inventionsCatalogSize, 0);
+    }
+
+    /**
+     * Constructeur de la classe LegalMoves, destiné à être mis à jour par refresh
+     * @param player joueur dont les actions sont calculées
+     * @param inventions inventions sur la "table"
+     * @param inventionsCatalogSize nombre d'inventions du catalogue (les identifiants sont compris entre 0 et ce nombre)
+     * @param tableVersion version de la "table" lors du calcul
+     */
+    public LegalMoves(Player player, List<Invention> inventions, int inventionsCatalogSize, long tableVersion)
+    {
+        this.player = player;
+        this.inventionsCatalogSize = inventionsCatalogSize;
+        this.workMoves = new BitSet();
+        this.tableVersion = tableVersion;
+
+        this.compute(inventions);
+    }
+
+    /**
+     * Méthode permettant de mettre à jour les actions autorisées si la partie a changé depuis le dernier calcul.
+     * Le calcul est réutilisé tant que la "table" et les inventeurs disponibles du joueur sont inchangés, et l'ensemble
+     * est recalculé sur place sinon : aucun objet n'est alloué.
+     * @param inventions inventions sur la "table"
+     * @param tableVersion version de la "table", modifiée par la partie à chaque changement des inventions
+     * @return cet ensemble, à jour
+     */
+    public LegalMoves refresh(List<Invention> inventions, long tableVersion)
+    {
+        if(tableVersion != this.tableVersion || this.player.getFreeMask() != this.freeMask)
+        {
+            this.workMoves.clear();
+            this.compute(inventions);
+            this.tableVersion = tableVersion;
+        }
+
+        return this;
+    }
+
+    private void compute(List<Invention> inventions)
+    {
+        this.freeMask = this.player.getFreeMask();
+        this.canMakeAvailable = this.player.getBusyMask() != 0;
+
+        for(int freeInventors = this.freeMask; freeInventors != 0; freeInventors &= freeInventors - 1)
+        {
+            Inventor inventor = this.player.getInventor(Integer.numberOfTrailingZeros(freeInventors));
+
+            for(Invention invention : inventions)
+            {
+                if(inventor.canWorkOn(invention))
+                    this.workMoves.set(this.indexOf(inventor, invention));
+            }
+        }
+    }
+
+    /**
+     * Fonction permettant de calculer la position d'un couple (inventeur, invention) dans l'ensemble
+     */
+    private int indexOf(Inventor inventor, Invention invention)
+    {
+        return inventor.getId() * this.inventionsCatalogSize + invention.getId();
+    }
+
+    /**
+     * Fonction permettant de savoir si un inventeur du joueur peut travailler sur une invention
+     * @param inventor inventeur
+     * @param invention invention
+     */
+    public boolean canWork(Inventor inventor, Invention invention)
+    {
+        if(inventor.getId() < 0 || invention.getId() < 0 || invention.getId() >= this.inventionsCatalogSize)
+            return false;
+
+        return this.workMoves.get(this.indexOf(inventor, invention));
+    }
+
+    /**
+     * Fonction permettant de savoir si le joueur peut rendre disponible ses inventeurs
+     */
+    public boolean canMakeAvailable()
+    {
+        return this.canMakeAvailable;
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de couples (inventeur, invention) autorisés
+     */
+    public int getWorkMovesCount()
+    {
+        return this.workMoves.cardinality();
+    }
+
+    /**
+     * Fonction permettant de vérifier une action
+     * @param action action à vérifier
+     * @return LEGAL si l'action peut être exécutée, la raison du refus sinon
+     */
+    public ActionResult check(Action action)
+    {
+        if(action.getOwner() != this.player)
+            return ActionResult.WRONG_PLAYER;
+
+        if(action instanceof WorkAction)
+        {
+            WorkAction workAction = (WorkAction) action;
+
+            if(this.canWork(workAction.getWorkingInventor(), workAction.getTargetedInvention()))
+                return ActionResult.LEGAL;
+
+            return workAction.getWorkingInventor().isBusy() ? ActionResult.BUSY_INVENTOR : ActionResult.INCOMPATIBLE_INVENTOR;
+        }
+        else if(action instanceof MakeAvailableAction)
+        {
+            return this.canMakeAvailable ? ActionResult.LEGAL : ActionResult.NOTHING_TO_MAKE_AVAILABLE;
+        }
+
+        //Les actions inconnues se vérifient elles-mêmes
+        return action.validate();
+    }
+}
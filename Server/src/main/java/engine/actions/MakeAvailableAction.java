@@ -1,7 +1,6 @@
 package engine.actions;
 
 import engine.actions.exceptions.UnauthorizedActionException;
-import engine.core.Inventor;
 import engine.core.Player;
 import engine.core.exceptions.AlreadyAvailableException;
 
@@ -20,15 +19,23 @@ public class MakeAvailableAction extends Action
         super(owner);
     }
 
+    @Override
+    public ActionResult validate()
+    {
+        return super.owner.getBusyMask() != 0 ? ActionResult.LEGAL : ActionResult.NOTHING_TO_MAKE_AVAILABLE;
+    }
+
     @Override
     public void execute() throws AlreadyAvailableException, UnauthorizedActionException
     {
-        if(super.owner.getBusyInventors().size() >= 1)
+        int busyInventors = super.owner.getBusyMask();
+
+        if(busyInventors != 0)
         {
             //Nous rendons disponible la totalité des inventeurs occupés
-            for (Inventor inventor : super.owner.getBusyInventors())
+            for (; busyInventors != 0; busyInventors &= busyInventors - 1)
             {
-                inventor.makeAvailable();
+                super.owner.getInventor(Integer.numberOfTrailingZeros(busyInventors)).makeAvailable();
             }
         }
         else
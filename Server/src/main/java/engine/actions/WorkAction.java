@@ -29,6 +29,18 @@ public class WorkAction extends Action
         this.targetedInvention = invention;
     }
 
+    @Override
+    public ActionResult validate()
+    {
+        if(this.workingInventor.isBusy())
+            return ActionResult.BUSY_INVENTOR;
+
+        if(!this.workingInventor.canWorkOn(this.targetedInvention))
+            return ActionResult.INCOMPATIBLE_INVENTOR;
+
+        return ActionResult.LEGAL;
+    }
+
     @Override
     public void execute() throws IncompatibleInventorException, BusyInventorException, AlreadyBusyException
     {
@@ -78,4 +90,13 @@ public class WorkAction extends Action
     {
         return this.targetedInvention;
     }
+
+    /**
+     * Permet de retourner l'inventeur qui travaille sur l'invention
+     * @return l'inventeur
+     */
+    public Inventor getWorkingInventor()
+    {
+        return this.workingInventor;
+    }
 }
@@ -1,8 +1,8 @@
 package engine.comparators;
 
-import com.corundumstudio.socketio.SocketIOClient;
 import engine.core.Invention;
 import engine.core.Player;
+import network.GameClient;
 
 import java.util.Comparator;
 import java.util.Map;
@@ -11,7 +11,7 @@ import java.util.Map;
  * Classe permettant de comparer deux joueurs ayant travaillé sur une invention commune.
  * @author Noé Mourton-Comte
  */
-public class ContributorComparator implements Comparator<Map.Entry<SocketIOClient, Player>>
+public class ContributorComparator implements Comparator<Map.Entry<GameClient, Player>>
 {
     private Player playerWithTrophy;
     private Invention targetedInvention;
@@ -23,12 +23,12 @@ public class ContributorComparator implements Comparator<Map.Entry<SocketIOClien
     }
 
     @Override
-    public int compare(Map.Entry<SocketIOClient, Player> o1, Map.Entry<SocketIOClient, Player> o2)
+    public int compare(Map.Entry<GameClient, Player> o1, Map.Entry<GameClient, Player> o2)
     {
         int result = 0;
 
-        int o1Contributions = this.targetedInvention.getContributions().get(o1.getValue().getUUID());
-        int o2Contributions = this.targetedInvention.getContributions().get(o2.getValue().getUUID());
+        int o1Contributions = this.targetedInvention.getContribution(o1.getValue());
+        int o2Contributions = this.targetedInvention.getContribution(o2.getValue());
 
         if(o1Contributions > o2Contributions)
         {
@@ -0,0 +1,61 @@
+package engine.history;
+
+import java.util.Arrays;
+
+/**
+ * Classe représentant un événement lu dans l'historique des parties.
+ * @author Noé Mourton-Comte
+ */
+public class GameEvent
+{
+    private final long gameId;
+    private final int turn;
+    private final GameEventType type;
+    private final int[] values;
+
+    public GameEvent(long gameId, int turn, GameEventType type, int[] values)
+    {
+        this.gameId = gameId;
+        this.turn = turn;
+        this.type = type;
+        this.values = values;
+    }
+
+    public long getGameId()
+    {
+        return this.gameId;
+    }
+
+    /**
+     * Fonction retournant le tour pendant lequel l'événement a eu lieu (0 pour la mise en place)
+     */
+    public int getTurn()
+    {
+        return this.turn;
+    }
+
+    public GameEventType getType()
+    {
+        return this.type;
+    }
+
+    /**
+     * Fonction retournant une valeur de l'événement (voir GameEventType pour leur signification)
+     * @param index position de la valeur
+     */
+    public int getValue(int index)
+    {
+        return this.values[index];
+    }
+
+    public int getValuesCount()
+    {
+        return this.values.length;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("#%d [tour %d] %s %s", this.gameId, this.turn, this.type, Arrays.toString(this.values));
+    }
+}
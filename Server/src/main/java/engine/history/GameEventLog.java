@@ -0,0 +1,308 @@
+package engine.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classe représentant le journal des événements des parties, partagé par toutes les parties du serveur.
+ * Le journal est une suite de segments de taille fixe, projetés en mémoire : ajouter un événement revient à copier
+ * quelques octets dans la projection, le système d'exploitation se charge de l'écriture sur le disque.
+ * La création du segment suivant et l'écriture forcée des segments pleins ont lieu sur un fil d'exécution dédié.
+ * Les fichiers sont remplis de zéros à leur création, une longueur nulle marque donc la fin des événements d'un segment.
+ *
+ * Format d'un événement : longueur (int, octets suivants), identifiant de la partie (long), tour (int),
+ * type (byte), nombre de valeurs (byte), valeurs (int).
+ *
+ * Les identifiants de partie recommencent à chaque démarrage du serveur : chaque journal ouvert sur le dossier reçoit
+ * donc un identifiant d'exécution (l'indice de son premier segment, unique dans le dossier), placé dans les bits de
+ * poids fort des identifiants enregistrés (voir getLoggedGameId).
+ * @author Noé Mourton-Comte
+ */
+public class GameEventLog implements Closeable
+{
+    private static final Logger log = LoggerFactory.getLogger(GameEventLog.class);
+
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    public static final int MAX_VALUES_COUNT = 0xFF;
+    //Position de l'identifiant d'exécution dans un identifiant de partie enregistré
+    public static final int RUN_ID_SHIFT = 32;
+
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".events";
+    //Identifiant de la partie, tour, type et nombre de valeurs
+    static final int HEADER_SIZE = Long.BYTES + Integer.BYTES + 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int runId;
+
+    //Le segment suivant est créé à l'avance et les segments pleins sont écrits sur le disque par ce fil d'exécution :
+    //une partie qui remplit un segment ne fait que changer de projection
+    private final ExecutorService segmentsWorker;
+
+    private Segment segment;
+    private Future<Segment> nextSegment;
+    private boolean isClosed;
+
+    public GameEventLog(Path directory) throws IOException
+    {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructeur du journal, les événements sont ajoutés dans un nouveau segment à la suite des segments existants
+     * @param directory dossier contenant les segments
+     * @param segmentSize taille d'un segment en octets
+     * @throws IOException
+     */
+    public GameEventLog(Path directory, int segmentSize) throws IOException
+    {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        Files.createDirectories(directory);
+
+        List<Path> segments = GameEventReader.listSegments(directory);
+        this.runId = segments.isEmpty() ? 0 : GameEventReader.getSegmentIndex(segments.get(segments.size() - 1)) + 1;
+
+        this.segmentsWorker = Executors.newSingleThreadExecutor(runnable ->
+        {
+            Thread worker = new Thread(runnable, "game-event-log");
+            worker.setDaemon(true);
+            return worker;
+        });
+
+        this.segment = this.openSegment(this.runId);
+        this.nextSegment = this.segmentsWorker.submit(() -> this.openSegment(this.runId + 1));
+    }
+
+    /**
+     * Classe représentant un segment projeté en mémoire
+     */
+    private static class Segment
+    {
+        private final int index;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        private Segment(int index, Path path, FileChannel channel, MappedByteBuffer buffer)
+        {
+            this.index = index;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        /**
+         * Méthode permettant d'écrire le segment sur le disque puis de le fermer
+         */
+        private void close() throws IOException
+        {
+            this.buffer.force();
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Fonction permettant de connaître l'identifiant d'exécution du journal
+     */
+    public int getRunId()
+    {
+        return this.runId;
+    }
+
+    /**
+     * Fonction permettant d'obtenir l'identifiant sous lequel une partie de cette exécution est enregistrée, unique dans
+     * le dossier même après un redémarrage du serveur
+     * @param gameId identifiant de la partie pendant cette exécution (entier positif sur 32 bits)
+     */
+    public long getLoggedGameId(long gameId)
+    {
+        if(gameId < 0 || gameId >>> RUN_ID_SHIFT != 0)
+            throw new IllegalArgumentException(String.format("Identifiant de partie invalide : %d.", gameId));
+
+        return (long) this.runId << RUN_ID_SHIFT | gameId;
+    }
+
+    /**
+     * Fonction permettant de créer et de projeter en mémoire un segment
+     * @param index indice du segment
+     * @throws IOException
+     */
+    private Segment openSegment(int index) throws IOException
+    {
+        Path segmentPath = this.directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+
+        FileChannel segmentChannel = FileChannel.open(segmentPath, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        return new Segment(index, segmentPath, segmentChannel, segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, this.segmentSize));
+    }
+
+    /**
+     * Méthode permettant de passer au segment suivant lorsque le segment courant est plein. Le segment suivant est
+     * normalement déjà projeté : l'attente n'a lieu que si les segments se remplissent plus vite qu'ils ne sont créés
+     * @throws IOException
+     */
+    private void rollSegment() throws IOException
+    {
+        Segment fullSegment = this.segment;
+
+        try
+        {
+            this.segment = this.nextSegment.get();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException("Création du segment suivant interrompue.", ex);
+        }
+        catch (ExecutionException ex)
+        {
+            throw new IOException(ex.getCause());
+        }
+
+        int nextIndex = this.segment.index + 1;
+        this.nextSegment = this.segmentsWorker.submit(() -> this.openSegment(nextIndex));
+
+        this.segmentsWorker.execute(() -> closeSegment(fullSegment));
+    }
+
+    /**
+     * Méthode permettant d'écrire un segment sur le disque et de le fermer, depuis le fil d'exécution des segments
+     */
+    private static void closeSegment(Segment segment)
+    {
+        try
+        {
+            segment.close();
+        }
+        catch (IOException ex)
+        {
+            log.error("Impossible d'écrire le segment {} sur le disque : {}", segment.path, ex.getMessage());
+        }
+    }
+
+    /**
+     * Méthode permettant d'ajouter un événement au journal
+     * @param gameId identifiant de la partie
+     * @param turn tour pendant lequel l'événement a eu lieu
+     * @param type type de l'événement
+     * @param values valeurs de l'événement
+     */
+    public synchronized void append(long gameId, int turn, GameEventType type, int... values)
+    {
+        if(this.isClosed)
+            return;
+
+        if(values.length > MAX_VALUES_COUNT || Integer.BYTES + HEADER_SIZE + values.length * Integer.BYTES > this.segmentSize)
+            throw new IllegalArgumentException(String.format("Événement %s trop grand pour le journal.", type));
+
+        int length = HEADER_SIZE + values.length * Integer.BYTES;
+
+        try
+        {
+            if(this.segment.buffer.remaining() < Integer.BYTES + length)
+                this.rollSegment();
+        }
+        catch (IOException ex)
+        {
+            log.error("Impossible d'ouvrir un nouveau segment, l'historique des parties est désactivé : {}", ex.getMessage());
+            this.isClosed = true;
+            this.segmentsWorker.shutdown();
+            return;
+        }
+
+        //La longueur est écrite en dernier : un lecteur ne voit jamais un événement incomplet
+        MappedByteBuffer buffer = this.segment.buffer;
+        int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.putLong(gameId);
+        buffer.putInt(turn);
+        buffer.put((byte) type.ordinal());
+        buffer.put((byte) values.length);
+        for(int value : values)
+            buffer.putInt(value);
+        buffer.putInt(start, length);
+    }
+
+    /**
+     * Méthode permettant de forcer l'écriture sur le disque des événements déjà ajoutés.
+     * L'écriture a lieu en dehors du verrou : les parties continuent d'ajouter des événements pendant ce temps
+     */
+    public void flush()
+    {
+        MappedByteBuffer buffer;
+
+        synchronized (this)
+        {
+            if(this.isClosed)
+                return;
+
+            buffer = this.segment.buffer;
+        }
+
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        Segment lastSegment;
+        Future<Segment> unusedSegment;
+
+        synchronized (this)
+        {
+            if(this.isClosed)
+                return;
+
+            this.isClosed = true;
+            lastSegment = this.segment;
+            unusedSegment = this.nextSegment;
+        }
+
+        //Les segments pleins sont écrits sur le disque avant le dernier segment
+        this.segmentsWorker.shutdown();
+        try
+        {
+            this.segmentsWorker.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        lastSegment.close();
+
+        //Le segment créé à l'avance n'a jamais été utilisé, il est supprimé
+        try
+        {
+            Segment segment = unusedSegment.get();
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException ex)
+        {
+            //Le segment n'a pas pu être créé, il n'y a rien à supprimer
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package engine.history;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Classe permettant de lire le journal des événements des parties (voir GameEventLog).
+ * @author Noé Mourton-Comte
+ */
+public class GameEventReader
+{
+    private final Path directory;
+
+    public GameEventReader(Path directory)
+    {
+        this.directory = directory;
+    }
+
+    /**
+     * Fonction permettant de lister les segments d'un journal, dans l'ordre de leur écriture
+     * @param directory dossier du journal
+     * @throws IOException
+     */
+    static List<Path> listSegments(Path directory) throws IOException
+    {
+        List<Path> segments = new ArrayList<>();
+
+        if(Files.isDirectory(directory))
+        {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                    GameEventLog.SEGMENT_PREFIX + "*" + GameEventLog.SEGMENT_SUFFIX))
+            {
+                for(Path segment : stream)
+                    segments.add(segment);
+            }
+        }
+
+        //Les numéros de segments sont écrits sur un nombre fixe de chiffres, l'ordre alphabétique est donc le bon
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * Fonction permettant de retrouver le numéro d'un segment à partir du nom de son fichier
+     */
+    static int getSegmentIndex(Path segment)
+    {
+        String fileName = segment.getFileName().toString();
+        return Integer.parseInt(fileName.substring(GameEventLog.SEGMENT_PREFIX.length(),
+                fileName.length() - GameEventLog.SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Méthode permettant de parcourir tous les événements du journal
+     * @param consumer méthode appelée pour chaque événement
+     * @throws IOException
+     */
+    public void forEach(Consumer<GameEvent> consumer) throws IOException
+    {
+        for(Path segmentPath : listSegments(this.directory))
+        {
+            try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ))
+            {
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                while(segment.remaining() >= Integer.BYTES)
+                {
+                    int length = segment.getInt();
+
+                    //Fin des événements écrits dans ce segment
+                    if(length < GameEventLog.HEADER_SIZE || length > segment.remaining())
+                        break;
+
+                    long gameId = segment.getLong();
+                    int turn = segment.getInt();
+                    GameEventType type = GameEventType.fromCode(segment.get());
+                    int[] values = new int[segment.get() & 0xFF];
+                    for(int i = 0; i < values.length; i++)
+                        values[i] = segment.getInt();
+
+                    if(type != null)
+                        consumer.accept(new GameEvent(gameId, turn, type, values));
+                }
+            }
+        }
+    }
+
+    /**
+     * Fonction permettant de récupérer les événements d'une partie
+     * @param gameId identifiant enregistré de la partie (voir GameEventLog.getLoggedGameId)
+     * @throws IOException
+     */
+    public List<GameEvent> readGame(long gameId) throws IOException
+    {
+        return this.readGame(gameId, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Fonction permettant de récupérer les événements d'une partie jusqu'à un tour donné (inclus)
+     * @param gameId identifiant enregistré de la partie (voir GameEventLog.getLoggedGameId)
+     * @param lastTurn dernier tour à lire
+     * @throws IOException
+     */
+    public List<GameEvent> readGame(long gameId, int lastTurn) throws IOException
+    {
+        List<GameEvent> events = new ArrayList<>();
+
+        this.forEach(event ->
+        {
+            if(event.getGameId() == gameId && event.getTurn() <= lastTurn)
+                events.add(event);
+        });
+
+        return events;
+    }
+}
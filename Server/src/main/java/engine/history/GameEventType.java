@@ -0,0 +1,42 @@
+package engine.history;
+
+/**
+ * Énumération des événements enregistrés dans l'historique d'une partie.
+ * Le code d'un événement est sa position dans l'énumération : les nouveaux événements doivent être ajoutés à la fin.
+ * @author Noé Mourton-Comte
+ */
+public enum GameEventType
+{
+    //Un joueur prend place : place, UUID (quatre entiers, des poids forts aux poids faibles)
+    PLAYER_SEATED,
+    //Un inventeur est donné à un joueur : place, identifiant de l'inventeur
+    INVENTOR_DEALT,
+    //Une époque débute : époque
+    ERA_STARTED,
+    //Une invention est posée sur la "table" : identifiant de l'invention
+    INVENTION_DEALT,
+    //Un inventeur travaille sur une invention : place, identifiant de l'inventeur, identifiant de l'invention
+    WORK,
+    //Des cubes sont posés sur une invention : identifiant de l'invention, place, connaissances regroupées
+    CUBES,
+    //Un joueur rend disponibles ses inventeurs : place
+    MAKE_AVAILABLE,
+    //Un contributeur choisit une récompense : place, identifiant de l'invention, type de récompense, valeur
+    REWARD,
+    //Un joueur est expulsé : place
+    KICK,
+    //La partie est terminée : place du gagnant (ou -1)
+    GAME_ENDED;
+
+    private static final GameEventType[] VALUES = values();
+
+    /**
+     * Fonction permettant de retrouver un type d'événement à partir de son code
+     * @param code code de l'événement
+     * @return type d'événement, ou null si le code est inconnu
+     */
+    public static GameEventType fromCode(int code)
+    {
+        return code >= 0 && code < VALUES.length ? VALUES[code] : null;
+    }
+}
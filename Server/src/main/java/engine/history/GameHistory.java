@@ -0,0 +1,48 @@
+package engine.history;
+
+/**
+ * Classe représentant l'historique d'une partie : les événements de la partie sont ajoutés au journal partagé
+ * sous l'identifiant de la partie.
+ * @author Noé Mourton-Comte
+ */
+public class GameHistory
+{
+    //Historique des parties qui ne sont pas enregistrées, les événements sont ignorés
+    public static final GameHistory DISABLED = new GameHistory(null, -1);
+
+    private final GameEventLog eventLog;
+    private final long gameId;
+
+    /**
+     * Constructeur de la classe GameHistory
+     * @param eventLog journal dans lequel les événements sont ajoutés
+     * @param gameId identifiant de la partie
+     */
+    public GameHistory(GameEventLog eventLog, long gameId)
+    {
+        this.eventLog = eventLog;
+        this.gameId = gameId;
+    }
+
+    /**
+     * Méthode permettant d'enregistrer un événement de la partie
+     * @param turn tour pendant lequel l'événement a eu lieu
+     * @param type type de l'événement
+     * @param values valeurs de l'événement (voir GameEventType)
+     */
+    public void record(int turn, GameEventType type, int... values)
+    {
+        if(this.eventLog != null)
+            this.eventLog.append(this.gameId, turn, type, values);
+    }
+
+    public boolean isEnabled()
+    {
+        return this.eventLog != null;
+    }
+
+    public long getGameId()
+    {
+        return this.gameId;
+    }
+}
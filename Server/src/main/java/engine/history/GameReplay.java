@@ -0,0 +1,184 @@
+package engine.history;
+
+import engine.core.Knowledges;
+
+import java.util.*;
+
+/**
+ * Classe permettant de rejouer l'historique d'une partie jusqu'à un tour donné.
+ * L'état reconstruit est décrit par les identifiants du catalogue et les places des joueurs.
+ * @author Noé Mourton-Comte
+ */
+public class GameReplay
+{
+    private int turn;
+    private int era;
+    private int winnerSeat;
+    private boolean isEnded;
+
+    private final Map<Integer, UUID> playersBySeat;
+    private final Set<Integer> kickedSeats;
+    private final Map<Integer, Integer> victoryPointsBySeat;
+    private final Map<Integer, Integer> inventorsSeats;
+    private final Set<Integer> busyInventors;
+    private final List<Integer> tableInventions;
+    private final Map<Integer, Knowledges> inventionsKnowledges;
+
+    public GameReplay()
+    {
+        this.winnerSeat = -1;
+        this.playersBySeat = new TreeMap<>();
+        this.kickedSeats = new HashSet<>();
+        this.victoryPointsBySeat = new HashMap<>();
+        this.inventorsSeats = new HashMap<>();
+        this.busyInventors = new HashSet<>();
+        this.tableInventions = new ArrayList<>();
+        this.inventionsKnowledges = new HashMap<>();
+    }
+
+    /**
+     * Fonction permettant de rejouer les événements d'une partie jusqu'à un tour donné (inclus)
+     * @param events événements de la partie, dans l'ordre du journal
+     * @param lastTurn dernier tour à rejouer
+     * @return état de la partie à la fin du tour
+     */
+    public static GameReplay replay(List<GameEvent> events, int lastTurn)
+    {
+        GameReplay gameReplay = new GameReplay();
+
+        for(GameEvent event : events)
+        {
+            if(event.getTurn() > lastTurn)
+                break;
+
+            gameReplay.apply(event);
+        }
+
+        return gameReplay;
+    }
+
+    /**
+     * Méthode permettant d'appliquer un événement à l'état de la partie
+     * @param event événement à appliquer
+     */
+    public void apply(GameEvent event)
+    {
+        this.turn = event.getTurn();
+
+        switch (event.getType())
+        {
+            case PLAYER_SEATED:
+                this.playersBySeat.put(event.getValue(0), new UUID(
+                        ((long) event.getValue(1) << 32) | (event.getValue(2) & 0xFFFFFFFFL),
+                        ((long) event.getValue(3) << 32) | (event.getValue(4) & 0xFFFFFFFFL)));
+                break;
+
+            case INVENTOR_DEALT:
+                this.inventorsSeats.put(event.getValue(1), event.getValue(0));
+                break;
+
+            case ERA_STARTED:
+                this.era = event.getValue(0);
+                this.tableInventions.clear();
+                break;
+
+            case INVENTION_DEALT:
+                this.tableInventions.add(event.getValue(0));
+                this.inventionsKnowledges.put(event.getValue(0), new Knowledges());
+                break;
+
+            case WORK:
+                this.busyInventors.add(event.getValue(1));
+                break;
+
+            case CUBES:
+                this.inventionsKnowledges.computeIfAbsent(event.getValue(0), id -> new Knowledges())
+                        .add(Knowledges.fromPacked(event.getValue(2)));
+                break;
+
+            case MAKE_AVAILABLE:
+                this.busyInventors.removeIf(inventorId -> Objects.equals(this.inventorsSeats.get(inventorId), event.getValue(0)));
+                break;
+
+            case REWARD:
+                this.victoryPointsBySeat.merge(event.getValue(0), event.getValue(3), Integer::sum);
+                break;
+
+            case KICK:
+                this.kickedSeats.add(event.getValue(0));
+                break;
+
+            case GAME_ENDED:
+                this.winnerSeat = event.getValue(0);
+                this.isEnded = true;
+                break;
+        }
+    }
+
+    /**
+     * Fonction permettant de connaître le dernier tour rejoué
+     */
+    public int getTurn()
+    {
+        return this.turn;
+    }
+
+    public int getEra()
+    {
+        return this.era;
+    }
+
+    /**
+     * Fonction retournant les UUID des joueurs, indexés par leur place
+     */
+    public Map<Integer, UUID> getPlayersBySeat()
+    {
+        return Collections.unmodifiableMap(this.playersBySeat);
+    }
+
+    public boolean isKicked(int seat)
+    {
+        return this.kickedSeats.contains(seat);
+    }
+
+    /**
+     * Fonction retournant les points de victoire d'un joueur (somme des valeurs des récompenses choisies)
+     * @param seat place du joueur
+     */
+    public int getVictoryPoints(int seat)
+    {
+        return this.victoryPointsBySeat.getOrDefault(seat, 0);
+    }
+
+    public boolean isInventorBusy(int inventorId)
+    {
+        return this.busyInventors.contains(inventorId);
+    }
+
+    /**
+     * Fonction retournant les identifiants des inventions de l'époque courante
+     */
+    public List<Integer> getTableInventions()
+    {
+        return Collections.unmodifiableList(this.tableInventions);
+    }
+
+    /**
+     * Fonction retournant les connaissances apportées à une invention, ou null si elle n'a pas été posée sur la "table"
+     * @param inventionId identifiant de l'invention
+     */
+    public Knowledges getInventionKnowledges(int inventionId)
+    {
+        return this.inventionsKnowledges.get(inventionId);
+    }
+
+    public boolean isEnded()
+    {
+        return this.isEnded;
+    }
+
+    public int getWinnerSeat()
+    {
+        return this.winnerSeat;
+    }
+}
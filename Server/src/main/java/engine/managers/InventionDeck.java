@@ -0,0 +1,137 @@
+package engine.managers;
+
+import engine.core.Invention;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Classe représentant le paquet d'inventions d'une partie.
+ * Le paquet ne contient que l'état des tirages : les inventions sont créées à partir du catalogue partagé au moment
+ * où elles sont tirées, aucune donnée n'est donc partagée entre deux parties.
+ * Les inventions sont mélangées à la création du paquet dans une pioche par époque et une pioche commune à toutes les
+ * époques : un tirage consiste à retirer le dessus d'une pioche.
+ * @author Noé Mourton-Comte
+ */
+public class InventionDeck
+{
+    private final List<InventionManager.InventionEntry> inventionsEntries;
+    private final BitSet pickedEntries;
+
+    //Pioches indexées par époque, suivies de la pioche commune ; chacune contient des positions dans le catalogue.
+    //Une invention tirée dans une pioche reste dans les autres, elle y est ignorée lorsqu'elle arrive sur le dessus
+    private final int[][] piles;
+    private final int[] pilesSizes;
+    private final int allErasPile;
+
+    InventionDeck(List<InventionManager.InventionEntry> inventionsEntries, Random random)
+    {
+        this.inventionsEntries = inventionsEntries;
+        this.pickedEntries = new BitSet(inventionsEntries.size());
+
+        int maxEra = 0;
+        for(InventionManager.InventionEntry inventionEntry : inventionsEntries)
+            maxEra = Math.max(maxEra, inventionEntry.getEra());
+
+        this.allErasPile = maxEra + 1;
+        this.piles = new int[maxEra + 2][];
+        this.pilesSizes = new int[maxEra + 2];
+
+        for(InventionManager.InventionEntry inventionEntry : inventionsEntries)
+            this.pilesSizes[inventionEntry.getEra()]++;
+        this.pilesSizes[this.allErasPile] = inventionsEntries.size();
+
+        for(int pile = 0; pile < this.piles.length; pile++)
+        {
+            this.piles[pile] = new int[this.pilesSizes[pile]];
+            this.pilesSizes[pile] = 0;
+        }
+
+        for(int index = 0; index < inventionsEntries.size(); index++)
+        {
+            int era = inventionsEntries.get(index).getEra();
+            this.piles[era][this.pilesSizes[era]++] = index;
+            this.piles[this.allErasPile][this.pilesSizes[this.allErasPile]++] = index;
+        }
+
+        for(int[] pile : this.piles)
+            shuffle(pile, random);
+    }
+
+    /**
+     * Méthode permettant de mélanger une pioche (mélange de Fisher-Yates)
+     * @param pile pioche à mélanger
+     * @param random générateur de nombres aléatoires
+     */
+    private static void shuffle(int[] pile, Random random)
+    {
+        for(int i = pile.length - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            int entry = pile[i];
+            pile[i] = pile[j];
+            pile[j] = entry;
+        }
+    }
+
+    /**
+     * Fonction permettant de tirer l'invention du dessus d'une pioche
+     * @param pile pioche
+     * @return nouvelle invention, ou null si la pioche est épuisée
+     */
+    private Invention pickFromPile(int pile)
+    {
+        while(this.pilesSizes[pile] > 0)
+        {
+            int index = this.piles[pile][--this.pilesSizes[pile]];
+
+            if(!this.pickedEntries.get(index))
+            {
+                this.pickedEntries.set(index);
+                return this.inventionsEntries.get(index).createInvention();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Fonction permettant de récupérer une invention qui n'a pas encore été tirée
+     * @return Invention
+     */
+    public Invention pickInvention()
+    {
+        return this.pickFromPile(this.allErasPile);
+    }
+
+    /**
+     * Fonction permettant de récupérer une invention qui n'a pas encore été tirée
+     * @param era époque de l'invention
+     * @return nouvelle invention.
+     */
+    public Invention pickInvention(int era)
+    {
+        if(era < 0 || era >= this.allErasPile)
+            return null;
+
+        return this.pickFromPile(era);
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre d'inventions du catalogue, les identifiants des inventions sont
+     * compris entre 0 et ce nombre
+     */
+    public int getCatalogSize()
+    {
+        return this.inventionsEntries.size();
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre d'inventions restant dans le paquet
+     */
+    public int getRemainingInventionsCount()
+    {
+        return this.inventionsEntries.size() - this.pickedEntries.cardinality();
+    }
+}
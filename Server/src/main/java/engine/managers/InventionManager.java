@@ -5,10 +5,11 @@ import engine.core.Knowledges;
 import engine.managers.exceptions.DuplicateInventionException;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Classe permettant la gestion des inventions.
+ * Le catalogue des inventions est construit une seule fois puis partagé, en lecture seule, par toutes les parties :
+ * chaque partie tire ses inventions dans son propre paquet (voir InventionDeck).
  * @author Barry Hezam, Alexandre Ciarafoni
  */
 public class InventionManager
@@ -16,123 +17,122 @@ public class InventionManager
     public static final int IMPLEMENTED_INVENTIONS_COUNT = 15;
 
     /**
-     * Classe permettant de trier les inventions en fonction de leur disponibilité.
+     * Classe décrivant une invention du catalogue, à partir de laquelle chaque partie crée sa propre invention.
      */
-    private class InventionEntry
+    static final class InventionEntry
     {
-        private Invention invention;
-        private boolean isPicked;
+        private final int id;
+        private final String name;
+        private final Knowledges requiredKnowledges;
+        private final int era;
 
-        private InventionEntry(Invention invention)
+        private InventionEntry(int id, String name, Knowledges requiredKnowledges, int era)
         {
-            this.invention = invention;
-            this.isPicked = false;
+            this.id = id;
+            this.name = name;
+            this.requiredKnowledges = requiredKnowledges;
+            this.era = era;
+        }
+
+        int getEra()
+        {
+            return this.era;
+        }
+
+        /**
+         * Fonction permettant de créer une nouvelle invention à partir de sa description
+         */
+        Invention createInvention()
+        {
+            return new Invention(this.id, this.name, new Knowledges(this.requiredKnowledges.getPhys(), this.requiredKnowledges.getChem(),
+                    this.requiredKnowledges.getMech(), this.requiredKnowledges.getMath()), this.era);
         }
     }
 
-    private List<InventionEntry> inventionsEntries;
+    private volatile List<InventionEntry> inventionsEntries;
 
+    /**
+     * Méthode permettant de construire le catalogue des inventions, celui-ci n'est construit qu'une seule fois
+     * @throws DuplicateInventionException
+     */
     public void load() throws DuplicateInventionException
     {
+        if(this.inventionsEntries != null)
+            return;
+
         synchronized (this)
         {
-            //Utilisation d'une liste "thread safe".
-            this.inventionsEntries = Collections.synchronizedList(new ArrayList<InventionEntry>());
+            if(this.inventionsEntries != null)
+                return;
+
+            List<InventionEntry> inventionsEntries = new ArrayList<>();
 
             //Création des inventions...
 
             //Époque 1
-            this.createInvention("Feu", new Knowledges(3, 1, 0, 1), 1);
-            this.createInvention("Arc", new Knowledges(1, 0, 2, 2), 1);
-            this.createInvention("Hâche", new Knowledges(2, 0, 2, 1), 1);
-            this.createInvention("Canoë", new Knowledges(2, 0, 1, 2), 1);
-            this.createInvention("Signaux de fumées", new Knowledges(1, 3, 0, 1), 1);
+            this.createInvention(inventionsEntries, "Feu", new Knowledges(3, 1, 0, 1), 1);
+            this.createInvention(inventionsEntries, "Arc", new Knowledges(1, 0, 2, 2), 1);
+            this.createInvention(inventionsEntries, "Hâche", new Knowledges(2, 0, 2, 1), 1);
+            this.createInvention(inventionsEntries, "Canoë", new Knowledges(2, 0, 1, 2), 1);
+            this.createInvention(inventionsEntries, "Signaux de fumées", new Knowledges(1, 3, 0, 1), 1);
 
             //Époque 2
-            this.createInvention("Arbalète médiévale", new Knowledges(1, 0, 4, 2), 2);
-            this.createInvention("Pistolet", new Knowledges(2, 3, 1, 1), 2);
-            this.createInvention("Montgolfière", new Knowledges(1, 3, 1, 2), 2);
-            this.createInvention("Caravelle", new Knowledges(1, 1, 3, 2), 2);
-            this.createInvention("Feu d'artifice", new Knowledges(3, 4, 0, 0), 2);
+            this.createInvention(inventionsEntries, "Arbalète médiévale", new Knowledges(1, 0, 4, 2), 2);
+            this.createInvention(inventionsEntries, "Pistolet", new Knowledges(2, 3, 1, 1), 2);
+            this.createInvention(inventionsEntries, "Montgolfière", new Knowledges(1, 3, 1, 2), 2);
+            this.createInvention(inventionsEntries, "Caravelle", new Knowledges(1, 1, 3, 2), 2);
+            this.createInvention(inventionsEntries, "Feu d'artifice", new Knowledges(3, 4, 0, 0), 2);
 
             //Époque 3
-            this.createInvention("Mitrailleuse Gatling", new Knowledges(1, 2, 4, 2), 3);
-            this.createInvention("Revolver", new Knowledges(1, 2, 3, 3), 3);
-            this.createInvention("Automobile", new Knowledges(1, 3, 4, 1), 3);
-            this.createInvention("Zeppelin", new Knowledges(2, 4, 1, 2), 3);
-            this.createInvention("Téléphone", new Knowledges(3, 1, 2, 3), 3);
+            this.createInvention(inventionsEntries, "Mitrailleuse Gatling", new Knowledges(1, 2, 4, 2), 3);
+            this.createInvention(inventionsEntries, "Revolver", new Knowledges(1, 2, 3, 3), 3);
+            this.createInvention(inventionsEntries, "Automobile", new Knowledges(1, 3, 4, 1), 3);
+            this.createInvention(inventionsEntries, "Zeppelin", new Knowledges(2, 4, 1, 2), 3);
+            this.createInvention(inventionsEntries, "Téléphone", new Knowledges(3, 1, 2, 3), 3);
+
+            //Le catalogue est publié une fois complet, il n'est plus jamais modifié
+            this.inventionsEntries = Collections.unmodifiableList(inventionsEntries);
         }
     }
 
     /**
-     * Méthode permettant d'initialiser une invention et de l'ajouter au dictonnaire des inventions disponibles
+     * Méthode permettant de décrire une invention et de l'ajouter au catalogue en cours de construction
+     * @param inventionsEntries catalogue en cours de construction
      * @param name Nom de l'invention
      * @param requiredKnowledges Connaissances requises pour terminer l'invention
      * @param era Epoque de l'invention
      * @throws DuplicateInventionException
      */
-    private void createInvention(String name, Knowledges requiredKnowledges, int era) throws DuplicateInventionException
+    private void createInvention(List<InventionEntry> inventionsEntries, String name, Knowledges requiredKnowledges, int era)
+            throws DuplicateInventionException
     {
-        synchronized (this.inventionsEntries)
-        {
-            if (this.inventionsEntries.stream()
-                    .filter(entry -> entry.invention.getName() == name)
-                    .count() > 0) {
-                throw new DuplicateInventionException("Impossible de créer plusieurs inventions ayant le même nom.");
-            }
-
-            Invention newInvention = new Invention(name, requiredKnowledges, era);
-            this.inventionsEntries.add(new InventionEntry(newInvention));
-        }
+        if (inventionsEntries.stream().anyMatch(entry -> entry.name.equals(name)))
+            throw new DuplicateInventionException("Impossible de créer plusieurs inventions ayant le même nom.");
+
+        //L'identifiant d'une invention est sa position dans le catalogue
+        inventionsEntries.add(new InventionEntry(inventionsEntries.size(), name, requiredKnowledges, era));
     }
 
     /**
-     * Fonction permettant de récupérer une invention qui n'a pas encore été tirée
-     * @return Invention
+     * Fonction permettant de créer un nouveau paquet d'inventions pour une partie
+     * @return paquet contenant la totalité des inventions du catalogue
+     * @throws DuplicateInventionException
      */
-    public Invention pickInvention()
+    public InventionDeck createDeck() throws DuplicateInventionException
     {
-        synchronized (this.inventionsEntries)
-        {
-            Invention pickedInvention = null;
-
-            ArrayList<InventionEntry> inventionsNotPicked = this.inventionsEntries.stream()
-                    .filter(entry -> !entry.isPicked)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            if (inventionsNotPicked.size() >= 1) {
-                InventionEntry inventionEntry = inventionsNotPicked.get(0);
-                inventionEntry.isPicked = true;
-
-                pickedInvention = inventionsNotPicked.get(0).invention;
-            }
-
-            return pickedInvention;
-        }
+        return this.createDeck(new Random());
     }
 
     /**
-     * Fonction permettant de récupérer une invention qui n'a pas encore été tirée
-     * @param era époque de l'invention
-     * @return nouvelle invention.
+     * Fonction permettant de créer un nouveau paquet d'inventions pour une partie, mélangé par un générateur donné
+     * @param random générateur utilisé pour mélanger le paquet (deux générateurs de même graine donnent le même paquet)
+     * @return paquet contenant la totalité des inventions du catalogue
+     * @throws DuplicateInventionException
      */
-    public Invention pickInvention(int era)
+    public InventionDeck createDeck(Random random) throws DuplicateInventionException
     {
-        synchronized (this.inventionsEntries)
-        {
-            Invention pickedInvention = null;
-
-            ArrayList<InventionEntry> inventionsNotPickedForEra = this.inventionsEntries.stream()
-                    .filter(entry -> !entry.isPicked && entry.invention.getEra() == era)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            if (inventionsNotPickedForEra.size() >= 1) {
-                InventionEntry inventionEntry = inventionsNotPickedForEra.get(0);
-                inventionEntry.isPicked = true;
-
-                pickedInvention = inventionsNotPickedForEra.get(0).invention;
-            }
-
-            return pickedInvention;
-        }
+        this.load();
+        return new InventionDeck(this.inventionsEntries, random);
     }
 
     public int getAvalaibleInventionsCount()
@@ -145,4 +145,4 @@ public class InventionManager
         return count;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package engine.managers;
+
+import engine.core.Inventor;
+import engine.core.Team;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classe représentant le paquet d'inventeurs d'une partie.
+ * Le paquet ne contient que l'état des tirages : les inventeurs sont créés à partir du catalogue partagé au moment
+ * où ils sont tirés, aucune donnée n'est donc partagée entre deux parties.
+ * @author Noé Mourton-Comte
+ */
+public class InventorDeck
+{
+    private final List<InventorManager.InventorEntry> inventorsEntries;
+    private final Map<Team, int[]> teamsRosters;
+    private final BitSet pickedEntries;
+
+    InventorDeck(List<InventorManager.InventorEntry> inventorsEntries, Map<Team, int[]> teamsRosters)
+    {
+        this.inventorsEntries = inventorsEntries;
+        this.teamsRosters = teamsRosters;
+        this.pickedEntries = new BitSet(inventorsEntries.size());
+    }
+
+    /**
+     * Fonction permettant de récupérer un inventeur qui n'a pas encore été tiré
+     * @return Inventor
+     */
+    public Inventor pickInventor()
+    {
+        Inventor pickedInventor = null;
+
+        int index = this.pickedEntries.nextClearBit(0);
+        if(index < this.inventorsEntries.size())
+        {
+            this.pickedEntries.set(index);
+            pickedInventor = this.inventorsEntries.get(index).createInventor();
+        }
+
+        return pickedInventor;
+    }
+
+    /**
+     * Fonction permettant de récupérer une équipe d'inventeur
+     * @param teamColor couleur de l'équipe
+     */
+    public List<Inventor> pickInventor(Team teamColor)
+    {
+        int[] teamRoster = this.teamsRosters.get(teamColor);
+        ArrayList<Inventor> inventorsTeam = new ArrayList<>(teamRoster.length);
+
+        for(int index : teamRoster)
+        {
+            this.pickedEntries.set(index);
+            inventorsTeam.add(this.inventorsEntries.get(index).createInventor());
+        }
+
+        return inventorsTeam;
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre d'inventeurs du catalogue, les identifiants des inventeurs sont
+     * compris entre 0 et ce nombre
+     */
+    public int getCatalogSize()
+    {
+        return this.inventorsEntries.size();
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre d'inventeurs restant dans le paquet
+     */
+    public int getRemainingInventorsCount()
+    {
+        return this.inventorsEntries.size() - this.pickedEntries.cardinality();
+    }
+}
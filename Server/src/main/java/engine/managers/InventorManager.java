@@ -1,16 +1,16 @@
 package engine.managers;
 
-import engine.core.Invention;
 import engine.core.Inventor;
 import engine.core.Knowledges;
 import engine.core.Team;
 import engine.managers.exceptions.DuplicateInventorException;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Classe permettant la gestion des inventeurs.
+ * Le catalogue des inventeurs est construit une seule fois puis partagé, en lecture seule, par toutes les parties :
+ * chaque partie tire ses inventeurs dans son propre paquet (voir InventorDeck).
  * @author Sappa Valentin
  */
 public class InventorManager
@@ -18,107 +18,131 @@ public class InventorManager
     public static final int IMPLEMENTED_INVENTORS_COUNT = 8;
 
     /**
-     * Classe qui permet de trier les inventeurs en fonction de leur disponibilité.
+     * Classe décrivant un inventeur du catalogue, à partir de laquelle chaque partie crée son propre inventeur.
      */
-    private class InventorEntry
+    static final class InventorEntry
     {
-        private Inventor inventor;
-        private boolean isPicked;
+        private final int id;
+        private final String name;
+        private final Knowledges initialKnowledges;
+        private final Team team;
 
-        private InventorEntry(Inventor inventor)
+        private InventorEntry(int id, String name, Knowledges initialKnowledges, Team team)
         {
-            this.inventor = inventor;
-            this.isPicked = false;
+            this.id = id;
+            this.name = name;
+            this.initialKnowledges = initialKnowledges;
+            this.team = team;
         }
-    }
-
-    private List<InventorEntry> inventorsEntries;
 
-    public void load() throws DuplicateInventorException {
-        synchronized (this)
+        Team getTeam()
         {
-            //Utilisation d'une liste "thread safe".
-            this.inventorsEntries = Collections.synchronizedList(new ArrayList<InventorEntry>());
+            return this.team;
+        }
 
-            //Création des inventeurs...
-            this.createInventor("Albert Einstein", new Knowledges(1, 0, 0, 1), Team.Rouge);
-            this.createInventor("Thomas Edison", new Knowledges(1, 0, 1, 0), Team.Rouge);
-            this.createInventor("Marie Curie", new Knowledges(1, 1, 0, 0), Team.Rouge);
-            this.createInventor("Nikola Tesla", new Knowledges(0, 0, 2, 0), Team.Rouge);
-
-            this.createInventor("Blaise Pascal", new Knowledges(0, 0, 1, 1), Team.Jaune);
-            this.createInventor("Robert Boyle", new Knowledges(0, 2, 0, 0), Team.Jaune);
-            this.createInventor("Galileo Galilei", new Knowledges(1, 1, 0, 0), Team.Jaune);
-            this.createInventor("Isaac Newton", new Knowledges(1, 0, 1, 0), Team.Jaune);
+        /**
+         * Fonction permettant de créer un nouvel inventeur à partir de sa description
+         */
+        Inventor createInventor()
+        {
+            return new Inventor(this.id, this.name, new Knowledges(this.initialKnowledges.getPhys(), this.initialKnowledges.getChem(),
+                    this.initialKnowledges.getMech(), this.initialKnowledges.getMath()), this.team);
         }
     }
 
+    //Positions dans le catalogue des inventeurs de chaque équipe, publiées en même temps que le catalogue
+    private Map<Team, int[]> teamsRosters;
+    private volatile List<InventorEntry> inventorsEntries;
+
     /**
-     * Méthode permettant d'initialiser un inventeur et de l'ajouter au dictonnaire des inventeurs disponibles
-     * @param name Nom de l'inventeur
-     * @param initialKnowledges Connaissances initiales de l'inventeur
+     * Méthode permettant de construire le catalogue des inventeurs, celui-ci n'est construit qu'une seule fois
      * @throws DuplicateInventorException
      */
-    private void createInventor(String name, Knowledges initialKnowledges, Team team) throws DuplicateInventorException
+    public void load() throws DuplicateInventorException
     {
-        synchronized (this.inventorsEntries)
+        if(this.inventorsEntries != null)
+            return;
+
+        synchronized (this)
         {
-            if (this.inventorsEntries.stream()
-                    .filter(entry -> entry.inventor.getName() == name)
-                    .count() > 0) {
-                throw new DuplicateInventorException("Impossible de créer plusieurs inventeurs ayant le même nom.");
-            }
-
-            Inventor newInventor = new Inventor(name, initialKnowledges, team);
-            this.inventorsEntries.add(new InventorEntry(newInventor));
+            if(this.inventorsEntries != null)
+                return;
+
+            List<InventorEntry> inventorsEntries = new ArrayList<>();
+            Set<String> inventorsNames = new HashSet<>();
+
+            //Création des inventeurs...
+            this.createInventor(inventorsEntries, inventorsNames, "Albert Einstein", new Knowledges(1, 0, 0, 1), Team.Rouge);
+            this.createInventor(inventorsEntries, inventorsNames, "Thomas Edison", new Knowledges(1, 0, 1, 0), Team.Rouge);
+            this.createInventor(inventorsEntries, inventorsNames, "Marie Curie", new Knowledges(1, 1, 0, 0), Team.Rouge);
+            this.createInventor(inventorsEntries, inventorsNames, "Nikola Tesla", new Knowledges(0, 0, 2, 0), Team.Rouge);
+
+            this.createInventor(inventorsEntries, inventorsNames, "Blaise Pascal", new Knowledges(0, 0, 1, 1), Team.Jaune);
+            this.createInventor(inventorsEntries, inventorsNames, "Robert Boyle", new Knowledges(0, 2, 0, 0), Team.Jaune);
+            this.createInventor(inventorsEntries, inventorsNames, "Galileo Galilei", new Knowledges(1, 1, 0, 0), Team.Jaune);
+            this.createInventor(inventorsEntries, inventorsNames, "Isaac Newton", new Knowledges(1, 0, 1, 0), Team.Jaune);
+
+            this.teamsRosters = buildTeamsRosters(inventorsEntries);
+
+            //Le catalogue est publié une fois complet, il n'est plus jamais modifié
+            this.inventorsEntries = Collections.unmodifiableList(inventorsEntries);
         }
     }
 
     /**
-     * Fonction permettant de récupérer un inventeur qui n'a pas encore été tirée
-     * @return Inventor
+     * Fonction permettant d'indexer le catalogue par équipe
+     * @param inventorsEntries catalogue complet
+     * @return positions dans le catalogue des inventeurs de chaque équipe (tableau vide pour une équipe sans inventeur)
      */
-    public Inventor pickInventor()
+    private static Map<Team, int[]> buildTeamsRosters(List<InventorEntry> inventorsEntries)
     {
-        synchronized (this.inventorsEntries)
+        int[] teamsSizes = new int[Team.values().length];
+        for(InventorEntry inventorEntry : inventorsEntries)
+            teamsSizes[inventorEntry.getTeam().ordinal()]++;
+
+        EnumMap<Team, int[]> teamsRosters = new EnumMap<>(Team.class);
+        for(Team team : Team.values())
+        {
+            teamsRosters.put(team, new int[teamsSizes[team.ordinal()]]);
+            teamsSizes[team.ordinal()] = 0;
+        }
+
+        for(int index = 0; index < inventorsEntries.size(); index++)
         {
-            Inventor pickedInventor = null;
-
-            ArrayList<InventorEntry> inventorsNotPicked = this.inventorsEntries.stream()
-                    .filter(entry -> !entry.isPicked)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            if (inventorsNotPicked.size() >= 1) {
-                InventorEntry inventorEntry = inventorsNotPicked.get(0);
-                inventorEntry.isPicked = true;
-
-                pickedInventor = inventorsNotPicked.get(0).inventor;
-            }
-            return pickedInventor;
+            Team team = inventorsEntries.get(index).getTeam();
+            teamsRosters.get(team)[teamsSizes[team.ordinal()]++] = index;
         }
+
+        return Collections.unmodifiableMap(teamsRosters);
     }
 
     /**
-     * Fonction permettant de récupérer une équipe d'inventeur
-     * @param teamColor couleur de l'équipe
+     * Méthode permettant de décrire un inventeur et de l'ajouter au catalogue en cours de construction
+     * @param inventorsEntries catalogue en cours de construction
+     * @param inventorsNames noms des inventeurs déjà présents dans le catalogue
+     * @param name Nom de l'inventeur
+     * @param initialKnowledges Connaissances initiales de l'inventeur
+     * @throws DuplicateInventorException
      */
-    public List<Inventor> pickInventor(Team teamColor)
+    private void createInventor(List<InventorEntry> inventorsEntries, Set<String> inventorsNames, String name,
+                                Knowledges initialKnowledges, Team team) throws DuplicateInventorException
     {
-        synchronized (this.inventorsEntries)
-        {
-            ArrayList<Inventor> inventorsTeam = new ArrayList<>();
-
-            ArrayList<InventorEntry> inventorsEntries = this.inventorsEntries.stream()
-                    .filter(entry -> entry.inventor.getTeam() == teamColor)
-                    .collect(Collectors.toCollection(ArrayList::new));
+        if (!inventorsNames.add(name))
+            throw new DuplicateInventorException("Impossible de créer plusieurs inventeurs ayant le même nom.");
 
-            for (InventorEntry inventorEntry : inventorsEntries)
-            {
-                inventorEntry.isPicked = true;
-                inventorsTeam.add(inventorEntry.inventor);
-            }
+        //L'identifiant d'un inventeur est sa position dans le catalogue
+        inventorsEntries.add(new InventorEntry(inventorsEntries.size(), name, initialKnowledges, team));
+    }
 
-            return inventorsTeam;
-        }
+    /**
+     * Fonction permettant de créer un nouveau paquet d'inventeurs pour une partie
+     * @return paquet contenant la totalité des inventeurs du catalogue
+     * @throws DuplicateInventorException
+     */
+    public InventorDeck createDeck() throws DuplicateInventorException
+    {
+        this.load();
+        return new InventorDeck(this.inventorsEntries, this.teamsRosters);
     }
 
     /**
@@ -132,4 +156,4 @@ public class InventorManager
             count = this.inventorsEntries.size();
         return count;
     }
-}
\ No newline at end of file
+}
@@ -3,11 +3,13 @@ package engine.reflection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Classe représentant un "Singleton" générique.
+ * Les instances sont conservées dans une table concurrente : une fois créée, une instance est lue sans aucun verrou,
+ * les parties jouées en parallèle ne se bloquent donc pas entre elles.
  * @author Noé Comte
  * @source http://neutrofoton.github.io/blog/2013/08/29/generic-singleton-pattern-in-java/
  */
@@ -18,35 +20,42 @@ public class Singleton
     private static final Singleton instance = new Singleton();
 
     @SuppressWarnings("rawtypes")
-    private Map<Class, Object> mapHolder = new HashMap<Class, Object>();
+    private Map<Class, Object> mapHolder = new ConcurrentHashMap<Class, Object>();
 
     private Singleton() {}
 
     @SuppressWarnings("unchecked")
     public static <T> T getInstance(Class<T> classOf)
     {
-        synchronized(instance){
+        //Lecture sans verrou, seule la première demande d'une classe passe par la création de l'instance
+        Object obj = instance.mapHolder.get(classOf);
+        if(obj == null)
+            obj = instance.mapHolder.computeIfAbsent(classOf, Singleton::createInstance);
 
-            if(!instance.mapHolder.containsKey(classOf)){
-
-                T obj = null;
-
-                try {
-                    obj = classOf.newInstance();
-                } catch (InstantiationException e) {
-                    e.printStackTrace();
-                    log.error(String.format("Erreur d'instanciation lors de l'appel de la méthode getInstance<%s>", classOf.getTypeName()));
-                } catch (IllegalAccessException e) {
-                    e.printStackTrace();e.printStackTrace();
-                    log.error(String.format("Tentative d'accès non autorisé lors de l'appel de la méthode getInstance<%s>", classOf.getTypeName()));
-                }
-
-                instance.mapHolder.put(classOf, obj);
-            }
+        return (T)obj;
+    }
 
-            return (T)instance.mapHolder.get(classOf);
+    /**
+     * Fonction permettant de créer l'instance d'une classe
+     * @param classOf classe à instancier
+     * @return instance, ou null si la classe ne peut pas être instanciée
+     */
+    @SuppressWarnings("rawtypes")
+    private static Object createInstance(Class classOf)
+    {
+        Object obj = null;
 
+        try {
+            obj = classOf.newInstance();
+        } catch (InstantiationException e) {
+            e.printStackTrace();
+            log.error("Erreur d'instanciation lors de l'appel de la méthode getInstance<{}>", classOf.getTypeName());
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
+            log.error("Tentative d'accès non autorisé lors de l'appel de la méthode getInstance<{}>", classOf.getTypeName());
         }
+
+        return obj;
     }
 
     public Object clone() throws CloneNotSupportedException {
@@ -0,0 +1,280 @@
+package engine.scheduler;
+
+import engine.Game;
+import engine.history.GameEventLog;
+import engine.history.GameHistory;
+import engine.scheduler.exceptions.GameRejectedException;
+import network.GameClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Classe permettant de planifier l'exécution des parties.
+ * Les parties ne bloquent aucun thread pendant qu'un client réfléchit : un petit ensemble de travailleurs
+ * traite les réponses de toutes les parties en cours. Le nombre de parties en cours est borné, les parties
+ * suivantes attendent dans une file bornée et au-delà de cette limite les nouvelles parties sont refusées.
+ * @author Noé Mourton-Comte
+ */
+public class GameScheduler
+{
+    private static final Logger log = LoggerFactory.getLogger(GameScheduler.class);
+
+    public static final int DEFAULT_MAX_RUNNING_GAMES = 10000;
+    public static final int DEFAULT_MAX_QUEUED_GAMES = 4096;
+
+    private final ExecutorService workers;
+    private final BiFunction<List<GameClient>, Executor, Game> gameFactory;
+
+    private final int maxRunningGames;
+    private final int maxQueuedGames;
+
+    private final ConcurrentHashMap<Long, ScheduledGame> liveGames;
+    private final ConcurrentHashMap<UUID, ScheduledGame> gamesBySession;
+    private final ArrayDeque<ScheduledGame> queuedGames;
+    private int runningGamesCount;
+    private boolean isShutdown;
+
+    private volatile GameEventLog eventLog;
+
+    private final AtomicLong nextGameId;
+    private final AtomicLong finishedGamesCount;
+    private final AtomicLong failedGamesCount;
+
+    public GameScheduler()
+    {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_RUNNING_GAMES, DEFAULT_MAX_QUEUED_GAMES);
+    }
+
+    public GameScheduler(int workersCount, int maxRunningGames, int maxQueuedGames)
+    {
+        this(workersCount, maxRunningGames, maxQueuedGames, Game::new);
+    }
+
+    /**
+     * Constructeur du planificateur
+     * @param workersCount nombre de travailleurs traitant les parties
+     * @param maxRunningGames nombre maximum de parties jouées simultanément
+     * @param maxQueuedGames nombre maximum de parties en attente d'admission
+     * @param gameFactory fonction permettant de créer une partie à partir de ses joueurs et de l'exécuteur des travailleurs
+     */
+    public GameScheduler(int workersCount, int maxRunningGames, int maxQueuedGames,
+                         BiFunction<List<GameClient>, Executor, Game> gameFactory)
+    {
+        this.gameFactory = gameFactory;
+        this.maxRunningGames = maxRunningGames;
+        this.maxQueuedGames = maxQueuedGames;
+
+        this.liveGames = new ConcurrentHashMap<>();
+        this.gamesBySession = new ConcurrentHashMap<>();
+        this.queuedGames = new ArrayDeque<>();
+        this.runningGamesCount = 0;
+        this.isShutdown = false;
+
+        this.nextGameId = new AtomicLong();
+        this.finishedGamesCount = new AtomicLong();
+        this.failedGamesCount = new AtomicLong();
+
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workersCount, runnable ->
+        {
+            Thread worker = new Thread(runnable, String.format("game-worker-%d", workerNumber.incrementAndGet()));
+            worker.setDaemon(true);
+            return worker;
+        });
+    }
+
+    /**
+     * Méthode permettant d'enregistrer les événements des prochaines parties dans un journal
+     * @param eventLog journal des événements, ou null pour ne plus enregistrer les parties
+     */
+    public void setEventLog(GameEventLog eventLog)
+    {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * Fonction permettant de soumettre une nouvelle partie au planificateur
+     * @param players clients participant à la partie
+     * @return la partie planifiée
+     * @throws GameRejectedException si la file d'attente est pleine ou si le planificateur est arrêté
+     */
+    public ScheduledGame submit(List<GameClient> players) throws GameRejectedException
+    {
+        ScheduledGame scheduledGame;
+
+        synchronized (this.queuedGames)
+        {
+            if(this.isShutdown || (this.runningGamesCount >= this.maxRunningGames && this.queuedGames.size() >= this.maxQueuedGames))
+            {
+                throw new GameRejectedException(String.format("Impossible de planifier une nouvelle partie (%d partie(s) en cours, %d en attente).",
+                        this.runningGamesCount, this.queuedGames.size()));
+            }
+
+            long gameId = this.nextGameId.incrementAndGet();
+            Game game = this.gameFactory.apply(players, this.workers);
+
+            //L'identifiant enregistré inclut celui de l'exécution : les parties d'un redémarrage précédent ne sont pas mélangées
+            GameEventLog eventLog = this.eventLog;
+            if(eventLog != null)
+            {
+                game.setHistory(new GameHistory(eventLog, eventLog.getLoggedGameId(gameId)));
+                log.info("La partie n°{} est enregistrée dans l'historique sous l'identifiant {}.", gameId,
+                        eventLog.getLoggedGameId(gameId));
+            }
+
+            scheduledGame = new ScheduledGame(gameId, game, players, this);
+            this.liveGames.put(scheduledGame.getId(), scheduledGame);
+
+            for(GameClient player : players)
+            {
+                this.gamesBySession.put(player.getSessionId(), scheduledGame);
+            }
+
+            if(this.runningGamesCount < this.maxRunningGames)
+                this.start(scheduledGame);
+            else
+                this.queuedGames.add(scheduledGame);
+        }
+
+        log.info("La partie n°{} a été planifiée ({} partie(s) en cours, {} en attente).",
+                scheduledGame.getId(), this.getRunningGamesCount(), this.getQueuedGamesCount());
+
+        return scheduledGame;
+    }
+
+    /**
+     * Méthode permettant d'admettre une partie : son démarrage est confié à un travailleur
+     * @param scheduledGame partie admise
+     */
+    private void start(ScheduledGame scheduledGame)
+    {
+        this.runningGamesCount++;
+        this.workers.execute(scheduledGame);
+    }
+
+    /**
+     * Méthode appelée par une partie planifiée lorsque celle-ci est terminée, la prochaine partie en attente est alors admise
+     * @param scheduledGame partie terminée
+     */
+    void onGameCompleted(ScheduledGame scheduledGame)
+    {
+        this.liveGames.remove(scheduledGame.getId());
+
+        for(GameClient player : scheduledGame.getPlayers())
+        {
+            this.gamesBySession.remove(player.getSessionId(), scheduledGame);
+        }
+
+        if(scheduledGame.getStatus() == GameStatus.FAILED)
+            this.failedGamesCount.incrementAndGet();
+        else
+            this.finishedGamesCount.incrementAndGet();
+
+        synchronized (this.queuedGames)
+        {
+            this.runningGamesCount--;
+
+            ScheduledGame nextGame = this.queuedGames.poll();
+            if(nextGame != null)
+                this.start(nextGame);
+            else if(this.isShutdown && this.runningGamesCount == 0)
+                this.workers.shutdown();
+        }
+    }
+
+    /**
+     * Méthode permettant d'arrêter le planificateur : les nouvelles parties sont refusées,
+     * les parties en cours et en attente sont jouées jusqu'à leur terme
+     */
+    public void shutdown()
+    {
+        synchronized (this.queuedGames)
+        {
+            this.isShutdown = true;
+
+            if(this.runningGamesCount == 0)
+                this.workers.shutdown();
+        }
+    }
+
+    /**
+     * Fonction permettant d'attendre la fin de toutes les parties après l'arrêt du planificateur
+     * @param timeout durée maximale d'attente
+     * @param unit unité de la durée
+     * @return vrai si toutes les parties sont terminées
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        return this.workers.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Fonction permettant de récupérer une partie en attente ou en cours par son identifiant
+     * @param id identifiant de la partie
+     */
+    public ScheduledGame getGame(long id)
+    {
+        return this.liveGames.get(id);
+    }
+
+    /**
+     * Fonction permettant de récupérer la partie en attente ou en cours d'un client
+     * @param sessionId identifiant de session du client
+     */
+    public ScheduledGame getGameBySession(UUID sessionId)
+    {
+        return this.gamesBySession.get(sessionId);
+    }
+
+    /**
+     * Fonction permettant de récupérer les parties en attente ou en cours
+     */
+    public Collection<ScheduledGame> getLiveGames()
+    {
+        return Collections.unmodifiableCollection(this.liveGames.values());
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de parties en cours
+     */
+    public int getRunningGamesCount()
+    {
+        synchronized (this.queuedGames)
+        {
+            return this.runningGamesCount;
+        }
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de parties en attente d'admission
+     */
+    public int getQueuedGamesCount()
+    {
+        synchronized (this.queuedGames)
+        {
+            return this.queuedGames.size();
+        }
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de parties terminées normalement
+     */
+    public long getFinishedGamesCount()
+    {
+        return this.finishedGamesCount.get();
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de parties terminées sur une erreur
+     */
+    public long getFailedGamesCount()
+    {
+        return this.failedGamesCount.get();
+    }
+}
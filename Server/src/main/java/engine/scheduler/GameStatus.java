@@ -0,0 +1,13 @@
+package engine.scheduler;
+
+/**
+ * Énumération des différents états d'une partie confiée au planificateur.
+ * @author Noé Mourton-Comte
+ */
+public enum GameStatus
+{
+    QUEUED,
+    RUNNING,
+    FINISHED,
+    FAILED;
+}
@@ -0,0 +1,153 @@
+package engine.scheduler;
+
+import engine.Game;
+import engine.GameListener;
+import network.GameClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Classe représentant une partie prise en charge par le planificateur, ainsi que son cycle de vie.
+ * @author Noé Mourton-Comte
+ */
+public class ScheduledGame implements Runnable, GameListener
+{
+    private static final Logger log = LoggerFactory.getLogger(ScheduledGame.class);
+
+    private final long id;
+    private final Game game;
+    private final List<GameClient> players;
+    private final GameScheduler scheduler;
+
+    private volatile GameStatus status;
+    private final AtomicBoolean isCompleted;
+
+    private final long submittedAt;
+    private volatile long startedAt;
+    private volatile long endedAt;
+
+    ScheduledGame(long id, Game game, List<GameClient> players, GameScheduler scheduler)
+    {
+        this.id = id;
+        this.game = game;
+        this.players = players;
+        this.scheduler = scheduler;
+
+        this.status = GameStatus.QUEUED;
+        this.isCompleted = new AtomicBoolean(false);
+        this.submittedAt = System.currentTimeMillis();
+
+        this.game.addListener(this);
+    }
+
+    /**
+     * Méthode exécutée par un travailleur du planificateur lorsque la partie est admise :
+     * la partie est initialisée puis le premier tour est demandé, la suite est pilotée par les réponses des clients
+     */
+    @Override
+    public void run()
+    {
+        this.startedAt = System.currentTimeMillis();
+        this.status = GameStatus.RUNNING;
+
+        try
+        {
+            this.game.init();
+            this.game.play();
+        }
+        catch (Exception ex)
+        {
+            log.error("La partie n°{} s'est terminée sur une erreur : {}", this.id, ex.getMessage());
+            this.complete(GameStatus.FAILED);
+        }
+    }
+
+    /**
+     * Écouteur appelé par la partie lorsque celle-ci est terminée
+     */
+    @Override
+    public void onGameEnded(Game game)
+    {
+        this.complete(GameStatus.FINISHED);
+    }
+
+    /**
+     * Écouteur appelé par la partie lorsqu'une de ses étapes a échoué
+     */
+    @Override
+    public void onGameFailed(Game game, Exception cause)
+    {
+        log.error("La partie n°{} s'est terminée sur une erreur : {}", this.id, cause.getMessage());
+        this.complete(GameStatus.FAILED);
+    }
+
+    /**
+     * Méthode permettant de clore le cycle de vie de la partie (une seule fois)
+     * @param status état final de la partie
+     */
+    private void complete(GameStatus status)
+    {
+        if(this.isCompleted.compareAndSet(false, true))
+        {
+            this.endedAt = System.currentTimeMillis();
+            this.status = status;
+            this.scheduler.onGameCompleted(this);
+        }
+    }
+
+    /**
+     * Fonction permettant de récupérer l'identifiant de la partie auprès du planificateur
+     */
+    public long getId()
+    {
+        return this.id;
+    }
+
+    /**
+     * Fonction permettant de récupérer la partie
+     */
+    public Game getGame()
+    {
+        return this.game;
+    }
+
+    /**
+     * Fonction permettant de récupérer les clients participant à la partie
+     */
+    public List<GameClient> getPlayers()
+    {
+        return this.players;
+    }
+
+    /**
+     * Fonction permettant de connaître l'état actuel de la partie
+     */
+    public GameStatus getStatus()
+    {
+        return this.status;
+    }
+
+    /**
+     * Fonction permettant de connaître le temps passé par la partie dans la file d'attente (en millisecondes)
+     */
+    public long getQueuedTime()
+    {
+        return (this.startedAt == 0 ? System.currentTimeMillis() : this.startedAt) - this.submittedAt;
+    }
+
+    /**
+     * Fonction permettant de connaître la durée d'exécution de la partie (en millisecondes)
+     */
+    public long getRunningTime()
+    {
+        long runningTime = 0;
+
+        if(this.startedAt != 0)
+            runningTime = (this.endedAt == 0 ? System.currentTimeMillis() : this.endedAt) - this.startedAt;
+
+        return runningTime;
+    }
+}
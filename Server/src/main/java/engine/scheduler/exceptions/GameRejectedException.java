@@ -0,0 +1,13 @@
+package engine.scheduler.exceptions;
+
+/**
+ * Classe d'erreur, retournée lorsque le planificateur refuse une nouvelle partie (file d'attente pleine ou arrêt en cours).
+ * @author Noé Mourton-Comte
+ */
+public class GameRejectedException extends Exception
+{
+    public GameRejectedException(String message)
+    {
+        super(message);
+    }
+}
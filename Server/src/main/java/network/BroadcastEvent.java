@@ -0,0 +1,61 @@
+package network;
+
+import com.corundumstudio.socketio.protocol.Packet;
+
+import java.util.EnumMap;
+import java.util.function.Supplier;
+
+/**
+ * Classe représentant un événement envoyé à plusieurs clients.
+ * Le paquet de l'événement n'est construit (et ses paramètres encodés) qu'une seule fois par encodage,
+ * puis partagé par tous les destinataires utilisant cet encodage.
+ * Une instance n'est pas destinée à être partagée entre plusieurs threads.
+ * @author Noé Mourton-Comte
+ */
+public class BroadcastEvent
+{
+    private final String name;
+    private final Object[] params;
+
+    private final EnumMap<ProtocolEncodings, Packet> packets;
+
+    /**
+     * Constructeur d'un événement
+     * @param name nom de l'événement
+     * @param params paramètres
+     */
+    public BroadcastEvent(String name, Object... params)
+    {
+        this.name = name;
+        this.params = params;
+        this.packets = new EnumMap<>(ProtocolEncodings.class);
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    public Object[] getParams()
+    {
+        return this.params;
+    }
+
+    /**
+     * Fonction permettant de récupérer le paquet de l'événement pour un encodage, construit lors de la première demande
+     * @param encoding encodage du destinataire
+     * @param packetFactory fonction construisant le paquet
+     */
+    public Packet getPacket(ProtocolEncodings encoding, Supplier<Packet> packetFactory)
+    {
+        Packet packet = this.packets.get(encoding);
+
+        if(packet == null)
+        {
+            packet = packetFactory.get();
+            this.packets.put(encoding, packet);
+        }
+
+        return packet;
+    }
+}
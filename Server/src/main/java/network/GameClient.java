@@ -0,0 +1,48 @@
+package network;
+
+import com.corundumstudio.socketio.AckCallback;
+
+import java.util.UUID;
+
+/**
+ * Interface d'un client participant à une partie.
+ * Une partie ne connaît ses joueurs qu'au travers de cette interface : ceux-ci peuvent être connectés par socket
+ * (voir SocketGameClient) ou bien être exécutés dans le même processus que la partie.
+ * @author Noé Mourton-Comte
+ */
+public interface GameClient
+{
+    /**
+     * Fonction permettant de récupérer l'identifiant de session du client
+     */
+    UUID getSessionId();
+
+    /**
+     * Méthode permettant d'envoyer un évenement au client
+     * @param eventName nom de l'événement
+     * @param params paramètres
+     */
+    void sendEvent(String eventName, Object... params);
+
+    /**
+     * Méthode permettant d'envoyer un évenement au client en attendant sa réponse
+     * @param eventName nom de l'événement
+     * @param ackCallback callback appelé lors de la réponse du client (ou de son absence)
+     * @param params paramètres
+     */
+    void sendEvent(String eventName, AckCallback<?> ackCallback, Object... params);
+
+    /**
+     * Méthode permettant d'envoyer au client un événement destiné à plusieurs clients
+     * @param event événement
+     */
+    default void sendEvent(BroadcastEvent event)
+    {
+        this.sendEvent(event.getName(), event.getParams());
+    }
+
+    /**
+     * Méthode permettant de déconnecter le client
+     */
+    void disconnect();
+}
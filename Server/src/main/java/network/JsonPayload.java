@@ -0,0 +1,51 @@
+package network;
+
+import com.google.gson.Gson;
+
+/**
+ * Classe représentant un paramètre d'événement envoyé sous forme JSON.
+ * La sérialisation n'a lieu que si un client distant en a besoin, et une seule fois quel que soit le nombre de destinataires.
+ * @author Noé Mourton-Comte
+ */
+public class JsonPayload
+{
+    private static final Gson gsonSerializer = ProtocolJson.GSON;
+
+    private final Object value;
+    private volatile String json;
+
+    public JsonPayload(Object value)
+    {
+        this.value = value;
+    }
+
+    /**
+     * Fonction permettant de récupérer l'objet à sérialiser
+     */
+    public Object getValue()
+    {
+        return this.value;
+    }
+
+    /**
+     * Fonction permettant de récupérer la représentation JSON de l'objet, calculée lors du premier appel
+     */
+    public String toJson()
+    {
+        String json = this.json;
+
+        if(json == null)
+        {
+            json = gsonSerializer.toJson(this.value);
+            this.json = json;
+        }
+
+        return json;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toJson();
+    }
+}
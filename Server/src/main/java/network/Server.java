@@ -3,10 +3,15 @@ package network;
 import com.corundumstudio.socketio.Configuration;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.AckRequest;
 import com.corundumstudio.socketio.listener.ConnectListener;
+import com.corundumstudio.socketio.listener.DataListener;
 import com.corundumstudio.socketio.listener.DefaultExceptionListener;
 import com.corundumstudio.socketio.listener.DisconnectListener;
 import engine.Game;
+import engine.scheduler.GameScheduler;
+import engine.scheduler.ScheduledGame;
+import network.callbacks.EncodingAckCallback;
 import io.netty.channel.ChannelHandlerContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,7 +23,7 @@ import java.util.*;
  * Classe permettant de gérer un serveur.
  * @author Alexandre Ciarafoni, Noé Mourton-Comte
  */
-public class Server implements ConnectListener, DisconnectListener
+public class Server implements ConnectListener, DisconnectListener, DataListener<Object>
 {
     private static final Logger log = LoggerFactory.getLogger(Server.class);
 
@@ -31,6 +36,9 @@ public class Server implements ConnectListener, DisconnectListener
 
     private ArrayDeque<SocketIOClient> waitingClients;
 
+    //Planificateur des parties, consulté pour ne pas réinscrire un client encore assis à une table
+    private GameScheduler gameScheduler;
+
     private ArrayList<ServerListener> listeners;
 
     public Server()
@@ -59,6 +67,9 @@ public class Server implements ConnectListener, DisconnectListener
 
         this.server.addConnectListener(this);
         this.server.addDisconnectListener(this);
+        this.server.addEventListener(ProtocolMessages.ResyncRequestMessage.name(), Object.class, this);
+        this.server.addEventListener(ProtocolMessages.RequeueMessage.name(), Object.class,
+                (client, data, ackRequest) -> this.onRequeue(client));
     }
 
     /**
@@ -95,38 +106,106 @@ public class Server implements ConnectListener, DisconnectListener
     @Override
     public void onConnect(SocketIOClient socketIOClient)
     {
+        log.info("Un nouveau client est connecté ({}).", socketIOClient.getRemoteAddress());
+
+        socketIOClient.sendEvent(ProtocolMessages.WelcomeMessage.toString(), new EncodingAckCallback(socketIOClient),
+                "", Arrays.stream(ProtocolEncodings.values()).map(Enum::name).toArray(String[]::new));
+
+        this.enqueue(socketIOClient);
+    }
+
+    /**
+     * Écouteur appelé lorsqu'un client resté connecté demande une nouvelle partie (RequeueMessage)
+     */
+    public void onRequeue(SocketIOClient socketIOClient)
+    {
+        log.info("Le client {} demande une nouvelle partie.", socketIOClient.getRemoteAddress());
+
+        //Un client dont la partie n'est pas terminée ne peut pas être placé dans une seconde partie
+        ScheduledGame currentGame = this.gameScheduler != null ?
+                this.gameScheduler.getGameBySession(socketIOClient.getSessionId()) : null;
+        if(currentGame != null)
+        {
+            log.warn("Le client {} joue encore la partie n°{}, sa demande est ignorée.",
+                    socketIOClient.getRemoteAddress(), currentGame.getId());
+            return;
+        }
+
+        //L'encodage négocié reste attaché à la socket, inutile de renvoyer le WelcomeMessage
+        this.enqueue(socketIOClient);
+    }
+
+    /**
+     * Écouteur appelé lors de la déconnexion d'un client
+     */
+    @Override
+    public void onDisconnect(SocketIOClient socketIOClient)
+    {
+        log.info("Un client vient de se déconnecter ({}).", socketIOClient.getRemoteAddress());
+
+        //Un client déconnecté avant le début de sa partie ne doit plus être apparié
         synchronized (this)
         {
-            log.info(String.format("Un nouveau client est connecté (%s).", socketIOClient.getRemoteAddress()));
+            this.waitingClients.remove(socketIOClient);
+        }
+
+        //TODO: Terminer la partie si le client est joueur dans une partie...
+    }
+
+    /**
+     * Écouteur appelé lorsqu'un client demande l'état complet de sa partie (ResyncRequestMessage)
+     */
+    @Override
+    public void onData(SocketIOClient socketIOClient, Object data, AckRequest ackRequest)
+    {
+        log.info("Le client {} demande une resynchronisation.", socketIOClient.getRemoteAddress());
+
+        this.onResyncRequested(socketIOClient.getSessionId());
+    }
+
+    //endregion
+
+    /**
+     * Méthode permettant d'inscrire un client pour la prochaine partie et de lancer celle-ci si
+     * suffisamment de joueurs sont en attente
+     * @param socketIOClient client à inscrire
+     */
+    private void enqueue(SocketIOClient socketIOClient)
+    {
+        ArrayList<GameClient> gamePlayers = null;
+
+        //Seule la file d'attente est protégée, la partie est lancée en dehors du verrou
+        synchronized (this)
+        {
+            //Un client déjà en attente ne doit pas être inscrit deux fois
+            if(this.waitingClients.contains(socketIOClient))
+                return;
 
             this.waitingClients.add(socketIOClient);
-            socketIOClient.sendEvent(ProtocolMessages.WelcomeMessage.toString(), "");
             log.info("Inscription du client pour la prochaine partie terminée.");
 
             if (this.waitingClients.size() >= Game.REQUIRED_PLAYERS) {
-                ArrayList<SocketIOClient> gamePlayers = new ArrayList<>();
+                gamePlayers = new ArrayList<>();
 
                 for (int i = 0; i < Game.REQUIRED_PLAYERS; i++) {
-                    gamePlayers.add(this.waitingClients.remove());
+                    gamePlayers.add(new SocketGameClient(this.waitingClients.remove()));
                 }
-
-                this.onGameReady(gamePlayers);
             }
         }
+
+        if(gamePlayers != null)
+            this.onGameReady(gamePlayers);
     }
 
     /**
-     * Écouteur appelé lors de la déconnexion d'un client
+     * Méthode permettant d'indiquer le planificateur des parties lancées par le serveur
+     * @param gameScheduler planificateur
      */
-    @Override
-    public void onDisconnect(SocketIOClient socketIOClient)
+    public void setGameScheduler(GameScheduler gameScheduler)
     {
-        log.info(String.format("Un client vient de se déconnecter (%s).", socketIOClient.getRemoteAddress()));
-        //TODO: Terminer la partie si le client est joueur dans une partie...
+        this.gameScheduler = gameScheduler;
     }
 
-    //endregion
-
     //region Listeners
 
     public void addListener(ServerListener listener)
@@ -134,7 +213,7 @@ public class Server implements ConnectListener, DisconnectListener
         this.listeners.add(listener);
     }
 
-    private void onGameReady(List<SocketIOClient> players)
+    private void onGameReady(List<GameClient> players)
     {
         for(ServerListener listener : this.listeners)
         {
@@ -142,5 +221,13 @@ public class Server implements ConnectListener, DisconnectListener
         }
     }
 
+    private void onResyncRequested(UUID sessionId)
+    {
+        for(ServerListener listener : this.listeners)
+        {
+            listener.onResyncRequested(sessionId);
+        }
+    }
+
     //endregion
 }
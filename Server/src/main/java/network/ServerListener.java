@@ -1,7 +1,5 @@
 package network;
 
-import com.corundumstudio.socketio.SocketIOClient;
-
 import java.util.List;
 import java.util.UUID;
 
@@ -11,5 +9,7 @@ import java.util.UUID;
  */
 public interface ServerListener
 {
-    void onGameReady(List<SocketIOClient> players);
+    void onGameReady(List<GameClient> players);
+
+    void onResyncRequested(UUID sessionId);
 }
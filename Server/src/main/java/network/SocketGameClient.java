@@ -0,0 +1,179 @@
+package network;
+
+import com.corundumstudio.socketio.AckCallback;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketType;
+import engine.core.Invention;
+import engine.core.Inventor;
+import engine.core.rewards.Reward;
+import network.callbacks.ActionAckCallback;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Classe représentant un client connecté au serveur par socket.
+ * Les paramètres de type JsonPayload sont sérialisés au moment de l'envoi, dans l'encodage négocié par le client
+ * lors du "WelcomeMessage" (JSON par défaut).
+ * @author Noé Mourton-Comte
+ */
+public class SocketGameClient implements GameClient
+{
+    public static final String ENCODING_KEY = "encoding";
+
+    private final SocketIOClient socketClient;
+
+    public SocketGameClient(SocketIOClient socketClient)
+    {
+        this.socketClient = socketClient;
+    }
+
+    @Override
+    public UUID getSessionId()
+    {
+        return this.socketClient.getSessionId();
+    }
+
+    @Override
+    public void sendEvent(String eventName, Object... params)
+    {
+        this.socketClient.sendEvent(eventName, this.encode(this.getEncoding(), eventName, params));
+    }
+
+    @Override
+    public void sendEvent(BroadcastEvent event)
+    {
+        ProtocolEncodings encoding = this.getEncoding();
+
+        //Le paquet est construit par le premier destinataire utilisant cet encodage, puis réutilisé par les suivants
+        Packet packet = event.getPacket(encoding,
+                () -> createPacket(event.getName(), this.encode(encoding, event.getName(), event.getParams())));
+
+        this.socketClient.send(packet);
+    }
+
+    @Override
+    public void sendEvent(String eventName, AckCallback<?> ackCallback, Object... params)
+    {
+        AckCallback<?> encodedAckCallback = ackCallback;
+
+        //Un client binaire répond aux demandes d'action par une action regroupée dans un entier
+        if(this.getEncoding() == ProtocolEncodings.BINARY && ackCallback instanceof ActionAckCallback)
+            encodedAckCallback = ((ActionAckCallback) ackCallback).packed();
+
+        this.socketClient.sendEvent(eventName, encodedAckCallback, this.encode(this.getEncoding(), eventName, params));
+    }
+
+    @Override
+    public void disconnect()
+    {
+        this.socketClient.disconnect();
+    }
+
+    /**
+     * Fonction permettant de récupérer le client socket
+     */
+    public SocketIOClient getSocketClient()
+    {
+        return this.socketClient;
+    }
+
+    /**
+     * Fonction permettant de connaître l'encodage négocié par le client
+     */
+    public ProtocolEncodings getEncoding()
+    {
+        ProtocolEncodings encoding = this.socketClient.get(ENCODING_KEY);
+        return encoding != null ? encoding : ProtocolEncodings.JSON;
+    }
+
+    /**
+     * Fonction permettant de construire le paquet d'un événement, comme le fait SocketIOClient.sendEvent
+     * @param eventName nom de l'événement
+     * @param encodedParams paramètres encodés
+     */
+    private static Packet createPacket(String eventName, Object[] encodedParams)
+    {
+        Packet packet = new Packet(PacketType.MESSAGE);
+        packet.setSubType(PacketType.EVENT);
+        packet.setName(eventName);
+        packet.setData(Arrays.asList(encodedParams));
+
+        return packet;
+    }
+
+    /**
+     * Fonction permettant d'encoder les paramètres d'un événement
+     * @param encoding encodage du client
+     * @param eventName nom de l'événement
+     * @param params paramètres de l'événement
+     */
+    private Object[] encode(ProtocolEncodings encoding, String eventName, Object[] params)
+    {
+        if(encoding == ProtocolEncodings.BINARY)
+        {
+            try
+            {
+                return this.encodeBinary(eventName, params);
+            }
+            catch (IllegalArgumentException ex)
+            {
+                //Le message ne peut pas être encodé sous forme binaire, il est envoyé en JSON
+            }
+        }
+
+        return this.encode(params);
+    }
+
+    /**
+     * Fonction permettant de remplacer les paramètres des messages couverts par l'encodage binaire par leur représentation binaire
+     * @param eventName nom de l'événement
+     * @param params paramètres de l'événement
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] encodeBinary(String eventName, Object[] params)
+    {
+        if(ProtocolMessages.GameStartedMessage.name().equals(eventName) || ProtocolMessages.SynchronizeMessage.name().equals(eventName))
+        {
+            Object[] encodedParams = params.clone();
+            encodedParams[0] = BinaryCodec.encodeInventors((Map<UUID, List<Inventor>>) ((JsonPayload) params[0]).getValue());
+            encodedParams[1] = BinaryCodec.encodeInventions((List<Invention>) ((JsonPayload) params[1]).getValue());
+
+            return encodedParams;
+        }
+        else if(ProtocolMessages.RewardMessage.name().equals(eventName))
+        {
+            Object[] encodedParams = params.clone();
+            encodedParams[0] = BinaryCodec.encodeRewards((List<Reward>) params[0]);
+
+            return encodedParams;
+        }
+
+        return this.encode(params);
+    }
+
+    /**
+     * Fonction permettant de remplacer les paramètres à sérialiser par leur représentation JSON
+     * @param params paramètres de l'événement
+     */
+    private Object[] encode(Object[] params)
+    {
+        Object[] encodedParams = params;
+
+        for(int i = 0; i < params.length; i++)
+        {
+            if(params[i] instanceof JsonPayload)
+            {
+                if(encodedParams == params)
+                    encodedParams = params.clone();
+
+                encodedParams[i] = ((JsonPayload) params[i]).toJson();
+            }
+        }
+
+        return encodedParams;
+    }
+}
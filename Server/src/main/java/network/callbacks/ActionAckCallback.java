@@ -8,30 +8,30 @@ import engine.actions.WorkAction;
 import engine.core.Invention;
 import engine.core.Inventor;
 import engine.core.Player;
-import engine.exceptions.RequestedInventionNotFoundException;
-import engine.exceptions.RequestedInventorNotFoundException;
+import network.BinaryCodec;
 import network.ProtocolTypes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Classe utilisée lors de la demande d'une action à un client
+ * Classe utilisée lors de la demande d'une action à un client.
+ * La réponse (ou son absence) est transmise à la partie qui reprend alors son déroulement.
  * @author Noé Mourton-Comte
  */
 public class ActionAckCallback extends AckCallback<String[]>
 {
     private static final Logger log = LoggerFactory.getLogger(ActionAckCallback.class);
 
-    private Object locker;
+    private static final ProtocolTypes[] ACTION_TYPES = ProtocolTypes.values();
+
     private Game gameInstance;
     private Player player;
 
     private Action action;
 
-    public ActionAckCallback(Object locker, Game gameInstance, Player player)
+    public ActionAckCallback(Game gameInstance, Player player)
     {
         super(String[].class, 1);
-        this.locker = locker;
         this.gameInstance = gameInstance;
         this.player = player;
     }
@@ -39,37 +39,138 @@ public class ActionAckCallback extends AckCallback<String[]>
     @Override
     public void onSuccess(String[] result)
     {
-        synchronized (this.locker)
+        //La réponse est validée sans lever d'exception : une réponse invalide laisse l'action nulle et le joueur est exclu
+        ProtocolTypes type = result != null && result.length > 0 ? parseType(result[0]) : null;
+
+        if(type == ProtocolTypes.MakeAvailableAction)
+        {
+            this.action = new MakeAvailableAction(this.player);
+        }
+        else if(type == ProtocolTypes.WorkAction && result.length >= 3)
+        {
+            this.createWorkAction(parseId(result[1]), parseId(result[2]));
+        }
+        else
+        {
+            log.error("Action invalide reçue du joueur {} !", this.player.getName());
+        }
+
+        this.gameInstance.onActionReceived(this);
+    }
+
+    /**
+     * Méthode appelée lorsqu'un client a répondu à la demande d'action par une action regroupée dans un entier.
+     * L'inventeur et l'invention sont retrouvés par leur identifiant, en temps constant et sans exception.
+     * @param packedAction action regroupée par BinaryCodec.packAction
+     */
+    public void onPackedSuccess(int packedAction)
+    {
+        ProtocolTypes type = BinaryCodec.unpackActionType(packedAction);
+
+        if(type == ProtocolTypes.MakeAvailableAction)
+        {
+            this.action = new MakeAvailableAction(this.player);
+        }
+        else if(type == ProtocolTypes.WorkAction)
+        {
+            this.createWorkAction(BinaryCodec.unpackActionInventor(packedAction), BinaryCodec.unpackActionInvention(packedAction));
+        }
+        else
+        {
+            log.error("Action invalide reçue du joueur {} !", this.player.getName());
+        }
+
+        this.gameInstance.onActionReceived(this);
+    }
+
+    /**
+     * Méthode permettant d'instancier une WorkAction à partir des identifiants de l'inventeur et de l'invention.
+     * L'inventeur et l'invention sont retrouvés en temps constant : un identifiant inconnu est simplement journalisé.
+     * @param inventorId identifiant de l'inventeur
+     * @param inventionId identifiant de l'invention
+     */
+    private void createWorkAction(int inventorId, int inventionId)
+    {
+        Inventor inventor = this.gameInstance.getPlayerInventorById(this.player, inventorId);
+        Invention invention = this.gameInstance.getInventionById(inventionId);
+
+        if(inventor == null)
+            log.error("Le joueur ne possède pas cet inventeur !");
+        else if(invention == null)
+            log.error("Cette invention n'existe pas !");
+        else
+            this.action = new WorkAction(this.player, inventor, invention);
+    }
+
+    /**
+     * Fonction permettant de retrouver le type d'une action envoyée au format texte, sans lever d'exception
+     * @param value type de l'action au format texte
+     * @return le type de l'action, ou null s'il est inconnu
+     */
+    private static ProtocolTypes parseType(String value)
+    {
+        for(ProtocolTypes type : ACTION_TYPES)
         {
-                switch (ProtocolTypes.valueOf(result[0]))
-                {
-                    case MakeAvailableAction:
-                        this.action = new MakeAvailableAction(this.player);
-                        break;
-
-                    case WorkAction:
-                        try {
-                            Inventor inventor = this.gameInstance.getPlayerInventorByName(player, result[1].toString());
-                            Invention invention = this.gameInstance.getInventionByName(result[2].toString());
-                            this.action = new WorkAction(player, inventor, invention);
-                        } catch (RequestedInventorNotFoundException ex) {
-                            log.error(ex.getMessage());
-                        } catch (RequestedInventionNotFoundException ex) {
-                            log.error(ex.getMessage());
-                        }
-                        break;
-                }
-            this.locker.notify();
+            if(type.name().equals(value))
+                return type;
         }
+
+        return null;
+    }
+
+    /**
+     * Fonction permettant de lire un identifiant envoyé au format texte, sans lever d'exception
+     * @param value identifiant au format texte
+     * @return l'identifiant, ou NO_ID s'il n'est pas un entier positif valide
+     */
+    private static int parseId(String value)
+    {
+        if(value == null || value.isEmpty() || value.length() > 9)
+            return Inventor.NO_ID;
+
+        int id = 0;
+
+        for(int i = 0; i < value.length(); i++)
+        {
+            char digit = value.charAt(i);
+
+            if(digit < '0' || digit > '9')
+                return Inventor.NO_ID;
+
+            id = id * 10 + (digit - '0');
+        }
+
+        return id;
     }
 
     @Override
     public void onTimeout()
     {
-        synchronized (this.locker)
+        this.gameInstance.onActionReceived(this);
+    }
+
+    /**
+     * Fonction retournant un callback attendant une action regroupée (encodage binaire) et la transmettant à ce callback
+     */
+    public AckCallback<Integer> packed()
+    {
+        return new AckCallback<Integer>(Integer.class, this.getTimeout())
         {
-            this.locker.notify();
-        }
+            @Override
+            public void onSuccess(Integer result)
+            {
+                if(result != null)
+                    ActionAckCallback.this.onPackedSuccess(result);
+                else
+                    ActionAckCallback.this.onSuccess(null);
+            }
+
+            @Override
+            public void onTimeout()
+            {
+                ActionAckCallback.this.onTimeout();
+            }
+        };
     }
 
     /**
@@ -79,4 +180,12 @@ public class ActionAckCallback extends AckCallback<String[]>
     {
         return this.action;
     }
+
+    /**
+     * Fonction retournant le joueur à qui l'action a été demandée
+     */
+    public Player getPlayer()
+    {
+        return this.player;
+    }
 }
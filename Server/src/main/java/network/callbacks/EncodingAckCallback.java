@@ -0,0 +1,42 @@
+package network.callbacks;
+
+import com.corundumstudio.socketio.AckCallback;
+import com.corundumstudio.socketio.SocketIOClient;
+import network.ProtocolEncodings;
+import network.SocketGameClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Classe utilisée lors de l'envoi du "WelcomeMessage" : le client répond avec l'encodage qu'il souhaite utiliser.
+ * Sans réponse (ancien client), l'encodage JSON est conservé.
+ * @author Noé Mourton-Comte
+ */
+public class EncodingAckCallback extends AckCallback<String>
+{
+    private static final Logger log = LoggerFactory.getLogger(EncodingAckCallback.class);
+
+    private SocketIOClient socketClient;
+
+    public EncodingAckCallback(SocketIOClient socketClient)
+    {
+        super(String.class, 5);
+        this.socketClient = socketClient;
+    }
+
+    @Override
+    public void onSuccess(String result)
+    {
+        try
+        {
+            ProtocolEncodings encoding = ProtocolEncodings.valueOf(result);
+            this.socketClient.set(SocketGameClient.ENCODING_KEY, encoding);
+
+            log.info("Le client {} utilise l'encodage {}.", this.socketClient.getRemoteAddress(), encoding);
+        }
+        catch (IllegalArgumentException | NullPointerException ex)
+        {
+            log.warn("Encodage inconnu demandé par le client {} : {}.", this.socketClient.getRemoteAddress(), result);
+        }
+    }
+}
@@ -1,50 +1,59 @@
 package network.callbacks;
 
 import com.corundumstudio.socketio.AckCallback;
+import engine.Game;
+import engine.core.Player;
 import engine.core.rewards.Reward;
 
 import java.util.List;
 
 /**
- * Classe utilisée lors de la demande d'une recompense à un client
+ * Classe utilisée lors de la demande d'une recompense à un client.
+ * La réponse (ou son absence) est transmise à la partie qui reprend alors son déroulement.
  * @author Valentin Sappa
  */
 public class RewardAckCallback extends AckCallback<Integer>
 {
-    private Object locker;
+    private Game gameInstance;
+    private Player player;
     private List<Reward> rewards;
 
     private Reward selectedReward = null;
 
-    public RewardAckCallback(Object locker, List<Reward> rewards)
+    public RewardAckCallback(Game gameInstance, Player player, List<Reward> rewards)
     {
         super(Integer.class, 1);
-        this.locker = locker;
+        this.gameInstance = gameInstance;
+        this.player = player;
         this.rewards = rewards;
     }
 
     @Override
     public void onSuccess(Integer result) {
-        synchronized (this.locker) {
-            if (result >= 0 && result < this.rewards.size()) {
-                this.selectedReward = this.rewards.get(result);
-            }
-            this.locker.notify();
+        //Une réponse vide (null) laisse la récompense nulle : le joueur est alors traité comme ne répondant plus
+        if (result != null && result >= 0 && result < this.rewards.size()) {
+            this.selectedReward = this.rewards.get(result);
         }
+
+        this.gameInstance.onRewardReceived(this);
     }
 
     @Override
     public void onTimeout()
     {
-        synchronized (this.locker)
-        {
-            this.locker.notify();
-        }
+        this.gameInstance.onRewardReceived(this);
     }
 
     public Reward getSelectedReward()
     {
         return this.selectedReward;
     }
-}
 
+    /**
+     * Fonction retournant le joueur à qui la récompense a été demandée
+     */
+    public Player getPlayer()
+    {
+        return this.player;
+    }
+}
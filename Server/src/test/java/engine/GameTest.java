@@ -1,6 +1,6 @@
 package engine;
 
-import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.AckCallback;
 import engine.core.Invention;
 import engine.core.Inventor;
 import engine.core.Knowledges;
@@ -11,12 +11,23 @@ import engine.exceptions.CantDeterminateWinnerException;
 import engine.exceptions.CurrentPlayerNotFoundException;
 import engine.exceptions.RequestedInventionNotFoundException;
 import engine.exceptions.RequestedInventorNotFoundException;
+import engine.history.*;
+import network.BroadcastEvent;
+import network.GameClient;
+import network.JsonPayload;
+import network.ProtocolMessages;
+import network.ProtocolTypes;
+import network.SynchronizeDelta;
+import network.callbacks.ActionAckCallback;
 import org.junit.Before;
 import org.junit.FixMethodOrder;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runners.MethodSorters;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockSettings;
 
-import java.net.InetSocketAddress;
 import java.util.*;
 
 import static org.junit.Assert.*;
@@ -29,14 +40,13 @@ import static org.mockito.Mockito.*;
 @FixMethodOrder(MethodSorters.JVM)
 public class GameTest
 {
-    private SocketIOClient mockedSocketClient;
+    private GameClient mockedSocketClient;
     private Game mockedGame;
 
     @Before
     public void init() throws CantDeterminateWinnerException, RequestedInventorNotFoundException, RequestedInventionNotFoundException
     {
-        this.mockedSocketClient = mock(SocketIOClient.class);
-        when(this.mockedSocketClient.getRemoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 666));
+        this.mockedSocketClient = mock(GameClient.class);
         when(this.mockedSocketClient.getSessionId()).thenReturn(new UUID(0, 0));
 
         this.mockedGame = mock(Game.class);
@@ -90,17 +100,13 @@ public class GameTest
     @Test
     public void getPlayerVictoryPoint()
     {
-        List<Reward> rewardList = new ArrayList<>();
-
-        rewardList.add(new Reward(RewardType.VICTORY, 5));
-        rewardList.add(new Reward(RewardType.VICTORY, 2));
-        rewardList.add(new Reward(RewardType.CARD, 1));
-
-        Player mockedPlayer = mock(Player.class);
+        Player player = new Player();
 
-        when(mockedPlayer.getRewards()).thenReturn(rewardList);
+        player.addReward(new Reward(RewardType.VICTORY, 5));
+        player.addReward(new Reward(RewardType.VICTORY, 2));
+        player.addReward(new Reward(RewardType.CARD, 1));
 
-        assertEquals(mockedGame.getPlayerVictoryPoint(mockedPlayer), 8);
+        assertEquals(mockedGame.getPlayerVictoryPoint(player), 8);
     }
 
     //endregion
@@ -118,8 +124,8 @@ public class GameTest
     {
         Player fakePlayer = new Player();
 
-        HashMap<SocketIOClient, Player> fakePlayersList = new HashMap<>();
-        fakePlayersList.put(mock(SocketIOClient.class), fakePlayer);
+        HashMap<GameClient, Player> fakePlayersList = new HashMap<>();
+        fakePlayersList.put(mock(GameClient.class), fakePlayer);
 
         when(this.mockedGame.getPlayers()).thenReturn(fakePlayersList);
 
@@ -129,27 +135,39 @@ public class GameTest
     @Test
     public void determinateWinnerWithTwoPlayers() throws CantDeterminateWinnerException
     {
-        List<Reward> player1Rewards = new ArrayList<>();
-        player1Rewards.add(new Reward(RewardType.CARD, 1));
-        player1Rewards.add(new Reward(RewardType.VICTORY, 3));
+        Player mockedPlayer1 = new Player();
+        mockedPlayer1.addReward(new Reward(RewardType.CARD, 1));
+        mockedPlayer1.addReward(new Reward(RewardType.VICTORY, 3));
 
-        List<Reward> player2Rewards = new ArrayList<>();
-        player2Rewards.add(new Reward(RewardType.CARD, 1));
-        player2Rewards.add(new Reward(RewardType.VICTORY, 2));
+        Player mockedPlayer2 = new Player();
+        mockedPlayer2.addReward(new Reward(RewardType.CARD, 1));
+        mockedPlayer2.addReward(new Reward(RewardType.VICTORY, 2));
 
-        Player mockedPlayer1 = mock(Player.class);
-        when(mockedPlayer1.getRewards()).thenReturn(player1Rewards);
+        HashMap<GameClient, Player> fakePlayersList = new HashMap<>();
+        fakePlayersList.put(mock(GameClient.class), mockedPlayer1);
+        fakePlayersList.put(mock(GameClient.class), mockedPlayer2);
 
-        Player mockedPlayer2 = mock(Player.class);
-        when(mockedPlayer2.getRewards()).thenReturn(player2Rewards);
+        when(this.mockedGame.getPlayers()).thenReturn(fakePlayersList);
 
-        HashMap<SocketIOClient, Player> fakePlayersList = new HashMap<>();
-        fakePlayersList.put(mock(SocketIOClient.class), mockedPlayer1);
-        fakePlayersList.put(mock(SocketIOClient.class), mockedPlayer2);
+        assertEquals(mockedPlayer1, this.mockedGame.determinateWinner().getValue());
+    }
+
+    @Test(expected = CantDeterminateWinnerException.class)
+    public void determinateWinnerWithTiedPlayers() throws CantDeterminateWinnerException
+    {
+        Player mockedPlayer1 = new Player();
+        mockedPlayer1.addReward(new Reward(RewardType.VICTORY, 3));
+
+        Player mockedPlayer2 = new Player();
+        mockedPlayer2.addReward(new Reward(RewardType.VICTORY, 3));
+
+        HashMap<GameClient, Player> fakePlayersList = new HashMap<>();
+        fakePlayersList.put(mock(GameClient.class), mockedPlayer1);
+        fakePlayersList.put(mock(GameClient.class), mockedPlayer2);
 
         when(this.mockedGame.getPlayers()).thenReturn(fakePlayersList);
 
-        assertEquals(mockedPlayer1, this.mockedGame.determinateWinner().getValue());
+        this.mockedGame.determinateWinner();
     }
 
     @Test(expected = CurrentPlayerNotFoundException.class)
@@ -159,5 +177,219 @@ public class GameTest
         this.mockedGame.play();
     }
 
+    /**
+     * Crée un client qui répond immédiatement à chaque demande d'action en occupant puis en libérant un inventeur,
+     * la partie ne progresse donc jamais
+     */
+    private GameClient createStalemateClient(long id)
+    {
+        return this.createStalemateClient(id, withSettings().stubOnly());
+    }
+
+    private GameClient createStalemateClient(long id, MockSettings settings)
+    {
+        return this.createStalemateClient(id, settings, new ArrayList<>());
+    }
+
+    /**
+     * Crée un client bloquant la partie qui note son UUID dans une liste à chaque tour qu'il joue
+     */
+    private GameClient createStalemateClient(long id, MockSettings settings, List<UUID> playedTurns)
+    {
+        GameClient stalemateClient = mock(GameClient.class, settings);
+        when(stalemateClient.getSessionId()).thenReturn(new UUID(0, id));
+
+        doAnswer(invocation ->
+        {
+            playedTurns.add(new UUID(0, id));
+            ActionAckCallback actionAckCallback = (ActionAckCallback) invocation.getArguments()[1];
+            actionAckCallback.getPlayer().getFreeInventors().get(0).makeBusy();
+            actionAckCallback.onSuccess(new String[] { ProtocolTypes.MakeAvailableAction.name() });
+            return null;
+        }).when(stalemateClient).sendEvent(eq(ProtocolMessages.TurnStartedMessage.name()), any(AckCallback.class));
+
+        return stalemateClient;
+    }
+
+    @Test
+    public void stalemateGameStopsAtMaxTurns() throws Exception
+    {
+        List<GameClient> clients = Arrays.asList(this.createStalemateClient(1), this.createStalemateClient(2));
+
+        //Les clients ne notent pas leurs appels : seuls les messages de fin de partie sont comptés
+        List<GameClient> endedClients = new ArrayList<>();
+        for(GameClient client : clients)
+        {
+            doAnswer(invocation ->
+            {
+                endedClients.add(client);
+                return null;
+            }).when(client).sendEvent(eq(ProtocolMessages.GameEndedMessage.name()), anyBoolean(), anyInt());
+        }
+
+        //Les clients répondent de manière synchrone : sans boucle de pilotage, chaque tour empilerait le suivant
+        Game game = new Game(clients, Runnable::run, 20000);
+        GameListener mockedListener = mock(GameListener.class);
+        game.addListener(mockedListener);
+
+        game.init();
+        game.play();
+
+        assertEquals(20000, game.getTurn());
+        assertEquals(TurnState.FINISHED, game.getState());
+        assertEquals(2, game.getPlayers().size());
+        verify(mockedListener).onGameEnded(game);
+
+        //Personne ne mène après une impasse : la fin de partie est tout de même annoncée aux deux joueurs
+        assertEquals(2, endedClients.size());
+        assertTrue(endedClients.containsAll(clients));
+    }
+
+    @Test
+    public void turnsFollowSeatingOrder() throws Exception
+    {
+        List<UUID> playedTurns = new ArrayList<>();
+        List<GameClient> clients = Arrays.asList(
+                this.createStalemateClient(2, withSettings().stubOnly(), playedTurns),
+                this.createStalemateClient(1, withSettings().stubOnly(), playedTurns));
+
+        Game game = new Game(clients, Runnable::run, 5);
+        game.init();
+        game.play();
+
+        //Les joueurs jouent dans l'ordre de leur place, celui de la liste des clients
+        assertEquals(Arrays.asList(new UUID(0, 2), new UUID(0, 1), new UUID(0, 2), new UUID(0, 1), new UUID(0, 2)),
+                playedTurns);
+    }
+
+    @Test
+    public void invalidActionKicksPlayer() throws Exception
+    {
+        GameClient invalidClient = mock(GameClient.class);
+        when(invalidClient.getSessionId()).thenReturn(new UUID(0, 1));
+
+        //Le client répond par un type d'action inconnu : l'action reste nulle et le joueur est exclu
+        doAnswer(invocation ->
+        {
+            ((ActionAckCallback) invocation.getArguments()[1]).onSuccess(new String[] { "Inconnue" });
+            return null;
+        }).when(invalidClient).sendEvent(eq(ProtocolMessages.TurnStartedMessage.name()), any(AckCallback.class));
+
+        Game game = new Game(Arrays.asList(invalidClient, this.createStalemateClient(2)), Runnable::run, 5);
+        game.init();
+        game.play();
+
+        verify(invalidClient).sendEvent(ProtocolMessages.KickedMessage.name(), "");
+    }
+
+    @Test
+    public void resolveInventorsAndInventionsById() throws Exception
+    {
+        GameClient firstClient = this.createStalemateClient(1);
+        GameClient secondClient = this.createStalemateClient(2);
+
+        Game game = new Game(Arrays.asList(firstClient, secondClient));
+        game.init();
+
+        Player firstPlayer = game.getPlayers().get(firstClient);
+        Player secondPlayer = game.getPlayers().get(secondClient);
+
+        for(Inventor inventor : firstPlayer.getInventors())
+        {
+            assertSame(inventor, game.getPlayerInventorById(firstPlayer, inventor.getId()));
+            assertNull(game.getPlayerInventorById(secondPlayer, inventor.getId()));
+        }
+
+        for(Invention invention : game.getInventionsList())
+        {
+            assertSame(invention, game.getInventionById(invention.getId()));
+        }
+
+        assertNull(game.getPlayerInventorById(firstPlayer, -1));
+        assertNull(game.getInventionById(Integer.MAX_VALUE));
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void gameHistoryIsRecorded() throws Exception
+    {
+        List<GameClient> clients = Arrays.asList(this.createStalemateClient(1), this.createStalemateClient(2));
+
+        Game game = new Game(clients, Runnable::run, 5);
+
+        try (GameEventLog eventLog = new GameEventLog(temporaryFolder.getRoot().toPath()))
+        {
+            game.setHistory(new GameHistory(eventLog, 42));
+            game.init();
+            game.play();
+        }
+
+        List<GameEvent> events = new GameEventReader(temporaryFolder.getRoot().toPath()).readGame(42);
+        Map<GameEventType, Integer> eventsCount = new EnumMap<>(GameEventType.class);
+        for(GameEvent event : events)
+            eventsCount.merge(event.getType(), 1, Integer::sum);
+
+        assertEquals(2, (int) eventsCount.get(GameEventType.PLAYER_SEATED));
+        assertEquals(8, (int) eventsCount.get(GameEventType.INVENTOR_DEALT));
+        assertEquals(1, (int) eventsCount.get(GameEventType.ERA_STARTED));
+        assertEquals(5, (int) eventsCount.get(GameEventType.MAKE_AVAILABLE));
+        assertEquals(GameEventType.GAME_ENDED, events.get(events.size() - 1).getType());
+
+        //La partie rejouée retrouve les joueurs et les inventions de la partie
+        GameReplay gameReplay = GameReplay.replay(events, Integer.MAX_VALUE);
+        assertEquals(2, gameReplay.getPlayersBySeat().size());
+        assertTrue(gameReplay.getPlayersBySeat().containsValue(new UUID(0, 1)));
+        assertEquals(game.getInventionsList().size(), gameReplay.getTableInventions().size());
+        assertTrue(gameReplay.isEnded());
+    }
+
+    @Test
+    public void stalemateGameSendsOnlyDeltas() throws Exception
+    {
+        GameClient client = this.createStalemateClient(1, withSettings());
+        List<GameClient> clients = Arrays.asList(client, this.createStalemateClient(2));
+
+        Game game = new Game(clients, Runnable::run, 10);
+        game.init();
+        game.play();
+
+        //L'état complet n'est envoyé qu'au début de la partie, chaque tour n'envoie que ses modifications
+        ArgumentCaptor<BroadcastEvent> eventCaptor = ArgumentCaptor.forClass(BroadcastEvent.class);
+        verify(client, atLeastOnce()).sendEvent(eventCaptor.capture());
+
+        List<BroadcastEvent> gameStartedEvents = this.filterEvents(eventCaptor.getAllValues(), ProtocolMessages.GameStartedMessage);
+        List<BroadcastEvent> deltaEvents = this.filterEvents(eventCaptor.getAllValues(), ProtocolMessages.SynchronizeDeltaMessage);
+
+        assertEquals(1, gameStartedEvents.size());
+        assertEquals(0L, gameStartedEvents.get(0).getParams()[2]);
+        assertTrue(this.filterEvents(eventCaptor.getAllValues(), ProtocolMessages.SynchronizeMessage).isEmpty());
+        assertEquals(10, deltaEvents.size());
+
+        for(int i = 0; i < 10; i++)
+        {
+            SynchronizeDelta delta = (SynchronizeDelta) ((JsonPayload) deltaEvents.get(i).getParams()[0]).getValue();
+
+            assertEquals(i + 1, delta.getVersion());
+            assertEquals(1, delta.getInventors().size());
+            assertFalse(delta.getInventors().get(0).isBusy());
+            assertTrue(delta.getInventions().isEmpty());
+        }
+    }
+
+    private List<BroadcastEvent> filterEvents(List<BroadcastEvent> events, ProtocolMessages message)
+    {
+        List<BroadcastEvent> filteredEvents = new ArrayList<>();
+
+        for(BroadcastEvent event : events)
+        {
+            if(event.getName().equals(message.name()))
+                filteredEvents.add(event);
+        }
+
+        return filteredEvents;
+    }
+
     //endregion
 }
@@ -0,0 +1,97 @@
+package engine.actions;
+
+import engine.core.*;
+import engine.core.exceptions.AlreadyBusyException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test de la classe "LegalMoves"
+ * @author Noé Mourton-Comte
+ */
+public class LegalMovesTest
+{
+    private Player samplePlayer;
+    private Inventor physicist;
+    private Inventor chemist;
+    private Invention physicsInvention;
+    private Invention chemistryInvention;
+
+    @Before
+    public void initialize()
+    {
+        samplePlayer = new Player();
+
+        physicist = new Inventor(0, "Physicist", new Knowledges(1, 0, 0, 0), Team.Rouge);
+        chemist = new Inventor(1, "Chemist", new Knowledges(0, 1, 0, 0), Team.Rouge);
+        samplePlayer.addInventor(physicist);
+        samplePlayer.addInventor(chemist);
+
+        physicsInvention = new Invention(0, "PhysicsInvention", new Knowledges(2, 0, 0, 0), 1);
+        chemistryInvention = new Invention(1, "ChemistryInvention", new Knowledges(0, 2, 0, 0), 1);
+    }
+
+    private LegalMoves computeLegalMoves()
+    {
+        return new LegalMoves(samplePlayer, Arrays.asList(physicsInvention, chemistryInvention), 2);
+    }
+
+    @Test
+    public void onlyCompatiblePairsAreLegal()
+    {
+        LegalMoves legalMoves = this.computeLegalMoves();
+
+        assertEquals(2, legalMoves.getWorkMovesCount());
+        assertFalse(legalMoves.canMakeAvailable());
+        assertEquals(ActionResult.LEGAL, legalMoves.check(new WorkAction(samplePlayer, physicist, physicsInvention)));
+        assertEquals(ActionResult.INCOMPATIBLE_INVENTOR, legalMoves.check(new WorkAction(samplePlayer, physicist, chemistryInvention)));
+        assertEquals(ActionResult.NOTHING_TO_MAKE_AVAILABLE, legalMoves.check(new MakeAvailableAction(samplePlayer)));
+    }
+
+    @Test
+    public void busyInventorsAreRejected() throws AlreadyBusyException
+    {
+        physicist.makeBusy();
+        LegalMoves legalMoves = this.computeLegalMoves();
+
+        assertEquals(1, legalMoves.getWorkMovesCount());
+        assertTrue(legalMoves.canMakeAvailable());
+        assertEquals(ActionResult.BUSY_INVENTOR, legalMoves.check(new WorkAction(samplePlayer, physicist, physicsInvention)));
+        assertEquals(ActionResult.LEGAL, legalMoves.check(new MakeAvailableAction(samplePlayer)));
+    }
+
+    @Test
+    public void otherPlayersActionsAreRejected()
+    {
+        LegalMoves legalMoves = this.computeLegalMoves();
+        Player otherPlayer = new Player();
+
+        assertEquals(ActionResult.WRONG_PLAYER, legalMoves.check(new WorkAction(otherPlayer, physicist, physicsInvention)));
+
+        //Un inventeur qui n'appartient pas au joueur ne fait pas partie des couples autorisés
+        Inventor stranger = new Inventor(5, "Stranger", new Knowledges(1, 0, 0, 0), Team.Jaune);
+        assertEquals(ActionResult.INCOMPATIBLE_INVENTOR, legalMoves.check(new WorkAction(samplePlayer, stranger, physicsInvention)));
+    }
+
+    @Test
+    public void refreshRecomputesOnlyWhenStateChanges() throws AlreadyBusyException
+    {
+        LegalMoves legalMoves = new LegalMoves(samplePlayer, Arrays.asList(physicsInvention, chemistryInvention), 2, 1);
+
+        //Un inventeur occupé change les actions autorisées, même si la "table" n'a pas changé
+        physicist.makeBusy();
+        assertSame(legalMoves, legalMoves.refresh(Arrays.asList(physicsInvention, chemistryInvention), 1));
+        assertEquals(1, legalMoves.getWorkMovesCount());
+        assertTrue(legalMoves.canMakeAvailable());
+
+        //Tant que la version de la "table" est inchangée, le calcul précédent est conservé
+        assertEquals(1, legalMoves.refresh(Arrays.asList(physicsInvention), 1).getWorkMovesCount());
+
+        //Une nouvelle version de la "table" entraîne un nouveau calcul
+        assertEquals(0, legalMoves.refresh(Arrays.asList(physicsInvention), 2).getWorkMovesCount());
+    }
+}
@@ -57,4 +57,16 @@ public class WorkActionTest
         WorkAction workActionWithIncompatibleInventor = new WorkAction(samplePlayer, incompatibleInventor, sampleInvention);
         workActionWithIncompatibleInventor.execute();
     }
+
+    @Test
+    public void validateWorkAction() throws AlreadyBusyException
+    {
+        Inventor incompatibleInventor = new Inventor("SampleIncompatibleInventor", new Knowledges(0, 0, 0, 0), Team.Rouge);
+
+        assertEquals(ActionResult.LEGAL, new WorkAction(samplePlayer, sampleInventor, sampleInvention).validate());
+        assertEquals(ActionResult.INCOMPATIBLE_INVENTOR, new WorkAction(samplePlayer, incompatibleInventor, sampleInvention).validate());
+
+        sampleInventor.makeBusy();
+        assertEquals(ActionResult.BUSY_INVENTOR, new WorkAction(samplePlayer, sampleInventor, sampleInvention).validate());
+    }
 }
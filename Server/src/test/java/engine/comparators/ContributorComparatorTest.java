@@ -1,9 +1,9 @@
 package engine.comparators;
 
-import com.corundumstudio.socketio.SocketIOClient;
 import engine.core.Invention;
 import engine.core.Knowledges;
 import engine.core.Player;
+import network.GameClient;
 import org.junit.Test;
 
 import java.util.*;
@@ -22,40 +22,36 @@ public class ContributorComparatorTest
     public void compareContributors()
     {
         //Création du premier joueur et de son socket
-        SocketIOClient mockedSocketClient1;
-        mockedSocketClient1 = mock(SocketIOClient.class);
+        GameClient mockedSocketClient1;
+        mockedSocketClient1 = mock(GameClient.class);
         when(mockedSocketClient1.getSessionId()).thenReturn(new UUID(1, 1));
 
         Player player1 = new Player("player1", mockedSocketClient1.getSessionId());
         player1.giveTrophy();
 
         //Création du 2eme joueur et de son socket
-        SocketIOClient mockedSocketClient2;
-        mockedSocketClient2 = mock(SocketIOClient.class);
+        GameClient mockedSocketClient2;
+        mockedSocketClient2 = mock(GameClient.class);
         when(mockedSocketClient2.getSessionId()).thenReturn(new UUID(2, 2));
 
         Player player2 = new Player("player2", mockedSocketClient2.getSessionId());
         player2.removeTrophy();
 
         //Création de la HashMap de contribution qui sera utilisé pour tester la méthode compare
-        HashMap<SocketIOClient, Player> mapContributors = new HashMap<>();
+        HashMap<GameClient, Player> mapContributors = new HashMap<>();
         mapContributors.put(mockedSocketClient1, player1);
         mapContributors.put(mockedSocketClient2, player2);
 
-        //Création de la hashmap de contribution utilisé par l'invention
-        HashMap<UUID, Integer> contributionContributorsInvention = new HashMap<>();
-
-        //Si le joueur 2 a plus de contribution que le joueur 1
-        contributionContributorsInvention.put(mockedSocketClient1.getSessionId(), 4);
-        contributionContributorsInvention.put(mockedSocketClient2.getSessionId(), 5);
-
         Invention targetedInvention;
         targetedInvention = mock(Invention.class);
-        when(targetedInvention.getContributions()).thenReturn(contributionContributorsInvention);
+
+        //Si le joueur 2 a plus de contribution que le joueur 1
+        when(targetedInvention.getContribution(player1)).thenReturn(4);
+        when(targetedInvention.getContribution(player2)).thenReturn(5);
 
         ContributorComparator contributorComparator = new ContributorComparator(player1, targetedInvention);
 
-        Map<SocketIOClient, Player> sortedMapContributors = mapContributors.entrySet()
+        Map<GameClient, Player> sortedMapContributors = mapContributors.entrySet()
                 .stream()
                 .sorted(contributorComparator)
                 .collect(Collectors.toMap(Map.Entry::getKey,
@@ -64,7 +60,7 @@ public class ContributorComparatorTest
 
         assertEquals(2, sortedMapContributors.size());
 
-        Iterator<Map.Entry<SocketIOClient, Player>> sortedMapContributorsIterator = sortedMapContributors.entrySet().iterator();
+        Iterator<Map.Entry<GameClient, Player>> sortedMapContributorsIterator = sortedMapContributors.entrySet().iterator();
 
         assertTrue(sortedMapContributorsIterator.hasNext());
         assertEquals(new UUID(2, 2), sortedMapContributorsIterator.next().getKey().getSessionId());
@@ -74,8 +70,8 @@ public class ContributorComparatorTest
 
 
         //Si les joueurs ont la meme contribution et que le joueur 1 a LeonardoDaVinci
-        contributionContributorsInvention.put(mockedSocketClient1.getSessionId(), 3);
-        contributionContributorsInvention.put(mockedSocketClient2.getSessionId(), 3);
+        when(targetedInvention.getContribution(player1)).thenReturn(3);
+        when(targetedInvention.getContribution(player2)).thenReturn(3);
 
         contributorComparator = new ContributorComparator(player1, targetedInvention);
 
@@ -0,0 +1,110 @@
+package engine.history;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test des classes "GameEventLog" et "GameEventReader"
+ * @author Noé Mourton-Comte
+ */
+public class GameEventLogTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void eventsAreReadBackPerGame() throws IOException
+    {
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        try (GameEventLog eventLog = new GameEventLog(directory))
+        {
+            eventLog.append(1, 0, GameEventType.ERA_STARTED, 1);
+            eventLog.append(2, 0, GameEventType.ERA_STARTED, 1);
+            eventLog.append(1, 1, GameEventType.WORK, 0, 3, 7);
+            eventLog.append(1, 2, GameEventType.MAKE_AVAILABLE, 0);
+        }
+
+        GameEventReader reader = new GameEventReader(directory);
+        List<GameEvent> events = reader.readGame(1);
+
+        assertEquals(3, events.size());
+        assertEquals(GameEventType.WORK, events.get(1).getType());
+        assertEquals(1, events.get(1).getTurn());
+        assertEquals(3, events.get(1).getValuesCount());
+        assertEquals(7, events.get(1).getValue(2));
+
+        assertEquals(2, reader.readGame(1, 1).size());
+        assertEquals(1, reader.readGame(2).size());
+    }
+
+    @Test
+    public void segmentsAreRolledAndAppended() throws IOException
+    {
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        //Un segment de 64 octets ne peut contenir que deux événements à une valeur (26 octets chacun)
+        try (GameEventLog eventLog = new GameEventLog(directory, 64))
+        {
+            for(int i = 0; i < 5; i++)
+                eventLog.append(1, i, GameEventType.KICK, i);
+        }
+
+        //Un nouveau journal ajoute ses événements à la suite des segments existants
+        try (GameEventLog eventLog = new GameEventLog(directory, 64))
+        {
+            eventLog.append(1, 5, GameEventType.GAME_ENDED, -1);
+        }
+
+        assertEquals(4, GameEventReader.listSegments(directory).size());
+
+        List<GameEvent> events = new GameEventReader(directory).readGame(1);
+        assertEquals(6, events.size());
+        for(int i = 0; i < 5; i++)
+            assertEquals(i, events.get(i).getValue(0));
+        assertEquals(GameEventType.GAME_ENDED, events.get(5).getType());
+    }
+
+    @Test
+    public void gameIdsAreUniqueAcrossRuns() throws IOException
+    {
+        Path directory = temporaryFolder.getRoot().toPath();
+        long[] loggedGameIds = new long[2];
+
+        //Deux exécutions successives du serveur : la première partie de chacune porte l'identifiant 1
+        for(int run = 0; run < 2; run++)
+        {
+            try (GameEventLog eventLog = new GameEventLog(directory))
+            {
+                GameHistory history = new GameHistory(eventLog, eventLog.getLoggedGameId(1));
+                loggedGameIds[run] = history.getGameId();
+
+                history.record(0, GameEventType.PLAYER_SEATED, 0, 0, 0, 0, 1);
+                history.record(0, GameEventType.PLAYER_SEATED, 1, 0, 0, 0, 2);
+                history.record(0, GameEventType.REWARD, run, 2, 1, 3);
+                history.record(1, GameEventType.GAME_ENDED, run);
+            }
+        }
+
+        assertNotEquals(loggedGameIds[0], loggedGameIds[1]);
+
+        GameEventReader reader = new GameEventReader(directory);
+        for(int run = 0; run < 2; run++)
+        {
+            List<GameEvent> events = reader.readGame(loggedGameIds[run]);
+            GameReplay replay = GameReplay.replay(events, Integer.MAX_VALUE);
+
+            assertEquals(4, events.size());
+            assertEquals(run, replay.getWinnerSeat());
+            assertEquals(3, replay.getVictoryPoints(run));
+            assertEquals(0, replay.getVictoryPoints(1 - run));
+        }
+    }
+}
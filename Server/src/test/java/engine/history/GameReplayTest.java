@@ -0,0 +1,53 @@
+package engine.history;
+
+import engine.core.Knowledges;
+import engine.core.rewards.RewardType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test de la classe "GameReplay"
+ * @author Noé Mourton-Comte
+ */
+public class GameReplayTest
+{
+    private static GameEvent event(int turn, GameEventType type, int... values)
+    {
+        return new GameEvent(1, turn, type, values);
+    }
+
+    private final List<GameEvent> events = Arrays.asList(
+            event(0, GameEventType.PLAYER_SEATED, 0, 0, 0, 0, 1),
+            event(0, GameEventType.INVENTOR_DEALT, 0, 4),
+            event(0, GameEventType.ERA_STARTED, 1),
+            event(0, GameEventType.INVENTION_DEALT, 2),
+            event(1, GameEventType.WORK, 0, 4, 2),
+            event(1, GameEventType.CUBES, 2, 0, new Knowledges(1, 0, 1, 0).toPacked()),
+            event(1, GameEventType.REWARD, 0, 2, RewardType.VICTORY.ordinal(), 3),
+            event(2, GameEventType.MAKE_AVAILABLE, 0),
+            event(3, GameEventType.GAME_ENDED, 0));
+
+    @Test
+    public void replayUntilTurn()
+    {
+        GameReplay afterFirstTurn = GameReplay.replay(this.events, 1);
+
+        assertEquals(1, afterFirstTurn.getEra());
+        assertEquals(new java.util.UUID(0, 1), afterFirstTurn.getPlayersBySeat().get(0));
+        assertEquals(Arrays.asList(2), afterFirstTurn.getTableInventions());
+        assertEquals(new Knowledges(1, 0, 1, 0), afterFirstTurn.getInventionKnowledges(2));
+        assertTrue(afterFirstTurn.isInventorBusy(4));
+        assertEquals(3, afterFirstTurn.getVictoryPoints(0));
+        assertFalse(afterFirstTurn.isEnded());
+
+        GameReplay wholeGame = GameReplay.replay(this.events, Integer.MAX_VALUE);
+
+        assertFalse(wholeGame.isInventorBusy(4));
+        assertTrue(wholeGame.isEnded());
+        assertEquals(0, wholeGame.getWinnerSeat());
+    }
+}
@@ -6,6 +6,8 @@ import engine.reflection.Singleton;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.*;
+
 import static org.junit.Assert.*;
 
 /**
@@ -34,15 +36,34 @@ public class InventionManagerTest
     @Test
     public void pickAllInventions() throws DuplicateInventionException
     {
-        Singleton.getInstance(InventionManager.class).load();
+        InventionDeck inventionDeck = Singleton.getInstance(InventionManager.class).createDeck();
 
         for(int i = 0; i < InventionManager.IMPLEMENTED_INVENTIONS_COUNT; i++)
         {
-            Invention test = Singleton.getInstance(InventionManager.class).pickInvention();
+            Invention test = inventionDeck.pickInvention();
             assertNotNull(test);
         }
     }
 
+    /**
+     * Permet de vérifier que les identifiants des inventions sont uniques et compris entre 0 et la taille du catalogue.
+     */
+    @Test
+    public void inventionsHaveDenseIds() throws DuplicateInventionException
+    {
+        InventionDeck inventionDeck = Singleton.getInstance(InventionManager.class).createDeck();
+        BitSet ids = new BitSet();
+
+        for(int i = 0; i < InventionManager.IMPLEMENTED_INVENTIONS_COUNT; i++)
+        {
+            int id = inventionDeck.pickInvention().getId();
+            assertTrue(id >= 0 && id < inventionDeck.getCatalogSize());
+            ids.set(id);
+        }
+
+        assertEquals(InventionManager.IMPLEMENTED_INVENTIONS_COUNT, ids.cardinality());
+    }
+
     /**
      * Permet de vérifier si l'on ne peut pas piocher plus d'invention que l'on en a déclaré.
      * @throws Exception
@@ -50,10 +71,10 @@ public class InventionManagerTest
     @Test
     public void pickTooMuchInventions() throws DuplicateInventionException
     {
-        Singleton.getInstance(InventionManager.class).load();
+        InventionDeck inventionDeck = Singleton.getInstance(InventionManager.class).createDeck();
 
         for (int i = 0; i < InventionManager.IMPLEMENTED_INVENTIONS_COUNT + 1; i++) {
-            Invention test = Singleton.getInstance(InventionManager.class).pickInvention();
+            Invention test = inventionDeck.pickInvention();
             if (i < InventionManager.IMPLEMENTED_INVENTIONS_COUNT) {
                 assertNotNull(test);
             } else {
@@ -69,11 +90,11 @@ public class InventionManagerTest
     @Test
     public void pickInventionsForSpecificEra() throws DuplicateInventionException
     {
-        Singleton.getInstance(InventionManager.class).load();
+        InventionDeck inventionDeck = Singleton.getInstance(InventionManager.class).createDeck();
 
-        Invention inventionOfTheFirstEra = Singleton.getInstance(InventionManager.class).pickInvention(1);
-        Invention inventionOfTheSecondEra = Singleton.getInstance(InventionManager.class).pickInvention(2);
-        Invention inventionOfTheThirdEra = Singleton.getInstance(InventionManager.class).pickInvention(3);
+        Invention inventionOfTheFirstEra = inventionDeck.pickInvention(1);
+        Invention inventionOfTheSecondEra = inventionDeck.pickInvention(2);
+        Invention inventionOfTheThirdEra = inventionDeck.pickInvention(3);
 
         assertNotNull(inventionOfTheFirstEra);
         assertEquals(inventionOfTheFirstEra.getEra(), 1);
@@ -84,4 +105,75 @@ public class InventionManagerTest
         assertNotNull(inventionOfTheThirdEra);
         assertEquals(inventionOfTheThirdEra.getEra(), 3);
     }
+
+    /**
+     * Permet de vérifier que deux paquets (deux parties) ne partagent ni leurs tirages ni leurs inventions.
+     * @throws DuplicateInventionException
+     */
+    @Test
+    public void decksAreIndependent() throws DuplicateInventionException
+    {
+        InventionDeck firstDeck = Singleton.getInstance(InventionManager.class).createDeck();
+        InventionDeck secondDeck = Singleton.getInstance(InventionManager.class).createDeck(new Random(1));
+
+        for(int i = 0; i < InventionManager.IMPLEMENTED_INVENTIONS_COUNT; i++)
+            assertNotNull(firstDeck.pickInvention());
+
+        assertEquals(0, firstDeck.getRemainingInventionsCount());
+        assertEquals(InventionManager.IMPLEMENTED_INVENTIONS_COUNT, secondDeck.getRemainingInventionsCount());
+
+        Invention firstInvention = Singleton.getInstance(InventionManager.class).createDeck(new Random(1)).pickInvention(1);
+        Invention secondInvention = secondDeck.pickInvention(1);
+
+        assertEquals(firstInvention.getName(), secondInvention.getName());
+        assertNotSame(firstInvention, secondInvention);
+        assertNotSame(firstInvention.getRequiredKnowledges(), secondInvention.getRequiredKnowledges());
+    }
+
+    /**
+     * Permet de vérifier que deux paquets mélangés avec la même graine donnent les mêmes tirages, et que le paquet est
+     * bien mélangé.
+     * @throws DuplicateInventionException
+     */
+    @Test
+    public void decksAreShuffledBySeed() throws DuplicateInventionException
+    {
+        InventionDeck firstDeck = Singleton.getInstance(InventionManager.class).createDeck(new Random(42));
+        InventionDeck secondDeck = Singleton.getInstance(InventionManager.class).createDeck(new Random(42));
+
+        for(int i = 0; i < InventionManager.IMPLEMENTED_INVENTIONS_COUNT; i++)
+            assertEquals(firstDeck.pickInvention().getName(), secondDeck.pickInvention().getName());
+
+        Set<String> firstPicks = new HashSet<>();
+        for(int seed = 0; seed < 20; seed++)
+            firstPicks.add(Singleton.getInstance(InventionManager.class).createDeck(new Random(seed)).pickInvention(1).getName());
+
+        assertTrue(firstPicks.size() > 1);
+    }
+
+    /**
+     * Permet de vérifier qu'une invention tirée dans une époque n'est plus tirée dans la pioche commune.
+     * @throws DuplicateInventionException
+     */
+    @Test
+    public void erasAndGlobalPicksDoNotOverlap() throws DuplicateInventionException
+    {
+        InventionDeck inventionDeck = Singleton.getInstance(InventionManager.class).createDeck(new Random(7));
+        Set<String> pickedNames = new HashSet<>();
+
+        Invention invention;
+        while((invention = inventionDeck.pickInvention(2)) != null)
+        {
+            assertEquals(2, invention.getEra());
+            assertTrue(pickedNames.add(invention.getName()));
+        }
+
+        while((invention = inventionDeck.pickInvention()) != null)
+            assertTrue(pickedNames.add(invention.getName()));
+
+        assertEquals(InventionManager.IMPLEMENTED_INVENTIONS_COUNT, pickedNames.size());
+        assertEquals(0, inventionDeck.getRemainingInventionsCount());
+        assertNull(inventionDeck.pickInvention(1));
+        assertNull(inventionDeck.pickInvention(42));
+    }
 }
@@ -3,6 +3,7 @@ package engine.managers;
 import engine.core.Invention;
 import engine.core.Inventor;
 import engine.core.Knowledges;
+import engine.core.Team;
 import engine.core.exceptions.AlreadyAvailableException;
 import engine.core.exceptions.AlreadyBusyException;
 import engine.managers.exceptions.DuplicateInventorException;
@@ -10,6 +11,8 @@ import engine.reflection.Singleton;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.BitSet;
+
 /**
  * Classe destinée à tester la classe "InventorManager".
  * @author Noé Mourton-Comte
@@ -29,24 +32,39 @@ public class InventorManagerTest
     @Test
     public void pickAllImplementedInventors() throws DuplicateInventorException
     {
-        //Rechargement des inventeurs...
-        Singleton.getInstance(InventorManager.class).load();
+        //Création d'un paquet d'inventeurs...
+        InventorDeck inventorDeck = Singleton.getInstance(InventorManager.class).createDeck();
 
         for (int i = 0; i < InventorManager.IMPLEMENTED_INVENTORS_COUNT; i++) {
-            Inventor inventor = Singleton.getInstance(InventorManager.class).pickInventor();
+            Inventor inventor = inventorDeck.pickInventor();
             Assert.assertNotNull(inventor);
         }
     }
 
+    @Test
+    public void inventorsHaveDenseIds() throws DuplicateInventorException
+    {
+        InventorDeck inventorDeck = Singleton.getInstance(InventorManager.class).createDeck();
+        BitSet ids = new BitSet();
+
+        for (int i = 0; i < InventorManager.IMPLEMENTED_INVENTORS_COUNT; i++) {
+            int id = inventorDeck.pickInventor().getId();
+            Assert.assertTrue(id >= 0 && id < inventorDeck.getCatalogSize());
+            ids.set(id);
+        }
+
+        Assert.assertEquals(InventorManager.IMPLEMENTED_INVENTORS_COUNT, ids.cardinality());
+    }
+
     @Test
     public void pickMoreThanImplementedInventors() throws DuplicateInventorException
     {
-        //Rechargement des inventeurs...
-        Singleton.getInstance(InventorManager.class).load();
+        //Création d'un paquet d'inventeurs...
+        InventorDeck inventorDeck = Singleton.getInstance(InventorManager.class).createDeck();
 
         for(int i = 0; i < InventorManager.IMPLEMENTED_INVENTORS_COUNT + 1; i++)
         {
-            Inventor inventor = Singleton.getInstance(InventorManager.class).pickInventor();
+            Inventor inventor = inventorDeck.pickInventor();
             if(i < InventorManager.IMPLEMENTED_INVENTORS_COUNT)
                 Assert.assertNotNull(inventor);
             else
@@ -57,9 +75,9 @@ public class InventorManagerTest
     @Test(expected=AlreadyAvailableException.class)
     public void makeAvailable() throws DuplicateInventorException, AlreadyAvailableException
     {
-        //Rechargement des inventeurs...
-        Singleton.getInstance(InventorManager.class).load();
-        Inventor inventor = Singleton.getInstance(InventorManager.class).pickInventor();
+        //Création d'un paquet d'inventeurs...
+        InventorDeck inventorDeck = Singleton.getInstance(InventorManager.class).createDeck();
+        Inventor inventor = inventorDeck.pickInventor();
 
         //Test de la variable busy (faux de base)
         Assert.assertFalse(inventor.isBusy());
@@ -71,9 +89,9 @@ public class InventorManagerTest
     @Test(expected=AlreadyBusyException.class)
     public void makeBusy() throws AlreadyBusyException, DuplicateInventorException
     {
-        //Rechargement des inventeurs...
-        Singleton.getInstance(InventorManager.class).load();
-        Inventor inventor = Singleton.getInstance(InventorManager.class).pickInventor();
+        //Création d'un paquet d'inventeurs...
+        InventorDeck inventorDeck = Singleton.getInstance(InventorManager.class).createDeck();
+        Inventor inventor = inventorDeck.pickInventor();
 
         //Test de la variable busy (faux de base)
         Assert.assertFalse(inventor.isBusy());
@@ -89,9 +107,9 @@ public class InventorManagerTest
     @Test
     public void canWorkOn() throws DuplicateInventorException
     {
-        //Rechargement des inventeurs et tirage d'un inventeur
-        Singleton.getInstance(InventorManager.class).load();
-        Inventor inventor = Singleton.getInstance(InventorManager.class).pickInventor();
+        //Création d'un paquet d'inventeurs et tirage d'un inventeur
+        InventorDeck inventorDeck = Singleton.getInstance(InventorManager.class).createDeck();
+        Inventor inventor = inventorDeck.pickInventor();
 
         //Création de deux inventions
         Invention invention1 = new Invention("invention 1", new Knowledges(1,1,1,1), 2);
@@ -100,4 +118,45 @@ public class InventorManagerTest
         Assert.assertTrue(inventor.canWorkOn(invention1));
         Assert.assertFalse(inventor.canWorkOn(invention2));
     }
+
+    @Test
+    public void decksAreIndependent() throws DuplicateInventorException, AlreadyBusyException
+    {
+        InventorDeck firstDeck = Singleton.getInstance(InventorManager.class).createDeck();
+        InventorDeck secondDeck = Singleton.getInstance(InventorManager.class).createDeck();
+
+        //Occuper un inventeur d'une partie ne doit pas occuper celui de l'autre partie
+        Inventor firstInventor = firstDeck.pickInventor(Team.Rouge).get(0);
+        Inventor secondInventor = secondDeck.pickInventor(Team.Rouge).get(0);
+        firstInventor.makeBusy();
+
+        Assert.assertEquals(firstInventor.getName(), secondInventor.getName());
+        Assert.assertFalse(secondInventor.isBusy());
+        Assert.assertEquals(InventorManager.IMPLEMENTED_INVENTORS_COUNT - 4, firstDeck.getRemainingInventorsCount());
+    }
+
+    /**
+     * Permet de vérifier que chaque équipe reçoit exactement ses inventeurs, et qu'une équipe sans inventeur reçoit une
+     * liste vide.
+     * @throws DuplicateInventorException
+     */
+    @Test
+    public void pickTeamRosters() throws DuplicateInventorException
+    {
+        InventorDeck inventorDeck = Singleton.getInstance(InventorManager.class).createDeck();
+
+        int pickedInventors = 0;
+        for(Team team : Team.values())
+        {
+            for(Inventor inventor : inventorDeck.pickInventor(team))
+            {
+                Assert.assertEquals(team, inventor.getTeam());
+                pickedInventors++;
+            }
+        }
+
+        Assert.assertEquals(InventorManager.IMPLEMENTED_INVENTORS_COUNT, pickedInventors);
+        Assert.assertEquals(0, inventorDeck.getRemainingInventorsCount());
+        Assert.assertTrue(inventorDeck.pickInventor(Team.Vert).isEmpty());
+    }
 }
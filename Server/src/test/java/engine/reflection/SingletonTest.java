@@ -0,0 +1,49 @@
+package engine.reflection;
+
+import engine.managers.InventorManager;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe destinée à tester la classe "Singleton".
+ * @author Noé Mourton-Comte
+ */
+public class SingletonTest
+{
+    /**
+     * Une classe doit toujours donner la même instance, y compris lorsqu'elle est demandée par plusieurs threads.
+     */
+    @Test
+    public void sameInstanceAcrossThreads() throws InterruptedException, ExecutionException
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<InventorManager>> futures = new ArrayList<>();
+
+        try
+        {
+            for(int i = 0; i < 8; i++)
+            {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return Singleton.getInstance(InventorManager.class);
+                }));
+            }
+            start.countDown();
+
+            InventorManager expected = Singleton.getInstance(InventorManager.class);
+            assertNotNull(expected);
+            for(Future<InventorManager> future : futures)
+                assertSame(expected, future.get());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}
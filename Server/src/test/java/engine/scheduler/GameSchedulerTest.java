@@ -0,0 +1,197 @@
+package engine.scheduler;
+
+import com.corundumstudio.socketio.AckCallback;
+import engine.Game;
+import engine.exceptions.CurrentPlayerNotFoundException;
+import engine.scheduler.exceptions.GameRejectedException;
+import network.BroadcastEvent;
+import network.GameClient;
+import network.ProtocolMessages;
+import network.ProtocolTypes;
+import network.callbacks.ActionAckCallback;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe destinée à tester la classe "GameScheduler".
+ * @author Noé Mourton-Comte
+ */
+public class GameSchedulerTest
+{
+    private GameScheduler gameScheduler;
+
+    @After
+    public void shutdown()
+    {
+        if(this.gameScheduler != null)
+            this.gameScheduler.shutdown();
+    }
+
+    /**
+     * Crée une partie mockée dont la méthode "play" rend la main immédiatement, comme une partie attendant la réponse d'un client
+     */
+    private Game createWaitingGame(CountDownLatch started) throws Exception
+    {
+        Game mockedGame = mock(Game.class);
+
+        doAnswer(invocation ->
+        {
+            started.countDown();
+            return null;
+        }).when(mockedGame).play();
+
+        return mockedGame;
+    }
+
+    @Test
+    public void runningGamesDoNotHoldWorkers() throws Exception
+    {
+        CountDownLatch started = new CountDownLatch(3);
+        Game waitingGame = this.createWaitingGame(started);
+
+        //Un seul travailleur suffit à démarrer trois parties qui attendent leurs clients
+        this.gameScheduler = new GameScheduler(1, 3, 1, (players, executor) -> waitingGame);
+
+        ScheduledGame firstGame = this.gameScheduler.submit(new ArrayList<>());
+        ScheduledGame secondGame = this.gameScheduler.submit(new ArrayList<>());
+        ScheduledGame thirdGame = this.gameScheduler.submit(new ArrayList<>());
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(3, this.gameScheduler.getRunningGamesCount());
+        assertEquals(0, this.gameScheduler.getQueuedGamesCount());
+
+        firstGame.onGameEnded(waitingGame);
+        secondGame.onGameEnded(waitingGame);
+        thirdGame.onGameEnded(waitingGame);
+
+        this.gameScheduler.shutdown();
+        assertTrue(this.gameScheduler.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(3, this.gameScheduler.getFinishedGamesCount());
+        assertTrue(this.gameScheduler.getLiveGames().isEmpty());
+    }
+
+    @Test
+    public void admitQueuedGameWhenRunningGameEnds() throws Exception
+    {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        Game firstGame = this.createWaitingGame(firstStarted);
+        Game secondGame = this.createWaitingGame(secondStarted);
+
+        this.gameScheduler = new GameScheduler(1, 1, 1, (players, executor) -> players.isEmpty() ? firstGame : secondGame);
+
+        ScheduledGame runningGame = this.gameScheduler.submit(new ArrayList<>());
+        GameClient queuedPlayer = mock(GameClient.class);
+        when(queuedPlayer.getSessionId()).thenReturn(new UUID(0, 1));
+
+        ScheduledGame queuedGame = this.gameScheduler.submit(new ArrayList<>(Collections.singletonList(queuedPlayer)));
+        assertSame(queuedGame, this.gameScheduler.getGameBySession(queuedPlayer.getSessionId()));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+        assertEquals(GameStatus.RUNNING, runningGame.getStatus());
+        assertEquals(GameStatus.QUEUED, queuedGame.getStatus());
+        assertEquals(1, this.gameScheduler.getQueuedGamesCount());
+
+        //La fin de la première partie libère une place pour la partie en attente
+        runningGame.onGameEnded(firstGame);
+
+        assertTrue(secondStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(GameStatus.FINISHED, runningGame.getStatus());
+        assertEquals(1, this.gameScheduler.getRunningGamesCount());
+        assertEquals(0, this.gameScheduler.getQueuedGamesCount());
+    }
+
+    @Test(expected = GameRejectedException.class)
+    public void rejectGameWhenQueueIsFull() throws Exception
+    {
+        CountDownLatch started = new CountDownLatch(1);
+        Game waitingGame = this.createWaitingGame(started);
+
+        this.gameScheduler = new GameScheduler(1, 1, 1, (players, executor) -> waitingGame);
+
+        //La première partie est admise, la seconde attend dans la file...
+        this.gameScheduler.submit(new ArrayList<>());
+        this.gameScheduler.submit(new ArrayList<>());
+
+        //...et la troisième est refusée.
+        this.gameScheduler.submit(new ArrayList<>());
+    }
+
+    @Test
+    public void trackFailedGame() throws Exception
+    {
+        Game failingGame = mock(Game.class);
+        doThrow(new CurrentPlayerNotFoundException("Aucun joueur")).when(failingGame).play();
+
+        this.gameScheduler = new GameScheduler(1, 1, 1, (players, executor) -> failingGame);
+
+        ScheduledGame scheduledGame = this.gameScheduler.submit(new ArrayList<>());
+
+        this.gameScheduler.shutdown();
+        assertTrue(this.gameScheduler.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(GameStatus.FAILED, scheduledGame.getStatus());
+        assertEquals(1, this.gameScheduler.getFailedGamesCount());
+        assertEquals(0, this.gameScheduler.getRunningGamesCount());
+        assertNull(this.gameScheduler.getGame(scheduledGame.getId()));
+    }
+
+    /**
+     * Crée un client qui libère ses inventeurs à chaque tour mais dont l'encodage des synchronisations échoue
+     */
+    private GameClient createFailingClient(long id)
+    {
+        GameClient failingClient = mock(GameClient.class);
+        when(failingClient.getSessionId()).thenReturn(new UUID(0, id));
+
+        doAnswer(invocation ->
+        {
+            ActionAckCallback actionAckCallback = (ActionAckCallback) invocation.getArguments()[1];
+            actionAckCallback.getPlayer().getFreeInventors().get(0).makeBusy();
+            actionAckCallback.onSuccess(new String[] { ProtocolTypes.MakeAvailableAction.name() });
+            return null;
+        }).when(failingClient).sendEvent(eq(ProtocolMessages.TurnStartedMessage.name()), any(AckCallback.class));
+
+        doAnswer(invocation ->
+        {
+            if(ProtocolMessages.SynchronizeDeltaMessage.name().equals(((BroadcastEvent) invocation.getArguments()[0]).getName()))
+                throw new IllegalStateException("Encodage impossible");
+
+            return null;
+        }).when(failingClient).sendEvent(any(BroadcastEvent.class));
+
+        return failingClient;
+    }
+
+    @Test
+    public void trackGameFailingDuringStep() throws Exception
+    {
+        GameClient firstClient = this.createFailingClient(1);
+        GameClient secondClient = this.createFailingClient(2);
+
+        this.gameScheduler = new GameScheduler(1, 1, 1, Game::new);
+
+        //L'étape exécutant l'action échoue sur un travailleur, après le retour de "play"
+        ScheduledGame scheduledGame = this.gameScheduler.submit(new ArrayList<>(Arrays.asList(firstClient, secondClient)));
+
+        this.gameScheduler.shutdown();
+        assertTrue(this.gameScheduler.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(GameStatus.FAILED, scheduledGame.getStatus());
+        assertEquals(1, this.gameScheduler.getFailedGamesCount());
+        assertEquals(0, this.gameScheduler.getRunningGamesCount());
+        verify(firstClient).sendEvent(ProtocolMessages.GameEndedMessage.name(), false, 0);
+        verify(secondClient).sendEvent(ProtocolMessages.GameEndedMessage.name(), false, 0);
+    }
+}
@@ -0,0 +1,106 @@
+package network;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import engine.Game;
+import engine.scheduler.GameScheduler;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe destinée à tester la classe "Server".
+ * @author Noé Mourton-Comte
+ */
+public class ServerTest
+{
+    private Server server;
+    private ServerListener listener;
+
+    @Before
+    public void init()
+    {
+        this.server = new Server();
+
+        this.listener = mock(ServerListener.class);
+        this.server.addListener(this.listener);
+    }
+
+    /**
+     * Méthode permettant de créer une socket client mockée
+     */
+    private SocketIOClient mockSocket()
+    {
+        SocketIOClient socket = mock(SocketIOClient.class);
+        when(socket.getSessionId()).thenReturn(UUID.randomUUID());
+
+        return socket;
+    }
+
+    /**
+     * Méthode permettant de tester qu'un client resté connecté est réinscrit pour une nouvelle partie
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void requeuedClientsArePaired()
+    {
+        SocketIOClient firstSocket = this.mockSocket();
+        SocketIOClient secondSocket = this.mockSocket();
+
+        //Une demande en double ne doit pas permettre à un client de jouer contre lui-même
+        this.server.onRequeue(firstSocket);
+        this.server.onRequeue(firstSocket);
+        verify(this.listener, never()).onGameReady(anyList());
+
+        this.server.onRequeue(secondSocket);
+
+        ArgumentCaptor<List> players = ArgumentCaptor.forClass(List.class);
+        verify(this.listener).onGameReady(players.capture());
+        assertEquals(2, players.getValue().size());
+        assertEquals(firstSocket.getSessionId(), ((GameClient)players.getValue().get(0)).getSessionId());
+        assertEquals(secondSocket.getSessionId(), ((GameClient)players.getValue().get(1)).getSessionId());
+
+        //La réinscription ne renvoie pas de WelcomeMessage
+        verify(firstSocket, never()).sendEvent(anyString(), any(), anyVararg());
+    }
+
+    /**
+     * Méthode permettant de tester qu'un client encore assis à une partie en cours n'est pas réinscrit
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void seatedClientsAreNotRequeued() throws Exception
+    {
+        SocketIOClient seatedSocket = this.mockSocket();
+        SocketIOClient otherSocket = this.mockSocket();
+
+        UUID seatedSessionId = seatedSocket.getSessionId();
+        GameClient seatedPlayer = mock(GameClient.class);
+        when(seatedPlayer.getSessionId()).thenReturn(seatedSessionId);
+
+        //La partie du client attend la réponse d'un joueur, elle est donc toujours en cours
+        GameScheduler gameScheduler = new GameScheduler(1, 1, 1, (players, executor) -> mock(Game.class));
+        this.server.setGameScheduler(gameScheduler);
+
+        try
+        {
+            gameScheduler.submit(new ArrayList<>(Collections.singletonList(seatedPlayer)));
+
+            this.server.onRequeue(seatedSocket);
+            this.server.onRequeue(otherSocket);
+
+            verify(this.listener, never()).onGameReady(anyList());
+        }
+        finally
+        {
+            gameScheduler.shutdown();
+        }
+    }
+}
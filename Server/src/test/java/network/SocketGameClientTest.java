@@ -0,0 +1,71 @@
+package network;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.protocol.Packet;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe destinée à tester la classe "SocketGameClient".
+ * @author Noé Mourton-Comte
+ */
+public class SocketGameClientTest
+{
+    private SocketIOClient createSocketClient(ProtocolEncodings encoding)
+    {
+        SocketIOClient socketClient = mock(SocketIOClient.class);
+        when(socketClient.get(SocketGameClient.ENCODING_KEY)).thenReturn(encoding);
+
+        return socketClient;
+    }
+
+    @Test
+    public void broadcastSharesPacketBetweenRecipients()
+    {
+        SocketIOClient firstSocketClient = this.createSocketClient(ProtocolEncodings.JSON);
+        SocketIOClient secondSocketClient = this.createSocketClient(null);
+
+        JsonPayload payload = spy(new JsonPayload("Invention"));
+        BroadcastEvent event = new BroadcastEvent(ProtocolMessages.LogMessage.name(), payload);
+
+        new SocketGameClient(firstSocketClient).sendEvent(event);
+        new SocketGameClient(secondSocketClient).sendEvent(event);
+
+        ArgumentCaptor<Packet> firstPacket = ArgumentCaptor.forClass(Packet.class);
+        ArgumentCaptor<Packet> secondPacket = ArgumentCaptor.forClass(Packet.class);
+        verify(firstSocketClient).send(firstPacket.capture());
+        verify(secondSocketClient).send(secondPacket.capture());
+
+        //Le paquet, et donc l'encodage des paramètres, est partagé par les deux destinataires
+        assertSame(firstPacket.getValue(), secondPacket.getValue());
+        assertEquals(ProtocolMessages.LogMessage.name(), firstPacket.getValue().getName());
+        assertEquals("\"Invention\"", ((List<?>) firstPacket.getValue().getData()).get(0));
+        verify(payload, times(1)).toJson();
+    }
+
+    @Test
+    public void broadcastEncodesOncePerEncoding()
+    {
+        SocketIOClient jsonSocketClient = this.createSocketClient(ProtocolEncodings.JSON);
+        SocketIOClient binarySocketClient = this.createSocketClient(ProtocolEncodings.BINARY);
+
+        BroadcastEvent event = new BroadcastEvent(ProtocolMessages.RewardMessage.name(), new ArrayList<>());
+
+        new SocketGameClient(jsonSocketClient).sendEvent(event);
+        new SocketGameClient(binarySocketClient).sendEvent(event);
+
+        ArgumentCaptor<Packet> jsonPacket = ArgumentCaptor.forClass(Packet.class);
+        ArgumentCaptor<Packet> binaryPacket = ArgumentCaptor.forClass(Packet.class);
+        verify(jsonSocketClient).send(jsonPacket.capture());
+        verify(binarySocketClient).send(binaryPacket.capture());
+
+        assertNotSame(jsonPacket.getValue(), binaryPacket.getValue());
+        assertTrue(((List<?>) binaryPacket.getValue().getData()).get(0) instanceof byte[]);
+    }
+}
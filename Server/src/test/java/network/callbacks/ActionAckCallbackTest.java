@@ -5,8 +5,8 @@ import engine.actions.Action;
 import engine.actions.MakeAvailableAction;
 import engine.actions.WorkAction;
 import engine.core.*;
-import engine.exceptions.RequestedInventionNotFoundException;
 import engine.exceptions.RequestedInventorNotFoundException;
+import network.BinaryCodec;
 import network.ProtocolTypes;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,30 +31,123 @@ public class ActionAckCallbackTest
     @Test
     public void parseMakeAvailableAction() throws InterruptedException
     {
-        ActionAckCallback actionAckCallback = new ActionAckCallback(new Object(), this.mockedGame, new Player());
+        ActionAckCallback actionAckCallback = new ActionAckCallback(this.mockedGame, new Player());
 
         actionAckCallback.onSuccess(new String[] { ProtocolTypes.MakeAvailableAction.name() });
         Action result = actionAckCallback.getAction();
 
         assertTrue(result instanceof MakeAvailableAction);
+        verify(this.mockedGame).onActionReceived(actionAckCallback);
     }
 
     @Test
-    public void parseWorkAction() throws InterruptedException, RequestedInventorNotFoundException, RequestedInventionNotFoundException
+    public void parseWorkAction() throws RequestedInventorNotFoundException
     {
-        when(this.mockedGame.getPlayerInventorByName(any(Player.class), anyString()))
-                .thenReturn(new Inventor("Inventeur", new Knowledges(4, 3, 2, 1), Team.Bleu));
-        when(this.mockedGame.getInventionByName(anyString()))
-                .thenReturn(new Invention("Invention", new Knowledges(1, 2, 3, 4), 2));
+        Player player = new Player();
+        Inventor inventor = new Inventor(3, "Inventeur", new Knowledges(4, 3, 2, 1), Team.Bleu);
+        Invention invention = new Invention(200, "Invention", new Knowledges(1, 2, 3, 4), 2);
 
+        when(this.mockedGame.getPlayerInventorById(player, 3)).thenReturn(inventor);
+        when(this.mockedGame.getInventionById(200)).thenReturn(invention);
 
-        ActionAckCallback actionAckCallback = new ActionAckCallback(new Object(), this.mockedGame, new Player());
+        ActionAckCallback actionAckCallback = new ActionAckCallback(this.mockedGame, player);
 
-        actionAckCallback.onSuccess(new String[] { ProtocolTypes.WorkAction.name(), "Inventeur", "Invention" });
+        actionAckCallback.onSuccess(new String[] { ProtocolTypes.WorkAction.name(), "3", "200" });
         Action result = actionAckCallback.getAction();
 
-        verify(this.mockedGame).getPlayerInventorByName(any(Player.class), anyString());
-        verify(this.mockedGame).getInventionByName(anyString());
         assertTrue(result instanceof WorkAction);
+        assertSame(inventor, ((WorkAction) result).getWorkingInventor());
+        assertSame(invention, ((WorkAction) result).getTargetedInvention());
+        verify(this.mockedGame, never()).getPlayerInventorByName(any(Player.class), anyString());
+        verify(this.mockedGame).onActionReceived(actionAckCallback);
+    }
+
+    @Test
+    public void rejectWorkActionWithInvalidIds()
+    {
+        ActionAckCallback actionAckCallback = new ActionAckCallback(this.mockedGame, new Player());
+
+        actionAckCallback.onSuccess(new String[] { ProtocolTypes.WorkAction.name(), "Inventeur", "-1" });
+
+        assertNull(actionAckCallback.getAction());
+        verify(this.mockedGame).getPlayerInventorById(any(Player.class), eq(Inventor.NO_ID));
+        verify(this.mockedGame).onActionReceived(actionAckCallback);
+    }
+
+    @Test
+    public void rejectMalformedActions()
+    {
+        String[][] malformedActions = {
+                null,
+                new String[0],
+                new String[] { null },
+                new String[] { "Inconnue" },
+                new String[] { ProtocolTypes.WorkAction.name(), "3" }
+        };
+
+        for(String[] malformedAction : malformedActions)
+        {
+            ActionAckCallback actionAckCallback = new ActionAckCallback(this.mockedGame, new Player());
+
+            actionAckCallback.onSuccess(malformedAction);
+
+            assertNull(actionAckCallback.getAction());
+            verify(this.mockedGame).onActionReceived(actionAckCallback);
+        }
+    }
+
+    @Test
+    public void rejectNullPackedAction()
+    {
+        ActionAckCallback actionAckCallback = new ActionAckCallback(this.mockedGame, new Player());
+
+        actionAckCallback.packed().onSuccess(null);
+
+        assertNull(actionAckCallback.getAction());
+        verify(this.mockedGame).onActionReceived(actionAckCallback);
+    }
+
+    @Test
+    public void parsePackedWorkAction() throws RequestedInventorNotFoundException
+    {
+        Player player = new Player();
+        Inventor inventor = new Inventor(3, "Inventeur", new Knowledges(4, 3, 2, 1), Team.Bleu);
+        Invention invention = new Invention(7, "Invention", new Knowledges(1, 2, 3, 4), 2);
+
+        when(this.mockedGame.getPlayerInventorById(player, 3)).thenReturn(inventor);
+        when(this.mockedGame.getInventionById(7)).thenReturn(invention);
+
+        ActionAckCallback actionAckCallback = new ActionAckCallback(this.mockedGame, player);
+
+        actionAckCallback.onPackedSuccess(BinaryCodec.packAction(ProtocolTypes.WorkAction, 3, 7));
+        Action result = actionAckCallback.getAction();
+
+        assertTrue(result instanceof WorkAction);
+        assertSame(inventor, ((WorkAction) result).getWorkingInventor());
+        assertSame(invention, ((WorkAction) result).getTargetedInvention());
+        verify(this.mockedGame, never()).getPlayerInventorByName(any(Player.class), anyString());
+        verify(this.mockedGame).onActionReceived(actionAckCallback);
+    }
+
+    @Test
+    public void rejectPackedActionWithUnknownIds()
+    {
+        ActionAckCallback actionAckCallback = new ActionAckCallback(this.mockedGame, new Player());
+
+        actionAckCallback.onPackedSuccess(BinaryCodec.packAction(ProtocolTypes.WorkAction, 0, 0));
+
+        assertNull(actionAckCallback.getAction());
+        verify(this.mockedGame).onActionReceived(actionAckCallback);
+    }
+
+    @Test
+    public void resumeGameOnTimeout()
+    {
+        ActionAckCallback actionAckCallback = new ActionAckCallback(this.mockedGame, new Player());
+
+        actionAckCallback.onTimeout();
+
+        assertNull(actionAckCallback.getAction());
+        verify(this.mockedGame).onActionReceived(actionAckCallback);
     }
 }
@@ -1,5 +1,7 @@
 package network.callbacks;
 
+import engine.Game;
+import engine.core.Player;
 import engine.core.rewards.Reward;
 import engine.core.rewards.RewardType;
 import org.junit.Before;
@@ -9,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Classe destinée à tester la classe "RewardAckCallback".
@@ -33,7 +36,7 @@ public class RewardAckCallbackTest
     @Test
     public void pickCorrectReward()
     {
-        RewardAckCallback rewardAckCallback = new RewardAckCallback(new Object(), this.rewards);
+        RewardAckCallback rewardAckCallback = new RewardAckCallback(mock(Game.class), new Player(), this.rewards);
 
         rewardAckCallback.onSuccess(0);
         Reward selectedReward = rewardAckCallback.getSelectedReward();
@@ -44,11 +47,23 @@ public class RewardAckCallbackTest
     @Test
     public void pickIncorrectReward()
     {
-        RewardAckCallback rewardAckCallback = new RewardAckCallback(new Object(), this.rewards);
+        RewardAckCallback rewardAckCallback = new RewardAckCallback(mock(Game.class), new Player(), this.rewards);
 
         rewardAckCallback.onSuccess(2);
         Reward selectedReward = rewardAckCallback.getSelectedReward();
 
         assertNull(selectedReward);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void resumeGameOnEmptyReply()
+    {
+        Game mockedGame = mock(Game.class);
+        RewardAckCallback rewardAckCallback = new RewardAckCallback(mockedGame, new Player(), this.rewards);
+
+        rewardAckCallback.onSuccess(null);
+
+        assertNull(rewardAckCallback.getSelectedReward());
+        verify(mockedGame).onRewardReceived(rewardAckCallback);
+    }
+}
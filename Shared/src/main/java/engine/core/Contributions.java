@@ -0,0 +1,126 @@
+package engine.core;
+
+import com.google.gson.annotations.JsonAdapter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Classe représentant le nombre de cubes apportés à une invention par chaque joueur.
+ * Les contributions sont rangées par place autour de la table (voir Player.getSeat) : ajouter ou lire la contribution
+ * d'un joueur placé se fait sans recherche ni allocation.
+ * Un joueur qui n'est pas placé (côté client par exemple) se voit attribuer la première place libre.
+ * @author Noé Mourton-Comte
+ */
+@JsonAdapter(ContributionsTypeAdapter.class)
+public class Contributions
+{
+    /**
+     * Nombre maximum de contributeurs, un par équipe.
+     */
+    public static final int MAX_SEATS = Team.values().length;
+
+    private final int[] counts;
+    private final UUID[] contributors;
+
+    public Contributions()
+    {
+        this.counts = new int[MAX_SEATS];
+        this.contributors = new UUID[MAX_SEATS];
+    }
+
+    /**
+     * Méthode permettant d'ajouter des cubes à la contribution d'un joueur
+     * @param player joueur ayant contribué
+     * @param count nombre de cubes apportés
+     */
+    public void add(Player player, int count)
+    {
+        int seat = player.getSeat() != Player.NO_SEAT ? player.getSeat() : this.getOrAssignSeat(player.getUUID());
+
+        this.contributors[seat] = player.getUUID();
+        this.counts[seat] += count;
+    }
+
+    /**
+     * Méthode permettant d'ajouter des cubes à la contribution d'un joueur désigné par son UUID
+     * @param contributor UUID du joueur ayant contribué
+     * @param count nombre de cubes apportés
+     */
+    public void add(UUID contributor, int count)
+    {
+        int seat = this.getOrAssignSeat(contributor);
+
+        this.contributors[seat] = contributor;
+        this.counts[seat] += count;
+    }
+
+    /**
+     * Fonction permettant de récupérer la contribution d'un joueur
+     * @param player joueur
+     * @return le nombre de cubes apportés par le joueur, 0 s'il n'a pas contribué
+     */
+    public int get(Player player)
+    {
+        if(player.getSeat() != Player.NO_SEAT)
+            return this.counts[player.getSeat()];
+
+        return this.get(player.getUUID());
+    }
+
+    /**
+     * Fonction permettant de récupérer la contribution d'un joueur désigné par son UUID
+     * @param contributor UUID du joueur
+     * @return le nombre de cubes apportés par le joueur, 0 s'il n'a pas contribué
+     */
+    public int get(UUID contributor)
+    {
+        int seat = this.findSeat(contributor);
+
+        return seat != Player.NO_SEAT ? this.counts[seat] : 0;
+    }
+
+    /**
+     * Fonction permettant de récupérer les contributions sous la forme d'une table associant l'UUID de chaque
+     * contributeur au nombre de cubes qu'il a apportés
+     */
+    public Map<UUID, Integer> toMap()
+    {
+        HashMap<UUID, Integer> contributions = new HashMap<>();
+
+        for(int seat = 0; seat < MAX_SEATS; seat++)
+        {
+            if(this.counts[seat] > 0)
+                contributions.put(this.contributors[seat], this.counts[seat]);
+        }
+
+        return contributions;
+    }
+
+    private int findSeat(UUID contributor)
+    {
+        for(int seat = 0; seat < MAX_SEATS; seat++)
+        {
+            if(this.counts[seat] > 0 && contributor.equals(this.contributors[seat]))
+                return seat;
+        }
+
+        return Player.NO_SEAT;
+    }
+
+    private int getOrAssignSeat(UUID contributor)
+    {
+        int seat = this.findSeat(contributor);
+
+        if(seat == Player.NO_SEAT)
+        {
+            for(seat = 0; seat < MAX_SEATS && this.counts[seat] > 0; seat++);
+
+            if(seat == MAX_SEATS)
+                throw new IllegalStateException(String.format("Impossible d'ajouter plus de %d contributeurs à une invention.", MAX_SEATS));
+        }
+
+        return seat;
+    }
+}
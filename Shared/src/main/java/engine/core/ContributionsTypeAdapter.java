@@ -0,0 +1,56 @@
+package engine.core;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Classe permettant de sérialiser les contributions à une invention en JSON sous la forme d'une table associant l'UUID
+ * de chaque contributeur au nombre de cubes qu'il a apportés : {"uuid":3,...}
+ * @author Noé Mourton-Comte
+ */
+public class ContributionsTypeAdapter extends TypeAdapter<Contributions>
+{
+    @Override
+    public void write(JsonWriter out, Contributions contributions) throws IOException
+    {
+        if(contributions == null)
+        {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        for(Map.Entry<UUID, Integer> contribution : contributions.toMap().entrySet())
+        {
+            out.name(contribution.getKey().toString()).value(contribution.getValue());
+        }
+        out.endObject();
+    }
+
+    @Override
+    public Contributions read(JsonReader in) throws IOException
+    {
+        if(in.peek() == JsonToken.NULL)
+        {
+            in.nextNull();
+            return null;
+        }
+
+        Contributions contributions = new Contributions();
+
+        in.beginObject();
+        while(in.hasNext())
+        {
+            contributions.add(UUID.fromString(in.nextName()), in.nextInt());
+        }
+        in.endObject();
+
+        return contributions;
+    }
+}
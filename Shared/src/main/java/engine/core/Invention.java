@@ -1,29 +1,35 @@
 package engine.core;
 
+import com.google.gson.annotations.JsonAdapter;
 import engine.core.rewards.Reward;
 import engine.core.rewards.RewardType;
 
-import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Classe représentant une invention.
  * @author Alexandre Ciarafoni & Louis Prud'homme
  */
+@JsonAdapter(InventionTypeAdapter.class)
 public class Invention
 {
     public static final int NUMBER_OF_REWARDS_BY_INVENTION = 3;
+    public static final int NO_ID = -1;
 
+    private int id;
     private int era;
     private String name;
+    //Époque et valeur des récompenses restantes, tenus à jour à chaque ajout ou prise de récompense
+    private int victoryPoints;
 
     private Knowledges requiredKnowledges;
     private Knowledges actualKnowledges;
 
-    private HashMap<UUID, Integer> contributions;
+    private Contributions contributions;
     private ArrayList<Reward> rewards;
 
     /**
@@ -32,6 +38,17 @@ public class Invention
      */
     public Invention(String name, Knowledges knowledges, int era)
     {
+        this(NO_ID, name, knowledges, era);
+    }
+
+    /**
+     * Constructor d'une invention identifiée dans le catalogue
+     * @param id Identifiant de l'invention dans le catalogue (entier compris entre 0 et le nombre d'inventions du catalogue)
+     * @param name Nom de l'invention
+     */
+    public Invention(int id, String name, Knowledges knowledges, int era)
+    {
+        this.id = id;
         this.era = era;
         this.name = name;
 
@@ -39,9 +56,19 @@ public class Invention
         this.actualKnowledges = new Knowledges();
 
         this.rewards = new ArrayList<>();
-        this.contributions = new HashMap<>();
+        this.contributions = new Contributions();
+        this.victoryPoints = era;
 
-        this.rewards.add(new Reward(RewardType.CARD, this.getVictoryPoints()));
+        this.addReward(new Reward(RewardType.CARD, this.getVictoryPoints()));
+    }
+
+    /**
+     * Accesseur de id
+     * @return l'identifiant de l'invention dans le catalogue, ou NO_ID
+     */
+    public int getId()
+    {
+        return this.id;
     }
 
     /**
@@ -74,37 +101,10 @@ public class Invention
      */
     public void updateActualKnowledges(Player player, Knowledges inventorKnowledges)
     {
-        if(inventorKnowledges.getChem() > 0 && requiredKnowledges.getChem() > 0) {
-            for (int i = 0; i < inventorKnowledges.getChem() && actualKnowledges.getChem() < requiredKnowledges.getChem(); i++) {
-                actualKnowledges.modChem(1);
-                this.contributions.put(player.getUUID(),
-                        this.contributions.get(player.getUUID()) == null ? 1 : (this.contributions.get(player.getUUID()) + 1));
-            }
-        }
-
-        if(inventorKnowledges.getMech() > 0 && requiredKnowledges.getMech() > 0) {
-            for (int i = 0; i < inventorKnowledges.getMech() && actualKnowledges.getMech() < requiredKnowledges.getMech(); i++) {
-                actualKnowledges.modMech(1);
-                this.contributions.put(player.getUUID(),
-                        this.contributions.get(player.getUUID()) == null ? 1 : (this.contributions.get(player.getUUID()) + 1));
-            }
-        }
-
-        if(inventorKnowledges.getMath() > 0 && requiredKnowledges.getMath() > 0) {
-            for(int i = 0; i < inventorKnowledges.getMath() && actualKnowledges.getMath() < requiredKnowledges.getMath(); i++) {
-                actualKnowledges.modMath(1);
-                this.contributions.put(player.getUUID(),
-                        this.contributions.get(player.getUUID()) == null ? 1 : (this.contributions.get(player.getUUID()) + 1));
-            }
-        }
-
-        if(inventorKnowledges.getPhys() > 0 && requiredKnowledges.getPhys() > 0) {
-            for(int i = 0; i < inventorKnowledges.getPhys() && actualKnowledges.getPhys() < requiredKnowledges.getPhys(); i++) {
-                actualKnowledges.modPhys(1);
-                this.contributions.put(player.getUUID(),
-                        this.contributions.get(player.getUUID()) == null ? 1 : (this.contributions.get(player.getUUID()) + 1));
-            }
-        }
+        int addedKnowledges = this.actualKnowledges.addUpTo(inventorKnowledges, this.requiredKnowledges);
+
+        if(addedKnowledges > 0)
+            this.contributions.add(player, addedKnowledges);
     }
 
     /**
@@ -113,15 +113,7 @@ public class Invention
      */
     public boolean isCompleted()
     {
-        boolean completed = false;
-        if((requiredKnowledges.getMech() <= actualKnowledges.getMech())  &&
-            (requiredKnowledges.getPhys() <= actualKnowledges.getPhys()) &&
-            (requiredKnowledges.getChem() <= actualKnowledges.getChem()) &&
-            (requiredKnowledges.getMath() <= actualKnowledges.getMath()) )
-                    {
-                        completed = true;
-                    }
-        return completed;
+        return this.requiredKnowledges.isSatisfiedBy(this.actualKnowledges);
     }
 
     /**
@@ -130,7 +122,7 @@ public class Invention
      */
     public int getVictoryPoints()
     {
-        return this.era + this.rewards.stream().collect(Collectors.summingInt(i -> i.getValue()));
+        return this.victoryPoints;
     }
 
     /**
@@ -144,11 +136,47 @@ public class Invention
 
     /**
      * Renvoie la liste des pions de récompenses affectés à l'ivnention.
-     * @return liste des pions de récompenses affectés à l'ivnention.
+     * @return liste des pions de récompenses affectés à l'ivnention (non modifiable, voir addReward et takeReward).
      */
     public List<Reward> getRewards()
     {
-        return this.rewards;
+        return Collections.unmodifiableList(this.rewards);
+    }
+
+    /**
+     * Permet d'ajouter un pion de récompense à l'invention.
+     * @param reward récompense à ajouter
+     */
+    public void addReward(Reward reward)
+    {
+        this.rewards.add(reward);
+        this.victoryPoints += reward.getValue();
+    }
+
+    /**
+     * Permet de retirer un pion de récompense de l'invention.
+     * @param rewardIndex position de la récompense dans la liste des récompenses
+     * @return la récompense retirée
+     */
+    public Reward takeReward(int rewardIndex)
+    {
+        Reward reward = this.rewards.remove(rewardIndex);
+        this.victoryPoints -= reward.getValue();
+
+        return reward;
+    }
+
+    /**
+     * Permet de remplacer l'ensemble des pions de récompense de l'invention.
+     * @param rewards nouvelles récompenses
+     */
+    public void setRewards(List<Reward> rewards)
+    {
+        this.rewards.clear();
+        this.victoryPoints = this.era;
+
+        for(Reward reward : rewards)
+            this.addReward(reward);
     }
 
     /**
@@ -157,14 +185,51 @@ public class Invention
     public void pickRewardPawns()
     {
         for(int i = 0; i < NUMBER_OF_REWARDS_BY_INVENTION - 1; i++)
-            this.rewards.add(new Reward(RewardType.VICTORY));
+            this.addReward(new Reward(RewardType.VICTORY));
+    }
+
+    /**
+     * @return table associant l'UUID de chaque contributeur au nombre de cubes qu'il a apportés (copie)
+     */
+    public Map<UUID, Integer> getContributions()
+    {
+        return this.contributions.toMap();
+    }
+
+    /**
+     * Permet de connaître la contribution d'un joueur à l'invention.
+     * @param player joueur
+     * @return le nombre de cubes apportés par le joueur, 0 s'il n'a pas contribué
+     */
+    public int getContribution(Player player)
+    {
+        return this.contributions.get(player);
+    }
+
+    /**
+     * Permet d'ajouter des cubes à la contribution d'un joueur désigné par son UUID.
+     * @param contributor UUID du joueur
+     * @param count nombre de cubes apportés
+     */
+    public void addContribution(UUID contributor, int count)
+    {
+        this.contributions.add(contributor, count);
     }
 
     /**
-     * @return hashmap des contributeurs
+     * Accesseur de la table des contributions, sans copie, utilisé par InventionTypeAdapter
      */
-    public HashMap<UUID, Integer> getContributions()
+    Contributions getContributionsTable()
     {
         return this.contributions;
     }
+
+    /**
+     * Permet de remplacer la table des contributions lors de la lecture d'une invention sérialisée
+     * @param contributions table des contributions
+     */
+    void setContributionsTable(Contributions contributions)
+    {
+        this.contributions = contributions;
+    }
 }
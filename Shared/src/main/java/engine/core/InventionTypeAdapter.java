@@ -0,0 +1,136 @@
+package engine.core;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import engine.core.rewards.Reward;
+import engine.core.rewards.RewardTypeAdapter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe permettant de sérialiser une invention en JSON sans réflexion, avec les mêmes champs que la sérialisation par
+ * défaut. Les points de victoire sont écrits pour information mais recalculés à la lecture à partir des récompenses.
+ * @author Noé Mourton-Comte
+ */
+public class InventionTypeAdapter extends TypeAdapter<Invention>
+{
+    private final KnowledgesTypeAdapter knowledgesAdapter = new KnowledgesTypeAdapter();
+    private final ContributionsTypeAdapter contributionsAdapter = new ContributionsTypeAdapter();
+    private final RewardTypeAdapter rewardAdapter = new RewardTypeAdapter();
+
+    @Override
+    public void write(JsonWriter out, Invention invention) throws IOException
+    {
+        if(invention == null)
+        {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id").value(invention.getId());
+        out.name("era").value(invention.getEra());
+        out.name("name").value(invention.getName());
+        out.name("victoryPoints").value(invention.getVictoryPoints());
+        out.name("requiredKnowledges");
+        this.knowledgesAdapter.write(out, invention.getRequiredKnowledges());
+        out.name("actualKnowledges");
+        this.knowledgesAdapter.write(out, invention.getActualKnowledges());
+        out.name("contributions");
+        this.contributionsAdapter.write(out, invention.getContributionsTable());
+
+        out.name("rewards").beginArray();
+        for(Reward reward : invention.getRewards())
+        {
+            this.rewardAdapter.write(out, reward);
+        }
+        out.endArray();
+        out.endObject();
+    }
+
+    @Override
+    public Invention read(JsonReader in) throws IOException
+    {
+        if(in.peek() == JsonToken.NULL)
+        {
+            in.nextNull();
+            return null;
+        }
+
+        int id = Invention.NO_ID, era = 0;
+        String name = null;
+        Knowledges requiredKnowledges = null, actualKnowledges = null;
+        Contributions contributions = null;
+        List<Reward> rewards = null;
+
+        in.beginObject();
+        while(in.hasNext())
+        {
+            switch(in.nextName())
+            {
+                case "id":
+                    id = in.nextInt();
+                    break;
+                case "era":
+                    era = in.nextInt();
+                    break;
+                case "name":
+                    name = in.nextString();
+                    break;
+                case "requiredKnowledges":
+                    requiredKnowledges = this.knowledgesAdapter.read(in);
+                    break;
+                case "actualKnowledges":
+                    actualKnowledges = this.knowledgesAdapter.read(in);
+                    break;
+                case "contributions":
+                    contributions = this.contributionsAdapter.read(in);
+                    break;
+                case "rewards":
+                    rewards = this.readRewards(in);
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        Invention invention = new Invention(id, name, requiredKnowledges, era);
+
+        if(actualKnowledges != null)
+            invention.getActualKnowledges().add(actualKnowledges);
+
+        if(contributions != null)
+            invention.setContributionsTable(contributions);
+
+        if(rewards != null)
+            invention.setRewards(rewards);
+
+        return invention;
+    }
+
+    private List<Reward> readRewards(JsonReader in) throws IOException
+    {
+        if(in.peek() == JsonToken.NULL)
+        {
+            in.nextNull();
+            return null;
+        }
+
+        List<Reward> rewards = new ArrayList<>(Invention.NUMBER_OF_REWARDS_BY_INVENTION);
+
+        in.beginArray();
+        while(in.hasNext())
+        {
+            rewards.add(this.rewardAdapter.read(in));
+        }
+        in.endArray();
+
+        return rewards;
+    }
+}
@@ -1,5 +1,6 @@
 package engine.core;
 
+import com.google.gson.annotations.JsonAdapter;
 import engine.core.exceptions.AlreadyAvailableException;
 import engine.core.exceptions.AlreadyBusyException;
 
@@ -7,9 +8,19 @@ import engine.core.exceptions.AlreadyBusyException;
  * Classe modélisant les inventeurs.
  * @author Louis Prud'homme & Alexandre Ciarafoni
  */
+@JsonAdapter(InventorTypeAdapter.class)
 public class Inventor
 {
+    /**
+     * identifiant d'un inventeur n'appartenant pas au catalogue.
+     */
+    public static final int NO_ID = -1;
+
     //MEMBERS
+    /**
+     * identifiant de l'inventeur dans le catalogue.
+     */
+    private int id;
     /**
      * nom de l'inventeur.
      */
@@ -21,6 +32,10 @@ public class Inventor
 
     private boolean isBusy;
 
+    //Joueur possédant l'inventeur, prévenu à chaque changement de disponibilité (voir Player.getBusyMask)
+    private transient Player owner;
+    private transient int ownerIndex;
+
     //Équipe de l'inventeur.
     private Team team;
 
@@ -35,12 +50,34 @@ public class Inventor
      */
     public Inventor(String name, Knowledges knowledges, Team team)
     {
+        this(NO_ID, name, knowledges, team);
+    }
+
+    /**
+     * Constructeur renvoyant une instance identifiée dans le catalogue
+     * @param id identifiant de l'inventeur dans le catalogue (entier compris entre 0 et le nombre d'inventeurs du catalogue).
+     * @param name nom de l'inventeur
+     * @param knowledges structure décrivant les connaissances de base de l'inventeur.
+     * @param team énumération : Bleu, Jaune, Vert ou Rouge.
+     */
+    public Inventor(int id, String name, Knowledges knowledges, Team team)
+    {
+        this.id = id;
         this.name = name;
         this.knowledges = knowledges;
         this.team = team;
     }
     //get-set
 
+    /**
+     * Accesseur de l'identifiant de l'inventeur.
+     * @return l'identifiant de l'inventeur dans le catalogue, ou NO_ID.
+     */
+    public int getId()
+    {
+        return id;
+    }
+
     /**
      * Accesseur du nom de l'inventeur.
      * @return le nom de l'inventeur.
@@ -84,7 +121,7 @@ public class Inventor
     public void makeBusy() throws AlreadyBusyException
     {
         if(!this.isBusy)
-            this.isBusy = true;
+            this.setBusy(true);
         else
             throw new AlreadyBusyException("Impossible de rendre un inventeur occupé lorsque celui-ci est déjà occupé.");
     }
@@ -96,11 +133,34 @@ public class Inventor
     public void makeAvailable() throws AlreadyAvailableException
     {
         if(this.isBusy)
-            this.isBusy = false;
+            this.setBusy(false);
         else
             throw new AlreadyAvailableException("Impossible de rendre un inventeur disponible lorsque celui-ci est déjà disponible.");
     }
 
+    /**
+     * Méthode permettant de modifier la disponibilité de l'inventeur, sans vérification (voir makeBusy et makeAvailable)
+     * @param isBusy nouvelle disponibilité de l'inventeur
+     */
+    void setBusy(boolean isBusy)
+    {
+        this.isBusy = isBusy;
+
+        if(this.owner != null)
+            this.owner.onInventorStateChanged(this.ownerIndex, isBusy);
+    }
+
+    /**
+     * Méthode permettant d'associer l'inventeur au joueur qui le possède
+     * @param owner joueur possédant l'inventeur, ou null
+     * @param ownerIndex position de l'inventeur dans la liste d'inventeurs du joueur
+     */
+    void setOwner(Player owner, int ownerIndex)
+    {
+        this.owner = owner;
+        this.ownerIndex = ownerIndex;
+    }
+
     /**
      * Permet de savoir si l'inventeur peut travailler sur une invention particulière.
      * @param invention invention sur laquelle on veut faire travailler l'inventeur.
@@ -118,15 +178,6 @@ public class Inventor
      */
     public int getGrade(Invention invention)
     {
-        int rank = 0;
-
-        Knowledges inventorKnowledges = this.getKnowledges();
-
-        rank += inventorKnowledges.getPhys() * (invention.getRequiredKnowledges().getPhys() - invention.getActualKnowledges().getPhys());
-        rank += inventorKnowledges.getChem() * (invention.getRequiredKnowledges().getChem() - invention.getActualKnowledges().getChem());
-        rank += inventorKnowledges.getMech() * (invention.getRequiredKnowledges().getMech() - invention.getActualKnowledges().getMech());
-        rank += inventorKnowledges.getMath() * (invention.getRequiredKnowledges().getMath() - invention.getActualKnowledges().getMath());
-
-        return rank;
+        return this.getKnowledges().weightRemaining(invention.getRequiredKnowledges(), invention.getActualKnowledges());
     }
 }
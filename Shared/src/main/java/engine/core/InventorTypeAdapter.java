@@ -0,0 +1,88 @@
+package engine.core;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Classe permettant de sérialiser un inventeur en JSON sans réflexion, avec les mêmes champs que la sérialisation par
+ * défaut : {"id":0,"name":"...","knowledges":{...},"isBusy":false,"team":"Rouge"}
+ * @author Noé Mourton-Comte
+ */
+public class InventorTypeAdapter extends TypeAdapter<Inventor>
+{
+    private final KnowledgesTypeAdapter knowledgesAdapter = new KnowledgesTypeAdapter();
+
+    @Override
+    public void write(JsonWriter out, Inventor inventor) throws IOException
+    {
+        if(inventor == null)
+        {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id").value(inventor.getId());
+        out.name("name").value(inventor.getName());
+        out.name("knowledges");
+        this.knowledgesAdapter.write(out, inventor.getKnowledges());
+        out.name("isBusy").value(inventor.isBusy());
+        out.name("team").value(inventor.getTeam() != null ? inventor.getTeam().name() : null);
+        out.endObject();
+    }
+
+    @Override
+    public Inventor read(JsonReader in) throws IOException
+    {
+        if(in.peek() == JsonToken.NULL)
+        {
+            in.nextNull();
+            return null;
+        }
+
+        int id = Inventor.NO_ID;
+        String name = null;
+        Knowledges knowledges = null;
+        boolean isBusy = false;
+        Team team = null;
+
+        in.beginObject();
+        while(in.hasNext())
+        {
+            switch(in.nextName())
+            {
+                case "id":
+                    id = in.nextInt();
+                    break;
+                case "name":
+                    name = in.nextString();
+                    break;
+                case "knowledges":
+                    knowledges = this.knowledgesAdapter.read(in);
+                    break;
+                case "isBusy":
+                    isBusy = in.nextBoolean();
+                    break;
+                case "team":
+                    if(in.peek() == JsonToken.NULL)
+                        in.nextNull();
+                    else
+                        team = Team.valueOf(in.nextString());
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        Inventor inventor = new Inventor(id, name, knowledges, team);
+        inventor.setBusy(isBusy);
+
+        return inventor;
+    }
+}
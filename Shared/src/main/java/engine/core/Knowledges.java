@@ -1,20 +1,38 @@
 package engine.core;
 
+import com.google.gson.annotations.JsonAdapter;
+
 /**
  * Classe modélisant les quatre connaissances utilisées à la fois par les inventions et les inventeurs au cours du jeu.
  * La valeur des champs doit être définie après l'instanciation.
+ * Les quatre connaissances sont regroupées dans un entier (un octet par connaissance), ce qui permet de les additionner,
+ * de les soustraire ou de les comparer toutes les quatre en quelques opérations.
+ * Le bit de poids fort de chaque octet est réservé aux calculs : une connaissance est comprise entre 0 et 127.
  * @author Louis Prud'homme
  */
+@JsonAdapter(KnowledgesTypeAdapter.class)
 public class Knowledges
 {
+    //CONSTANTS
+    /**
+     * Valeur maximale d'une connaissance.
+     */
+    public static final int MAX_VALUE = 0x7F;
+
+    private static final int PHYS_SHIFT = 24;
+    private static final int CHEM_SHIFT = 16;
+    private static final int MECH_SHIFT = 8;
+    private static final int MATH_SHIFT = 0;
+
+    private static final int LANE_MASK = 0xFF;
+    //Bit de poids fort de chaque octet
+    private static final int GUARD_BITS = 0x80808080;
+
     //MEMBERS
     /**
-     * Connaissances individuelles
+     * Connaissances regroupées, dans l'ordre : physique, chimie, mécanique, mathématiques.
      */
-    private int phys;
-    private int chem;
-    private int mech;
-    private int math;
+    private int packed;
 
     //METHODS
     /**
@@ -22,10 +40,7 @@ public class Knowledges
      */
     public Knowledges()
     {
-        phys = 0;
-        chem = 0;
-        mech = 0;
-        math = 0;
+        packed = 0;
     }
 
     /**
@@ -37,25 +52,59 @@ public class Knowledges
      */
     public Knowledges(int basePhys, int baseChem, int baseMech, int baseMath)
     {
-        this.phys = basePhys;
-        this.chem = baseChem;
-        this.mech = baseMech;
-        this.math = baseMath;
+        this.packed = checkLane(basePhys) << PHYS_SHIFT
+                | checkLane(baseChem) << CHEM_SHIFT
+                | checkLane(baseMech) << MECH_SHIFT
+                | checkLane(baseMath) << MATH_SHIFT;
+    }
+
+    /**
+     * Constructeur de copie de la classe Knowledges.
+     * @param knowledges connaissances à copier.
+     */
+    public Knowledges(Knowledges knowledges)
+    {
+        this.packed = knowledges.packed;
+    }
+
+    private Knowledges(int packed)
+    {
+        this.packed = packed;
+    }
+
+    /**
+     * Fonction permettant de reconstruire des connaissances à partir de leur forme regroupée (voir toPacked)
+     * @param packed connaissances regroupées dans un entier
+     */
+    public static Knowledges fromPacked(int packed)
+    {
+        if((packed & GUARD_BITS) != 0)
+            throw new IllegalArgumentException(String.format("Connaissances regroupées invalides : %08x", packed));
+
+        return new Knowledges(packed);
+    }
+
+    /**
+     * Fonction permettant de récupérer les quatre connaissances regroupées dans un entier (un octet par domaine)
+     */
+    public int toPacked()
+    {
+        return this.packed;
     }
 
     //get-set
     public int getPhys() {
-        return phys;
+        return packed >>> PHYS_SHIFT & LANE_MASK;
     }
 
     public int getChem() {
-        return chem;
+        return packed >>> CHEM_SHIFT & LANE_MASK;
     }
 
-    public int getMech() { return mech; }
+    public int getMech() { return packed >>> MECH_SHIFT & LANE_MASK; }
 
     public int getMath() {
-        return math;
+        return packed >>> MATH_SHIFT & LANE_MASK;
     }
 
     /**
@@ -64,7 +113,7 @@ public class Knowledges
      */
     public void modPhys(int number)
     {
-        this.phys += number;
+        this.setLane(PHYS_SHIFT, this.getPhys() + number);
     }
 
     /**
@@ -73,7 +122,7 @@ public class Knowledges
      */
     public void modChem(int number)
     {
-        this.chem += number;
+        this.setLane(CHEM_SHIFT, this.getChem() + number);
     }
 
     /**
@@ -82,7 +131,7 @@ public class Knowledges
      */
     public void modMech(int number)
     {
-        this.mech += number;
+        this.setLane(MECH_SHIFT, this.getMech() + number);
     }
 
     /**
@@ -91,26 +140,159 @@ public class Knowledges
      */
     public void modMath(int number)
     {
-        this.math += number;
+        this.setLane(MATH_SHIFT, this.getMath() + number);
+    }
+
+    /**
+     * Permet d'ajouter d'autres connaissances à celles-ci, connaissance par connaissance.
+     * @param knowledges connaissances à ajouter.
+     */
+    public void add(Knowledges knowledges)
+    {
+        int sum = this.packed + knowledges.packed;
+
+        if((sum & GUARD_BITS) != 0)
+            throw new IllegalArgumentException(String.format("Impossible de dépasser %d dans une connaissance.", MAX_VALUE));
+
+        this.packed = sum;
+    }
+
+    /**
+     * Permet d'ajouter d'autres connaissances à celles-ci sans dépasser une limite, connaissance par connaissance.
+     * @param knowledges connaissances à ajouter.
+     * @param limit valeur maximale de chaque connaissance après l'ajout.
+     * @return le nombre de connaissances réellement ajoutées.
+     */
+    public int addUpTo(Knowledges knowledges, Knowledges limit)
+    {
+        int previous = this.packed;
+
+        this.packed = addUpToPacked(previous, knowledges.packed, limit.packed);
+
+        return sum(this.packed - previous);
+    }
+
+    /**
+     * Variante de addUpTo sur des connaissances regroupées (voir toPacked), sans allocation.
+     * @param packed connaissances de départ.
+     * @param knowledges connaissances à ajouter.
+     * @param limit valeur maximale de chaque connaissance après l'ajout.
+     * @return les connaissances après l'ajout.
+     */
+    public static int addUpToPacked(int packed, int knowledges, int limit)
+    {
+        //min(a, b) = a - max(a - b, 0)
+        return packed + knowledges - saturatingSubtract(knowledges, saturatingSubtract(limit, packed));
+    }
+
+    /**
+     * Permet de connaître, connaissance par connaissance, ce qu'il manque à d'autres connaissances pour atteindre celles-ci.
+     * @param knowledges connaissances de départ.
+     * @return les connaissances manquantes (0 pour une connaissance déjà atteinte ou dépassée).
+     */
+    public Knowledges remaining(Knowledges knowledges)
+    {
+        return new Knowledges(saturatingSubtract(this.packed, knowledges.packed));
+    }
+
+    /**
+     * Permet de savoir si d'autres connaissances atteignent celles-ci dans chacun des domaines.
+     * @param knowledges connaissances à évaluer.
+     * @return un boolean valant true si aucune connaissance ne manque.
+     */
+    public boolean isSatisfiedBy(Knowledges knowledges)
+    {
+        return saturatingSubtract(this.packed, knowledges.packed) == 0;
+    }
+
+    /**
+     * Permet de pondérer les connaissances manquantes entre deux connaissances par celles-ci.
+     * @param required connaissances à atteindre.
+     * @param actual connaissances actuelles.
+     * @return la somme, pour chaque connaissance, de cette connaissance multipliée par ce qu'il manque pour l'atteindre.
+     */
+    public int weightRemaining(Knowledges required, Knowledges actual)
+    {
+        return weightRemainingPacked(this.packed, required.packed, actual.packed);
+    }
+
+    /**
+     * Variante de weightRemaining sur des connaissances regroupées (voir toPacked), sans allocation.
+     * @param packed connaissances servant de pondération.
+     * @param required connaissances à atteindre.
+     * @param actual connaissances actuelles.
+     * @return la somme, pour chaque connaissance, de cette connaissance multipliée par ce qu'il manque pour l'atteindre.
+     */
+    public static int weightRemainingPacked(int packed, int required, int actual)
+    {
+        int remaining = saturatingSubtract(required, actual);
+
+        return (packed >>> PHYS_SHIFT & LANE_MASK) * (remaining >>> PHYS_SHIFT & LANE_MASK)
+                + (packed >>> CHEM_SHIFT & LANE_MASK) * (remaining >>> CHEM_SHIFT & LANE_MASK)
+                + (packed >>> MECH_SHIFT & LANE_MASK) * (remaining >>> MECH_SHIFT & LANE_MASK)
+                + (packed >>> MATH_SHIFT & LANE_MASK) * (remaining >>> MATH_SHIFT & LANE_MASK);
+    }
+
+    /**
+     * Permet de connaître le nombre total de connaissances.
+     * @return la somme des quatre connaissances.
+     */
+    public int sum()
+    {
+        return sum(this.packed);
+    }
+
+    private void setLane(int shift, int value)
+    {
+        this.packed = this.packed & ~(LANE_MASK << shift) | checkLane(value) << shift;
+    }
+
+    private static int checkLane(int value)
+    {
+        if(value < 0 || value > MAX_VALUE)
+            throw new IllegalArgumentException(String.format("Une connaissance doit être comprise entre 0 et %d (%d).", MAX_VALUE, value));
+
+        return value;
+    }
+
+    /**
+     * Fonction calculant max(a - b, 0) pour chacune des quatre connaissances.
+     */
+    private static int saturatingSubtract(int a, int b)
+    {
+        //Le bit de garde d'un octet reste à 1 si a >= b, l'octet contient alors a - b sur ses 7 bits de poids faible
+        int difference = (a | GUARD_BITS) - b;
+        int guards = difference & GUARD_BITS;
+
+        return difference & (guards - (guards >>> 7));
+    }
+
+    /**
+     * Variante de sum sur des connaissances regroupées (voir toPacked).
+     * @param packed connaissances regroupées.
+     * @return la somme des quatre connaissances.
+     */
+    public static int sumPacked(int packed)
+    {
+        return sum(packed);
+    }
+
+    private static int sum(int packed)
+    {
+        int pairs = (packed & 0x00FF00FF) + (packed >>> 8 & 0x00FF00FF);
+
+        return (pairs & 0xFFFF) + (pairs >>> 16);
     }
 
     @Override
     public boolean equals(Object object)
     {
-        boolean isEqual = false;
-
-        if(object != null && object instanceof Knowledges)
-        {
-            Knowledges knowledges = (Knowledges)object;
-            if(knowledges.getPhys() == this.getPhys() &&
-                    knowledges.getChem() == this.getChem() &&
-                        knowledges.getMech() == this.getMech() &&
-                            knowledges.getMath() == this.getMath())
-            {
-                isEqual = true;
-            }
-        }
-
-        return isEqual;
+        return object instanceof Knowledges && ((Knowledges)object).packed == this.packed;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.packed;
     }
 }
@@ -0,0 +1,71 @@
+package engine.core;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Classe permettant de sérialiser des connaissances en JSON sous la forme de leurs quatre champs, indépendamment de leur
+ * représentation en mémoire : {"phys":1,"chem":2,"mech":3,"math":4}
+ * @author Noé Mourton-Comte
+ */
+public class KnowledgesTypeAdapter extends TypeAdapter<Knowledges>
+{
+    @Override
+    public void write(JsonWriter out, Knowledges knowledges) throws IOException
+    {
+        if(knowledges == null)
+        {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("phys").value(knowledges.getPhys());
+        out.name("chem").value(knowledges.getChem());
+        out.name("mech").value(knowledges.getMech());
+        out.name("math").value(knowledges.getMath());
+        out.endObject();
+    }
+
+    @Override
+    public Knowledges read(JsonReader in) throws IOException
+    {
+        if(in.peek() == JsonToken.NULL)
+        {
+            in.nextNull();
+            return null;
+        }
+
+        int phys = 0, chem = 0, mech = 0, math = 0;
+
+        in.beginObject();
+        while(in.hasNext())
+        {
+            switch(in.nextName())
+            {
+                case "phys":
+                    phys = in.nextInt();
+                    break;
+                case "chem":
+                    chem = in.nextInt();
+                    break;
+                case "mech":
+                    mech = in.nextInt();
+                    break;
+                case "math":
+                    math = in.nextInt();
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        return new Knowledges(phys, chem, mech, math);
+    }
+}
@@ -1,35 +1,69 @@
 package engine.core;
 
+import com.google.gson.annotations.JsonAdapter;
 import engine.core.rewards.Reward;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Classe représentant un joueur.
  * @author Noé Mourton-Comte
  */
+@JsonAdapter(PlayerTypeAdapter.class)
 public class Player
 {
+    /**
+     * Place d'un joueur qui n'est pas assis à une table de jeu.
+     */
+    public static final int NO_SEAT = -1;
+
     private String name;
     private UUID uuid;
+    private int seat;
+
+    /**
+     * Nombre maximum d'inventeurs d'un joueur, un bit par inventeur dans busyInventorsMask.
+     */
+    public static final int MAX_INVENTORS = Integer.SIZE;
 
-    protected List<Inventor> inventors;
+    private List<Inventor> inventors;
+    private List<Inventor> inventorsView;
+    //Inventeurs occupés : le bit i correspond au i-ème inventeur de la liste
+    private int busyInventorsMask;
+    //Listes renvoyées par getFreeInventors et getBusyInventors, reconstruites uniquement après un changement de disponibilité
+    private List<Inventor> freeInventors;
+    private List<Inventor> busyInventors;
     private List<Invention> completedInventions;
     private List<Reward> rewards;
+    //Somme des valeurs des récompenses, tenue à jour à chaque ajout
+    private int victoryPoints;
 
     private boolean hasLeonardoDaVinciTrophy;
 
     public Player(String name, UUID uuid)
+    {
+        this(name, uuid, NO_SEAT);
+    }
+
+    /**
+     * Constructeur d'un joueur assis à une table de jeu
+     * @param name nom du joueur
+     * @param uuid UUID du joueur
+     * @param seat place du joueur à la table (entier compris entre 0 et le nombre de joueurs de la partie)
+     */
+    public Player(String name, UUID uuid, int seat)
     {
         this();
         this.name = name;
         this.uuid = uuid;
+        this.seat = seat;
     }
 
     public Player()
     {
+        this.seat = NO_SEAT;
         this.inventors = Collections.synchronizedList(new ArrayList<>());
+        this.inventorsView = Collections.unmodifiableList(this.inventors);
         this.completedInventions = Collections.synchronizedList(new ArrayList<>());
         this.rewards = Collections.synchronizedList(new ArrayList<>());
 
@@ -44,7 +78,7 @@ public class Player
     {
         synchronized (this.inventors) {
             if (!this.inventors.contains(inventor))
-                this.inventors.add(inventor);
+                this.attachInventor(inventor);
         }
     }
 
@@ -55,10 +89,69 @@ public class Player
     public void addAllInventors(List<Inventor> inventors)
     {
         synchronized (this.inventors) {
-            this.inventors.addAll(inventors);
+            for (Inventor inventor : inventors)
+                this.attachInventor(inventor);
+        }
+    }
+
+    /**
+     * Méthode permettant de remplacer la liste d'inventeurs du joueur
+     * @param inventors Liste d'inventeurs
+     */
+    protected void setInventors(List<Inventor> inventors)
+    {
+        synchronized (this.inventors) {
+            for (Inventor inventor : this.inventors)
+                inventor.setOwner(null, 0);
+
+            this.inventors.clear();
+            this.busyInventorsMask = 0;
+            this.invalidateInventorsLists();
+
+            for (Inventor inventor : inventors)
+                this.attachInventor(inventor);
+        }
+    }
+
+    private void attachInventor(Inventor inventor)
+    {
+        int index = this.inventors.size();
+
+        if (index >= MAX_INVENTORS)
+            throw new IllegalStateException(String.format("Un joueur ne peut pas posséder plus de %d inventeurs.", MAX_INVENTORS));
+
+        this.inventors.add(inventor);
+        inventor.setOwner(this, index);
+
+        if (inventor.isBusy())
+            this.busyInventorsMask |= 1 << index;
+
+        this.invalidateInventorsLists();
+    }
+
+    /**
+     * Méthode appelée par un inventeur du joueur lorsque sa disponibilité change
+     * @param index position de l'inventeur dans la liste d'inventeurs du joueur
+     * @param isBusy nouvelle disponibilité de l'inventeur
+     */
+    void onInventorStateChanged(int index, boolean isBusy)
+    {
+        synchronized (this.inventors) {
+            if (isBusy)
+                this.busyInventorsMask |= 1 << index;
+            else
+                this.busyInventorsMask &= ~(1 << index);
+
+            this.invalidateInventorsLists();
         }
     }
 
+    private void invalidateInventorsLists()
+    {
+        this.freeInventors = null;
+        this.busyInventors = null;
+    }
+
     /**
      * Méthode permettant d'ajouter une invention à la liste d'inventions complétée du joueur
      * @param invention
@@ -81,6 +174,7 @@ public class Player
     {
         synchronized (this.rewards) {
             this.rewards.add(reward);
+            this.victoryPoints += reward.getValue();
         }
     }
 
@@ -102,11 +196,20 @@ public class Player
 
     /**
      * Fonction permettant de récupérer la liste d'inventeurs du joueur
-     * @return ArrayList d'Inventor
+     * @return ArrayList d'Inventor (non modifiable, voir addInventor)
      */
     public List<Inventor> getInventors()
     {
-        return this.inventors;
+        return this.inventorsView;
+    }
+
+    /**
+     * Fonction permettant de récupérer un inventeur du joueur par sa position
+     * @param index position de l'inventeur, qui est aussi celle de son bit dans getBusyMask et getFreeMask
+     */
+    public Inventor getInventor(int index)
+    {
+        return this.inventors.get(index);
     }
 
     /**
@@ -120,11 +223,22 @@ public class Player
 
     /**
      * Fonction permettant de récupérer la liste de récompenses du joueur
-     * @return ArrayList de Recompense
+     * @return ArrayList de Recompense (non modifiable, voir addReward)
      */
     public List<Reward> getRewards()
     {
-        return this.rewards;
+        return Collections.unmodifiableList(this.rewards);
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de points de victoire du joueur
+     * @return somme des valeurs des récompenses du joueur
+     */
+    public int getVictoryPoints()
+    {
+        synchronized (this.rewards) {
+            return this.victoryPoints;
+        }
     }
 
     /**
@@ -140,23 +254,79 @@ public class Player
      * Méthode permettant de se renseigner sur les inventeurs inoccupés du joueur ;
      * @return liste des inventeurs inoccupés du joueur.
      */
-    public ArrayList<Inventor> getFreeInventors()
+    public List<Inventor> getFreeInventors()
     {
-        return this.inventors.stream()
-                .filter(i -> !i.isBusy())
-                .collect(Collectors.toCollection(ArrayList::new));
+        synchronized (this.inventors) {
+            if (this.freeInventors == null)
+                this.freeInventors = this.collectInventors(this.getFreeMask());
+
+            return this.freeInventors;
+        }
     }
 
     /**
      * Méthode permettant de se renseigner sur les inventeurs occupés du joueur cible;
      * @return liste des inventeurs occupés du joueur cible.
      */
-    public ArrayList<Inventor> getBusyInventors()
+    public List<Inventor> getBusyInventors()
+    {
+        synchronized (this.inventors) {
+            if (this.busyInventors == null)
+                this.busyInventors = this.collectInventors(this.busyInventorsMask);
+
+            return this.busyInventors;
+        }
+    }
+
+    private List<Inventor> collectInventors(int mask)
+    {
+        ArrayList<Inventor> inventors = new ArrayList<>(Integer.bitCount(mask));
+
+        for (; mask != 0; mask &= mask - 1)
+            inventors.add(this.inventors.get(Integer.numberOfTrailingZeros(mask)));
+
+        return Collections.unmodifiableList(inventors);
+    }
+
+    /**
+     * Fonction permettant de connaître les inventeurs occupés du joueur, sans allocation
+     * @return masque dont le bit i vaut 1 si le i-ème inventeur (voir getInventor) est occupé
+     */
+    public int getBusyMask()
+    {
+        synchronized (this.inventors) {
+            return this.busyInventorsMask;
+        }
+    }
+
+    /**
+     * Fonction permettant de connaître les inventeurs disponibles du joueur, sans allocation
+     * @return masque dont le bit i vaut 1 si le i-ème inventeur (voir getInventor) est disponible
+     */
+    public int getFreeMask()
     {
-        //System.out.println(this.inventors);
-        return this.inventors.stream()
-                .filter(i -> i.isBusy())
-                .collect(Collectors.toCollection(ArrayList::new));
+        synchronized (this.inventors) {
+            int size = this.inventors.size();
+            int allInventorsMask = size == 0 ? 0 : -1 >>> (Integer.SIZE - size);
+
+            return allInventorsMask & ~this.busyInventorsMask;
+        }
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre d'inventeurs occupés du joueur
+     */
+    public int getBusyInventorsCount()
+    {
+        return Integer.bitCount(this.getBusyMask());
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre d'inventeurs disponibles du joueur
+     */
+    public int getFreeInventorsCount()
+    {
+        return Integer.bitCount(this.getFreeMask());
     }
 
     /**
@@ -174,4 +344,12 @@ public class Player
     {
         return this.uuid;
     }
+
+    /**
+     * Fonction permettant de récupérer la place du joueur à la table, ou NO_SEAT
+     */
+    public int getSeat()
+    {
+        return this.seat;
+    }
 }
@@ -0,0 +1,143 @@
+package engine.core;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import engine.core.rewards.Reward;
+import engine.core.rewards.RewardTypeAdapter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Classe permettant de sérialiser un joueur en JSON sans réflexion. Seul l'état de jeu du joueur est écrit, les listes
+ * et masques dérivés des inventeurs sont reconstruits à la lecture.
+ * @author Noé Mourton-Comte
+ */
+public class PlayerTypeAdapter extends TypeAdapter<Player>
+{
+    private final InventorTypeAdapter inventorAdapter = new InventorTypeAdapter();
+    private final InventionTypeAdapter inventionAdapter = new InventionTypeAdapter();
+    private final RewardTypeAdapter rewardAdapter = new RewardTypeAdapter();
+
+    @Override
+    public void write(JsonWriter out, Player player) throws IOException
+    {
+        if(player == null)
+        {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("name").value(player.getName());
+        out.name("uuid").value(player.getUUID() != null ? player.getUUID().toString() : null);
+        out.name("seat").value(player.getSeat());
+
+        out.name("inventors").beginArray();
+        for(Inventor inventor : player.getInventors())
+        {
+            this.inventorAdapter.write(out, inventor);
+        }
+        out.endArray();
+
+        out.name("completedInventions").beginArray();
+        for(Invention invention : player.getCompletedInventions())
+        {
+            this.inventionAdapter.write(out, invention);
+        }
+        out.endArray();
+
+        out.name("rewards").beginArray();
+        for(Reward reward : player.getRewards())
+        {
+            this.rewardAdapter.write(out, reward);
+        }
+        out.endArray();
+
+        out.name("victoryPoints").value(player.getVictoryPoints());
+        out.name("hasLeonardoDaVinciTrophy").value(player.hasLeonardoDaVinciTrophy());
+        out.endObject();
+    }
+
+    @Override
+    public Player read(JsonReader in) throws IOException
+    {
+        if(in.peek() == JsonToken.NULL)
+        {
+            in.nextNull();
+            return null;
+        }
+
+        String name = null;
+        UUID uuid = null;
+        int seat = Player.NO_SEAT;
+        List<Inventor> inventors = new ArrayList<>();
+        List<Invention> completedInventions = new ArrayList<>();
+        List<Reward> rewards = new ArrayList<>();
+        boolean hasLeonardoDaVinciTrophy = false;
+
+        in.beginObject();
+        while(in.hasNext())
+        {
+            switch(in.nextName())
+            {
+                case "name":
+                    name = in.nextString();
+                    break;
+                case "uuid":
+                    if(in.peek() == JsonToken.NULL)
+                        in.nextNull();
+                    else
+                        uuid = UUID.fromString(in.nextString());
+                    break;
+                case "seat":
+                    seat = in.nextInt();
+                    break;
+                case "inventors":
+                    in.beginArray();
+                    while(in.hasNext())
+                        inventors.add(this.inventorAdapter.read(in));
+                    in.endArray();
+                    break;
+                case "completedInventions":
+                    in.beginArray();
+                    while(in.hasNext())
+                        completedInventions.add(this.inventionAdapter.read(in));
+                    in.endArray();
+                    break;
+                case "rewards":
+                    in.beginArray();
+                    while(in.hasNext())
+                        rewards.add(this.rewardAdapter.read(in));
+                    in.endArray();
+                    break;
+                case "hasLeonardoDaVinciTrophy":
+                    hasLeonardoDaVinciTrophy = in.nextBoolean();
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        //Les points de victoire sont recalculés à partir des récompenses
+        Player player = new Player(name, uuid, seat);
+        player.addAllInventors(inventors);
+
+        for(Invention invention : completedInventions)
+            player.addCompletedInvention(invention);
+
+        for(Reward reward : rewards)
+            player.addReward(reward);
+
+        if(hasLeonardoDaVinciTrophy)
+            player.giveTrophy();
+
+        return player;
+    }
+}
@@ -1,11 +1,14 @@
 package engine.core.rewards;
 
+import com.google.gson.annotations.JsonAdapter;
+
 import java.util.Random;
 
 /**
  * Classe représentant les pions de récompenses
  * @author Valentin Sappa
  */
+@JsonAdapter(RewardTypeAdapter.class)
 public class Reward
 {
     private static Random rand = new Random();
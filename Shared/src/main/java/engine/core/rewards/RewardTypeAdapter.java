@@ -0,0 +1,63 @@
+package engine.core.rewards;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Classe permettant de sérialiser un pion de récompense en JSON sans réflexion : {"type":"VICTORY","value":2}
+ * @author Noé Mourton-Comte
+ */
+public class RewardTypeAdapter extends TypeAdapter<Reward>
+{
+    @Override
+    public void write(JsonWriter out, Reward reward) throws IOException
+    {
+        if(reward == null)
+        {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("type").value(reward.getType().name());
+        out.name("value").value(reward.getValue());
+        out.endObject();
+    }
+
+    @Override
+    public Reward read(JsonReader in) throws IOException
+    {
+        if(in.peek() == JsonToken.NULL)
+        {
+            in.nextNull();
+            return null;
+        }
+
+        RewardType type = null;
+        int value = 0;
+
+        in.beginObject();
+        while(in.hasNext())
+        {
+            switch(in.nextName())
+            {
+                case "type":
+                    type = RewardType.valueOf(in.nextString());
+                    break;
+                case "value":
+                    value = in.nextInt();
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        return new Reward(type, value);
+    }
+}
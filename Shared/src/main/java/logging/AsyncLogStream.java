@@ -0,0 +1,283 @@
+package logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classe représentant un flux de logs asynchrone.
+ * Les lignes écrites sont placées dans une file bornée, puis recopiées dans le flux cible par un thread dédié :
+ * le thread qui journalise (la boucle de jeu par exemple) n'attend jamais l'écriture sur la console.
+ * Lorsque la file est pleine, la politique choisie (LogDropPolicy) détermine si la ligne est abandonnée ou si
+ * le thread qui journalise attend. Seuls les messages de niveau INFO ou inférieur peuvent être abandonnés : les
+ * avertissements, les erreurs, les piles d'appels (printStackTrace) et toute ligne au format inconnu (messages de la
+ * JVM par exemple) sont toujours écrits.
+ * @author Noé Mourton-Comte
+ */
+public class AsyncLogStream extends OutputStream
+{
+    public static final String CAPACITY_PROPERTY = "inventors.log.capacity";
+    public static final String DROP_POLICY_PROPERTY = "inventors.log.dropPolicy";
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    //Temps maximum accordé au thread d'écriture pour vider la file lors d'un "drain"
+    private static final long DRAIN_TIMEOUT_MILLIS = 1000;
+    //Nombre d'octets examinés pour retrouver le niveau d'une ligne ("[thread] NIVEAU logger - message")
+    private static final int MAX_HEADER_LENGTH = 128;
+    private static final String[] DROPPABLE_LEVELS = { "INFO ", "DEBUG ", "TRACE " };
+
+    private static volatile boolean installed;
+
+    private final OutputStream target;
+    private final BlockingQueue<byte[]> lines;
+    private final LogDropPolicy dropPolicy;
+    private final AtomicLong droppedLines;
+    //Lignes acceptées mais pas encore écrites (en file ou en cours d'écriture)
+    private final AtomicInteger pendingLines;
+    //Verrou dédié à l'attente de l'écriture, distinct du moniteur tenu par les producteurs (qui peuvent être bloqués)
+    private final Object drainLock;
+    private final ByteArrayOutputStream currentLine;
+    private final Thread writer;
+
+    /**
+     * Constructeur de la classe AsyncLogStream
+     * @param target flux dans lequel les lignes sont finalement écrites
+     * @param capacity nombre maximum de lignes en attente d'écriture
+     * @param dropPolicy comportement lorsque la file est pleine
+     */
+    public AsyncLogStream(OutputStream target, int capacity, LogDropPolicy dropPolicy)
+    {
+        this.target = target;
+        this.lines = new ArrayBlockingQueue<>(capacity);
+        this.dropPolicy = dropPolicy;
+        this.droppedLines = new AtomicLong();
+        this.pendingLines = new AtomicInteger();
+        this.drainLock = new Object();
+        this.currentLine = new ByteArrayOutputStream(256);
+
+        this.writer = new Thread(this::writeLines, "async-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Méthode permettant de remplacer la sortie d'erreur (utilisée par slf4j-simple) par un flux asynchrone.
+     * Elle doit être appelée avant la création du premier logger, la capacité et la politique sont lues dans les
+     * propriétés système "inventors.log.capacity" et "inventors.log.dropPolicy".
+     */
+    public static synchronized void install()
+    {
+        if(installed)
+            return;
+
+        int capacity = Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY);
+        LogDropPolicy dropPolicy = LogDropPolicy.valueOf(System.getProperty(DROP_POLICY_PROPERTY, LogDropPolicy.DROP.name()));
+
+        AsyncLogStream asyncLogStream = new AsyncLogStream(System.err, capacity, dropPolicy);
+        System.setErr(new PrintStream(asyncLogStream, true));
+
+        //Les lignes encore en attente sont écrites avant l'arrêt de la JVM
+        Runtime.getRuntime().addShutdownHook(new Thread(asyncLogStream::drain, "async-log-drain"));
+        installed = true;
+    }
+
+    @Override
+    public synchronized void write(int b)
+    {
+        this.currentLine.write(b);
+        if(b == '\n')
+            this.enqueueCurrentLine();
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len)
+    {
+        int start = off;
+        for(int i = off; i < off + len; i++)
+        {
+            if(b[i] == '\n')
+            {
+                this.currentLine.write(b, start, i + 1 - start);
+                this.enqueueCurrentLine();
+                start = i + 1;
+            }
+        }
+        this.currentLine.write(b, start, off + len - start);
+    }
+
+    @Override
+    public synchronized void flush()
+    {
+        //Les lignes complètes sont déjà en file, seule une ligne partielle reste à transmettre
+        if(this.currentLine.size() > 0)
+            this.enqueueCurrentLine();
+    }
+
+    @Override
+    public void close()
+    {
+        this.flush();
+        this.drain();
+    }
+
+    /**
+     * Méthode permettant de placer la ligne courante dans la file, selon la politique choisie
+     */
+    private void enqueueCurrentLine()
+    {
+        byte[] line = this.currentLine.toByteArray();
+        this.currentLine.reset();
+
+        this.pendingLines.incrementAndGet();
+
+        if(this.dropPolicy == LogDropPolicy.BLOCK || !isDroppable(line))
+        {
+            try
+            {
+                this.lines.put(line);
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+                this.pendingLines.decrementAndGet();
+                this.droppedLines.incrementAndGet();
+            }
+        }
+        else if(!this.lines.offer(line))
+        {
+            this.pendingLines.decrementAndGet();
+            this.droppedLines.incrementAndGet();
+        }
+    }
+
+    /**
+     * Fonction permettant de savoir si une ligne peut être abandonnée : seules les lignes de slf4j-simple de niveau
+     * INFO, DEBUG ou TRACE le peuvent
+     * @param line ligne à écrire
+     */
+    static boolean isDroppable(byte[] line)
+    {
+        String header = new String(line, 0, Math.min(line.length, MAX_HEADER_LENGTH), StandardCharsets.ISO_8859_1);
+
+        int threadEnd = header.indexOf("] ");
+        if(threadEnd < 0)
+            return false;
+
+        for(String level : DROPPABLE_LEVELS)
+        {
+            if(header.startsWith(level, threadEnd + 2))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Méthode exécutée par le thread d'écriture : les lignes sont écrites par lots, le flux cible n'est vidé
+     * qu'une fois la file épuisée
+     */
+    private void writeLines()
+    {
+        List<byte[]> batch = new ArrayList<>();
+
+        try
+        {
+            while(true)
+            {
+                batch.add(this.lines.take());
+                this.lines.drainTo(batch);
+
+                for(byte[] line : batch)
+                    this.writeLine(line);
+
+                long dropped = this.droppedLines.getAndSet(0);
+                if(dropped > 0)
+                    this.writeLine(String.format("[async-log] %d ligne(s) de log abandonnée(s), file pleine.%n", dropped)
+                            .getBytes(Charset.defaultCharset()));
+
+                try
+                {
+                    this.target.flush();
+                }
+                catch (IOException ignored)
+                {
+                }
+
+                synchronized (this.drainLock)
+                {
+                    this.pendingLines.addAndGet(-batch.size());
+                    this.drainLock.notifyAll();
+                }
+                batch.clear();
+            }
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Méthode permettant d'attendre que toutes les lignes en attente soient écrites (une seconde au maximum).
+     * Seul le thread d'écriture consomme la file, l'ordre des lignes est donc toujours respecté.
+     */
+    public void drain()
+    {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DRAIN_TIMEOUT_MILLIS);
+
+        synchronized (this.drainLock)
+        {
+            long remaining;
+            while(this.pendingLines.get() > 0 && (remaining = deadline - System.nanoTime()) > 0)
+            {
+                try
+                {
+                    TimeUnit.NANOSECONDS.timedWait(this.drainLock, remaining);
+                }
+                catch (InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void writeLine(byte[] line)
+    {
+        try
+        {
+            this.target.write(line);
+        }
+        catch (IOException ignored)
+        {
+            //Le flux cible n'est plus disponible, il n'y a nulle part où signaler l'erreur
+        }
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de lignes abandonnées depuis la dernière écriture
+     */
+    public long getDroppedLinesCount()
+    {
+        return this.droppedLines.get();
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de lignes en attente d'écriture
+     */
+    public int getPendingLinesCount()
+    {
+        return this.pendingLines.get();
+    }
+}
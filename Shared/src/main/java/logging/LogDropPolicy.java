@@ -0,0 +1,13 @@
+package logging;
+
+/**
+ * Énumération des comportements possibles lorsque la file des logs asynchrones est pleine.
+ * @author Noé Mourton-Comte
+ */
+public enum LogDropPolicy
+{
+    //Les messages de niveau INFO ou inférieur sont abandonnés (et comptabilisés), les autres lignes sont toujours écrites
+    DROP,
+    //Le thread qui journalise attend qu'une place se libère, aucun message n'est perdu
+    BLOCK;
+}
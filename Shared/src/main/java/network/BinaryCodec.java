@@ -0,0 +1,434 @@
+package network;
+
+import engine.core.Invention;
+import engine.core.Inventor;
+import engine.core.Knowledges;
+import engine.core.Team;
+import engine.core.exceptions.AlreadyBusyException;
+import engine.core.rewards.Reward;
+import engine.core.rewards.RewardType;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Classe permettant d'encoder les messages du "InventorsProtocol" sous une forme binaire compacte (encodage BINARY).
+ * Les inventeurs et les inventions sont désignés par leur identifiant dans le catalogue.
+ * Les connaissances sont regroupées dans un entier court, quatre bits par connaissance.
+ * Les identifiants sont encodés sur deux octets non signés, la valeur 0xFFFF désignant un objet hors catalogue (NO_ID) :
+ * un identifiant qui ne tient pas dans ce format est refusé plutôt que tronqué.
+ * @author Noé Mourton-Comte
+ */
+public final class BinaryCodec
+{
+    private static final int KNOWLEDGE_BITS = 4;
+    private static final int KNOWLEDGE_MAX = (1 << KNOWLEDGE_BITS) - 1;
+
+    //Identifiant encodé d'un objet hors catalogue
+    private static final int NO_ID_CODE = 0xFFFF;
+    /**
+     * Identifiant maximal encodable dans les messages (inventeurs et inventions).
+     */
+    public static final int MAX_ID = NO_ID_CODE - 1;
+
+    //Deux bits pour le type de l'action, quinze bits par identifiant (la valeur maximale désignant NO_ID)
+    private static final int ACTION_FIELD_BITS = 15;
+    private static final int ACTION_FIELD_MASK = (1 << ACTION_FIELD_BITS) - 1;
+    /**
+     * Identifiant maximal encodable dans une action regroupée.
+     */
+    public static final int MAX_ACTION_ID = ACTION_FIELD_MASK - 1;
+
+    //Copie unique des types d'action, "values()" créant un nouveau tableau à chaque appel
+    private static final ProtocolTypes[] ACTION_TYPES = ProtocolTypes.values();
+
+    private BinaryCodec()
+    {
+    }
+
+    //region Connaissances
+
+    /**
+     * Fonction permettant de regrouper des connaissances dans un entier court
+     * @param knowledges connaissances, chacune comprise entre 0 et 15
+     */
+    public static short packKnowledges(Knowledges knowledges)
+    {
+        return (short) (packKnowledge(knowledges.getPhys()) << (3 * KNOWLEDGE_BITS)
+                | packKnowledge(knowledges.getChem()) << (2 * KNOWLEDGE_BITS)
+                | packKnowledge(knowledges.getMech()) << KNOWLEDGE_BITS
+                | packKnowledge(knowledges.getMath()));
+    }
+
+    /**
+     * Fonction permettant de retrouver des connaissances regroupées par packKnowledges
+     * @param packedKnowledges connaissances regroupées
+     */
+    public static Knowledges unpackKnowledges(short packedKnowledges)
+    {
+        return new Knowledges(packedKnowledges >> (3 * KNOWLEDGE_BITS) & KNOWLEDGE_MAX,
+                packedKnowledges >> (2 * KNOWLEDGE_BITS) & KNOWLEDGE_MAX,
+                packedKnowledges >> KNOWLEDGE_BITS & KNOWLEDGE_MAX,
+                packedKnowledges & KNOWLEDGE_MAX);
+    }
+
+    private static int packKnowledge(int knowledge)
+    {
+        if(knowledge < 0 || knowledge > KNOWLEDGE_MAX)
+            throw new IllegalArgumentException(String.format("Impossible d'encoder la connaissance %d (maximum %d).", knowledge, KNOWLEDGE_MAX));
+
+        return knowledge;
+    }
+
+    //endregion
+
+    //region Actions
+
+    /**
+     * Fonction permettant de regrouper une action dans un entier
+     * @param type type de l'action
+     * @param inventorId identifiant de l'inventeur (NO_ID pour MakeAvailableAction)
+     * @param inventionId identifiant de l'invention (NO_ID pour MakeAvailableAction)
+     * @throws IllegalArgumentException si un identifiant dépasse MAX_ACTION_ID
+     */
+    public static int packAction(ProtocolTypes type, int inventorId, int inventionId)
+    {
+        return type.ordinal() << (2 * ACTION_FIELD_BITS)
+                | packActionId(inventorId) << ACTION_FIELD_BITS
+                | packActionId(inventionId);
+    }
+
+    /**
+     * Fonction permettant de regrouper dans un entier une action au format texte [type, inventorId, inventionId],
+     * tel que l'envoient les clients JSON (une MakeAvailableAction peut se limiter à son type)
+     * @param action action au format texte
+     */
+    public static int packAction(String[] action)
+    {
+        ProtocolTypes type = ProtocolTypes.valueOf(action[0]);
+
+        if(type == ProtocolTypes.MakeAvailableAction)
+            return packAction(type, Inventor.NO_ID, Invention.NO_ID);
+
+        return packAction(type, Integer.parseInt(action[1]), Integer.parseInt(action[2]));
+    }
+
+    private static int packActionId(int id)
+    {
+        if(id == Inventor.NO_ID)
+            return ACTION_FIELD_MASK;
+
+        if(id < 0 || id > MAX_ACTION_ID)
+            throw new IllegalArgumentException(String.format("Impossible d'encoder l'identifiant %d dans une action (maximum %d).", id, MAX_ACTION_ID));
+
+        return id;
+    }
+
+    private static int unpackActionId(int field)
+    {
+        return field == ACTION_FIELD_MASK ? Inventor.NO_ID : field;
+    }
+
+    /**
+     * Fonction permettant de retrouver le type d'une action regroupée par packAction
+     * @param packedAction action regroupée
+     * @return le type de l'action, ou null si le type est inconnu
+     */
+    public static ProtocolTypes unpackActionType(int packedAction)
+    {
+        int ordinal = packedAction >>> (2 * ACTION_FIELD_BITS);
+
+        return ordinal < ACTION_TYPES.length ? ACTION_TYPES[ordinal] : null;
+    }
+
+    /**
+     * Fonction permettant de retrouver l'identifiant de l'inventeur d'une action regroupée par packAction
+     * @param packedAction action regroupée
+     * @return l'identifiant de l'inventeur, ou NO_ID
+     */
+    public static int unpackActionInventor(int packedAction)
+    {
+        return unpackActionId(packedAction >> ACTION_FIELD_BITS & ACTION_FIELD_MASK);
+    }
+
+    /**
+     * Fonction permettant de retrouver l'identifiant de l'invention d'une action regroupée par packAction
+     * @param packedAction action regroupée
+     * @return l'identifiant de l'invention, ou NO_ID
+     */
+    public static int unpackActionInvention(int packedAction)
+    {
+        return unpackActionId(packedAction & ACTION_FIELD_MASK);
+    }
+
+    //endregion
+
+    //region Inventeurs
+
+    /**
+     * Fonction permettant d'encoder les inventeurs de tous les joueurs
+     * @param inventors dictionnaire des inventeurs indexé par UUID
+     */
+    public static byte[] encodeInventors(Map<UUID, List<Inventor>> inventors)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes))
+        {
+            output.writeByte(inventors.size());
+
+            for(Map.Entry<UUID, List<Inventor>> playerInventors : inventors.entrySet())
+            {
+                writeUUID(output, playerInventors.getKey());
+                output.writeByte(playerInventors.getValue().size());
+
+                for(Inventor inventor : playerInventors.getValue())
+                {
+                    writeId(output, inventor.getId());
+                    output.writeUTF(inventor.getName());
+                    output.writeByte(inventor.getTeam().ordinal());
+                    output.writeShort(packKnowledges(inventor.getKnowledges()));
+                    output.writeBoolean(inventor.isBusy());
+                }
+            }
+        }
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Fonction permettant de décoder les inventeurs encodés par encodeInventors
+     * @param bytes inventeurs encodés
+     */
+    public static HashMap<UUID, List<Inventor>> decodeInventors(byte[] bytes) throws IOException
+    {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+        HashMap<UUID, List<Inventor>> inventors = new HashMap<>();
+
+        int playersCount = input.readUnsignedByte();
+        for(int i = 0; i < playersCount; i++)
+        {
+            UUID playerId = readUUID(input);
+            int inventorsCount = input.readUnsignedByte();
+            List<Inventor> playerInventors = new ArrayList<>(inventorsCount);
+
+            for(int j = 0; j < inventorsCount; j++)
+            {
+                int id = readId(input);
+                String name = input.readUTF();
+                Team team = readEnum(input, Team.values());
+                Inventor inventor = new Inventor(id, name, unpackKnowledges(input.readShort()), team);
+
+                if(input.readBoolean())
+                    setBusy(inventor);
+
+                playerInventors.add(inventor);
+            }
+
+            inventors.put(playerId, playerInventors);
+        }
+
+        return inventors;
+    }
+
+    //endregion
+
+    //region Inventions
+
+    /**
+     * Fonction permettant d'encoder les inventions présentes "sur la table"
+     * @param inventions liste des inventions
+     */
+    public static byte[] encodeInventions(List<Invention> inventions)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes))
+        {
+            output.writeByte(inventions.size());
+
+            for(Invention invention : inventions)
+            {
+                writeId(output, invention.getId());
+                output.writeUTF(invention.getName());
+                output.writeByte(invention.getEra());
+                output.writeShort(packKnowledges(invention.getRequiredKnowledges()));
+                output.writeShort(packKnowledges(invention.getActualKnowledges()));
+
+                Map<UUID, Integer> contributions = invention.getContributions();
+                output.writeByte(contributions.size());
+                for(Map.Entry<UUID, Integer> contribution : contributions.entrySet())
+                {
+                    writeUUID(output, contribution.getKey());
+                    output.writeByte(contribution.getValue());
+                }
+
+                writeRewards(output, invention.getRewards());
+            }
+        }
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Fonction permettant de décoder les inventions encodées par encodeInventions
+     * @param bytes inventions encodées
+     */
+    public static ArrayList<Invention> decodeInventions(byte[] bytes) throws IOException
+    {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+
+        int inventionsCount = input.readUnsignedByte();
+        ArrayList<Invention> inventions = new ArrayList<>(inventionsCount);
+
+        for(int i = 0; i < inventionsCount; i++)
+        {
+            int id = readId(input);
+            String name = input.readUTF();
+            int era = input.readUnsignedByte();
+            Invention invention = new Invention(id, name, unpackKnowledges(input.readShort()), era);
+
+            invention.getActualKnowledges().add(unpackKnowledges(input.readShort()));
+
+            int contributionsCount = input.readUnsignedByte();
+            for(int j = 0; j < contributionsCount; j++)
+            {
+                UUID contributor = readUUID(input);
+                invention.addContribution(contributor, input.readUnsignedByte());
+            }
+
+            //Les récompenses reçues remplacent celle ajoutée par le constructeur
+            invention.setRewards(readRewards(input));
+
+            inventions.add(invention);
+        }
+
+        return inventions;
+    }
+
+    //endregion
+
+    //region Récompenses
+
+    /**
+     * Fonction permettant d'encoder une liste de récompenses
+     * @param rewards récompenses
+     */
+    public static byte[] encodeRewards(List<Reward> rewards)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes))
+        {
+            writeRewards(output, rewards);
+        }
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Fonction permettant de décoder les récompenses encodées par encodeRewards
+     * @param bytes récompenses encodées
+     */
+    public static ArrayList<Reward> decodeRewards(byte[] bytes) throws IOException
+    {
+        return readRewards(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    private static void writeRewards(DataOutputStream output, List<Reward> rewards) throws IOException
+    {
+        output.writeByte(rewards.size());
+
+        for(Reward reward : rewards)
+        {
+            output.writeByte(reward.getType().ordinal());
+            output.writeByte(reward.getValue());
+        }
+    }
+
+    private static ArrayList<Reward> readRewards(DataInputStream input) throws IOException
+    {
+        int rewardsCount = input.readUnsignedByte();
+        ArrayList<Reward> rewards = new ArrayList<>(rewardsCount);
+
+        for(int i = 0; i < rewardsCount; i++)
+        {
+            RewardType type = readEnum(input, RewardType.values());
+            rewards.add(new Reward(type, input.readUnsignedByte()));
+        }
+
+        return rewards;
+    }
+
+    //endregion
+
+    //region Utilitaires
+
+    private static void writeUUID(DataOutputStream output, UUID uuid) throws IOException
+    {
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUUID(DataInputStream input) throws IOException
+    {
+        return new UUID(input.readLong(), input.readLong());
+    }
+
+    private static void writeId(DataOutputStream output, int id) throws IOException
+    {
+        if(id == Inventor.NO_ID)
+        {
+            output.writeShort(NO_ID_CODE);
+            return;
+        }
+
+        if(id < 0 || id > MAX_ID)
+            throw new IllegalArgumentException(String.format("Impossible d'encoder l'identifiant %d (maximum %d).", id, MAX_ID));
+
+        output.writeShort(id);
+    }
+
+    private static int readId(DataInputStream input) throws IOException
+    {
+        int id = input.readUnsignedShort();
+
+        return id == NO_ID_CODE ? Inventor.NO_ID : id;
+    }
+
+    private static <T extends Enum<T>> T readEnum(DataInputStream input, T[] values) throws IOException
+    {
+        int ordinal = input.readUnsignedByte();
+
+        if(ordinal >= values.length)
+            throw new IOException(String.format("Valeur inconnue : %d.", ordinal));
+
+        return values[ordinal];
+    }
+
+    private static void setBusy(Inventor inventor) throws IOException
+    {
+        try
+        {
+            inventor.makeBusy();
+        }
+        catch (AlreadyBusyException ex)
+        {
+            throw new IOException(ex);
+        }
+    }
+
+    //endregion
+}
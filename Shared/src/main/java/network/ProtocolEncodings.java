@@ -0,0 +1,12 @@
+package network;
+
+/**
+ * Enumération des encodages des messages du "InventorsProtocol", négociés lors du "WelcomeMessage".
+ * JSON est l'encodage par défaut, utilisé avec les clients qui ne répondent pas à la négociation.
+ * @author Noé Mourton-Comte
+ */
+public enum ProtocolEncodings
+{
+    JSON,
+    BINARY
+}
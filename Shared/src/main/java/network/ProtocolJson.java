@@ -0,0 +1,43 @@
+package network;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import engine.core.Invention;
+import engine.core.Inventor;
+import engine.core.rewards.Reward;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Classe regroupant l'instance Gson partagée du "InventorsProtocol" et les types génériques des messages JSON.
+ * Gson est sûr entre threads et garde en cache les adaptateurs de chaque type : une seule instance suffit.
+ * Les classes du modèle (Knowledges, Inventor, Invention, Reward, Player...) sont sérialisées par leurs TypeAdapter.
+ * @author Noé Mourton-Comte
+ */
+public final class ProtocolJson
+{
+    public static final Gson GSON = new Gson();
+
+    /**
+     * Type des inventeurs de chaque joueur indexés par UUID (GameStartedMessage, SynchronizeMessage)
+     */
+    public static final Type INVENTORS_BY_PLAYER_TYPE = new TypeToken<HashMap<UUID, List<Inventor>>>(){}.getType();
+
+    /**
+     * Type des inventions disponibles sur le plateau (GameStartedMessage, SynchronizeMessage)
+     */
+    public static final Type INVENTIONS_TYPE = new TypeToken<ArrayList<Invention>>(){}.getType();
+
+    /**
+     * Type des récompenses proposées à un joueur (RewardMessage)
+     */
+    public static final Type REWARDS_TYPE = new TypeToken<ArrayList<Reward>>(){}.getType();
+
+    private ProtocolJson()
+    {
+    }
+}
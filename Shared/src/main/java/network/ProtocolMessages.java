@@ -13,6 +13,9 @@ public enum ProtocolMessages
     RewardMessage,
     KickedMessage,
     SynchronizeMessage,
+    SynchronizeDeltaMessage,
+    ResyncRequestMessage,
     GameEndedMessage,
-    LogMessage
+    LogMessage,
+    RequeueMessage
 }
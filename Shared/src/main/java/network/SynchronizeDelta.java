@@ -0,0 +1,191 @@
+package network;
+
+import engine.core.Knowledges;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Classe représentant les modifications de l'état d'une partie depuis la synchronisation précédente.
+ * Chaque synchronisation porte un numéro de version : une modification ne peut être appliquée que sur l'état de la version
+ * qui la précède, sinon le client doit demander un état complet (voir ResyncRequestMessage).
+ * @author Noé Mourton-Comte
+ */
+public class SynchronizeDelta
+{
+    /**
+     * Classe représentant le changement de disponibilité d'un inventeur.
+     */
+    public static class InventorChange
+    {
+        private UUID owner;
+        private String inventor;
+        private boolean busy;
+
+        public InventorChange(UUID owner, String inventor, boolean busy)
+        {
+            this.owner = owner;
+            this.inventor = inventor;
+            this.busy = busy;
+        }
+
+        public UUID getOwner()
+        {
+            return this.owner;
+        }
+
+        public String getInventor()
+        {
+            return this.inventor;
+        }
+
+        public boolean isBusy()
+        {
+            return this.busy;
+        }
+    }
+
+    /**
+     * Classe représentant les modifications d'une invention : cubes de connaissances ajoutés et récompenses prises.
+     */
+    public static class InventionChange
+    {
+        private String invention;
+        private Knowledges addedKnowledges;
+        private HashMap<UUID, Integer> addedContributions;
+        private ArrayList<Integer> takenRewards;
+
+        public InventionChange(String invention)
+        {
+            this.invention = invention;
+            this.addedKnowledges = new Knowledges();
+            this.addedContributions = new HashMap<>();
+            this.takenRewards = new ArrayList<>();
+        }
+
+        public String getInvention()
+        {
+            return this.invention;
+        }
+
+        /**
+         * Fonction permettant de récupérer les connaissances ajoutées à l'invention
+         */
+        public Knowledges getAddedKnowledges()
+        {
+            return this.addedKnowledges;
+        }
+
+        /**
+         * Fonction permettant de récupérer le nombre de cubes ajoutés par chaque joueur
+         */
+        public HashMap<UUID, Integer> getAddedContributions()
+        {
+            return this.addedContributions;
+        }
+
+        /**
+         * Fonction permettant de récupérer la position des récompenses prises, dans l'ordre où elles ont été retirées
+         */
+        public ArrayList<Integer> getTakenRewards()
+        {
+            return this.takenRewards;
+        }
+    }
+
+    private long version;
+    private ArrayList<InventorChange> inventors;
+    private ArrayList<InventionChange> inventions;
+
+    public SynchronizeDelta()
+    {
+        this.inventors = new ArrayList<>();
+        this.inventions = new ArrayList<>();
+    }
+
+    /**
+     * Méthode permettant d'enregistrer le changement de disponibilité d'un inventeur
+     * @param owner UUID du propriétaire de l'inventeur
+     * @param inventor nom de l'inventeur
+     * @param busy vrai si l'inventeur est désormais occupé
+     */
+    public void addInventorChange(UUID owner, String inventor, boolean busy)
+    {
+        this.inventors.add(new InventorChange(owner, inventor, busy));
+    }
+
+    /**
+     * Méthode permettant d'enregistrer l'ajout de connaissances à une invention
+     * @param invention nom de l'invention
+     * @param contributor UUID du joueur ayant apporté les connaissances
+     * @param addedKnowledges connaissances ajoutées
+     */
+    public void addKnowledges(String invention, UUID contributor, Knowledges addedKnowledges)
+    {
+        InventionChange inventionChange = this.getInventionChange(invention);
+
+        inventionChange.addedKnowledges.add(addedKnowledges);
+
+        int cubes = addedKnowledges.sum();
+        if(cubes > 0)
+            inventionChange.addedContributions.merge(contributor, cubes, Integer::sum);
+    }
+
+    /**
+     * Méthode permettant d'enregistrer la prise d'une récompense
+     * @param invention nom de l'invention
+     * @param rewardIndex position de la récompense dans la liste des récompenses de l'invention au moment de sa prise
+     */
+    public void addTakenReward(String invention, int rewardIndex)
+    {
+        this.getInventionChange(invention).takenRewards.add(rewardIndex);
+    }
+
+    /**
+     * Fonction permettant de récupérer (ou de créer) les modifications d'une invention
+     * @param invention nom de l'invention
+     */
+    private InventionChange getInventionChange(String invention)
+    {
+        for(InventionChange inventionChange : this.inventions)
+        {
+            if(inventionChange.invention.equals(invention))
+                return inventionChange;
+        }
+
+        InventionChange inventionChange = new InventionChange(invention);
+        this.inventions.add(inventionChange);
+
+        return inventionChange;
+    }
+
+    /**
+     * Fonction permettant de savoir si aucune modification n'a été enregistrée
+     */
+    public boolean isEmpty()
+    {
+        return this.inventors.isEmpty() && this.inventions.isEmpty();
+    }
+
+    public long getVersion()
+    {
+        return this.version;
+    }
+
+    public void setVersion(long version)
+    {
+        this.version = version;
+    }
+
+    public List<InventorChange> getInventors()
+    {
+        return this.inventors;
+    }
+
+    public List<InventionChange> getInventions()
+    {
+        return this.inventions;
+    }
+}
@@ -0,0 +1,73 @@
+package engine.core;
+
+import com.google.gson.Gson;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe destinée à tester la classe "Contributions".
+ * @author Noé Mourton-Comte
+ */
+public class ContributionsTest
+{
+    @Test
+    public void addSeatedContributions()
+    {
+        Player firstPlayer = new Player("Joueur 1", new UUID(0, 1), 0);
+        Player secondPlayer = new Player("Joueur 2", new UUID(0, 2), 3);
+        Contributions contributions = new Contributions();
+
+        contributions.add(firstPlayer, 2);
+        contributions.add(secondPlayer, 1);
+        contributions.add(firstPlayer, 3);
+
+        assertEquals(5, contributions.get(firstPlayer));
+        assertEquals(1, contributions.get(secondPlayer.getUUID()));
+        assertEquals(0, contributions.get(new Player("Joueur 3", new UUID(0, 3), 1)));
+        assertEquals(2, contributions.toMap().size());
+    }
+
+    @Test
+    public void addContributionsByUUID()
+    {
+        UUID firstContributor = new UUID(0, 1);
+        UUID secondContributor = new UUID(0, 2);
+        Contributions contributions = new Contributions();
+
+        contributions.add(firstContributor, 1);
+        contributions.add(secondContributor, 4);
+        contributions.add(firstContributor, 1);
+
+        assertEquals(2, contributions.get(firstContributor));
+        assertEquals(4, contributions.get(new Player("Joueur 2", secondContributor)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectTooManyContributors()
+    {
+        Contributions contributions = new Contributions();
+
+        for(int i = 0; i <= Contributions.MAX_SEATS; i++)
+            contributions.add(new UUID(0, i), 1);
+    }
+
+    @Test
+    public void serializeContributionsAsMap()
+    {
+        Gson gson = new Gson();
+        UUID contributor = new UUID(0, 1);
+        Contributions contributions = new Contributions();
+        contributions.add(new Player("Joueur 1", contributor, 2), 3);
+
+        String json = gson.toJson(contributions);
+        Map<UUID, Integer> decodedContributions = gson.fromJson(json, Contributions.class).toMap();
+
+        assertEquals("{\"" + contributor + "\":3}", json);
+        assertEquals(1, decodedContributions.size());
+        assertEquals(3, decodedContributions.get(contributor).intValue());
+    }
+}
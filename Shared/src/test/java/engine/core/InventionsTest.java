@@ -1,14 +1,16 @@
 package engine.core;
 
+import engine.core.rewards.Reward;
 import engine.core.rewards.RewardType;
+import network.ProtocolJson;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.Collections;
 import java.util.UUID;
 
 import static org.junit.Assert.*;
-import static org.mockito.Mockito.when;
 
 /**
  * Classe de test de la classe Invention
@@ -16,7 +18,7 @@ import static org.mockito.Mockito.when;
  */
 public class InventionsTest
 {
-    private Knowledges mockedKnowledges;
+    private Knowledges knowledges;
     private Player mockedPlayer;
 
     private Invention inventionTest;
@@ -27,15 +29,10 @@ public class InventionsTest
     @Before
     public void initialize()
     {
-        mockedKnowledges = Mockito.mock(Knowledges.class);
+        knowledges = new Knowledges(1, 2, 3, 4);
         mockedPlayer = Mockito.mock(Player.class);
 
-        when(mockedKnowledges.getPhys()).thenReturn(1);
-        when(mockedKnowledges.getChem()).thenReturn(2);
-        when(mockedKnowledges.getMech()).thenReturn(3);
-        when(mockedKnowledges.getMath()).thenReturn(4);
-
-        inventionTest = new Invention("Invention", mockedKnowledges, 0);
+        inventionTest = new Invention("Invention", knowledges, 0);
     }
 
     /**
@@ -57,7 +54,7 @@ public class InventionsTest
     @Test
     public void inventionCompleted()
     {
-        inventionTest.updateActualKnowledges(mockedPlayer, mockedKnowledges);
+        inventionTest.updateActualKnowledges(mockedPlayer, knowledges);
 
         assertTrue(inventionTest.isCompleted());
     }
@@ -77,7 +74,7 @@ public class InventionsTest
     @Test
     public void inventionNotCompleted()
     {
-        inventionTest.updateActualKnowledges(Mockito.mock(Player.class), Mockito.mock(Knowledges.class));
+        inventionTest.updateActualKnowledges(Mockito.mock(Player.class), new Knowledges());
 
         assertFalse(inventionTest.isCompleted());
     }
@@ -88,8 +85,8 @@ public class InventionsTest
     @Test
     public void knowledgesDoNotOverflow()
     {
-        inventionTest.updateActualKnowledges(mockedPlayer, mockedKnowledges);
-        inventionTest.updateActualKnowledges(mockedPlayer, mockedKnowledges);
+        inventionTest.updateActualKnowledges(mockedPlayer, knowledges);
+        inventionTest.updateActualKnowledges(mockedPlayer, knowledges);
 
         assertEquals(inventionTest.getRequiredKnowledges().getChem(), inventionTest.getActualKnowledges().getChem());
         assertEquals(inventionTest.getRequiredKnowledges().getMath(), inventionTest.getActualKnowledges().getMath());
@@ -116,4 +113,48 @@ public class InventionsTest
         assertEquals(contributionPlayer1, 7);
         assertEquals(contributionPlayer2, 3);
     }
+
+    /**
+     * Vérifie que les points de victoire de l'invention suivent l'ajout et la prise de récompenses.
+     */
+    @Test
+    public void victoryPointsFollowRewards()
+    {
+        Invention invention = new Invention("Invention", knowledges, 2);
+
+        //L'époque, plus la carte de l'invention qui vaut son époque
+        assertEquals(4, invention.getVictoryPoints());
+
+        invention.addReward(new Reward(RewardType.VICTORY, 3));
+        assertEquals(7, invention.getVictoryPoints());
+
+        invention.takeReward(0);
+        assertEquals(5, invention.getVictoryPoints());
+
+        invention.setRewards(Collections.singletonList(new Reward(RewardType.VICTORY, 1)));
+        assertEquals(3, invention.getVictoryPoints());
+    }
+
+    @Test
+    public void serializeInventionFields()
+    {
+        UUID contributor = UUID.randomUUID();
+        Invention invention = new Invention(5, "Invention", new Knowledges(2, 2, 2, 2), 2);
+        invention.addReward(new Reward(RewardType.VICTORY, 3));
+        invention.getActualKnowledges().add(new Knowledges(1, 0, 2, 0));
+        invention.addContribution(contributor, 3);
+
+        Invention decodedInvention = ProtocolJson.GSON.fromJson(ProtocolJson.GSON.toJson(invention), Invention.class);
+
+        assertEquals(5, decodedInvention.getId());
+        assertEquals("Invention", decodedInvention.getName());
+        assertEquals(2, decodedInvention.getEra());
+        assertEquals(invention.getRequiredKnowledges(), decodedInvention.getRequiredKnowledges());
+        assertEquals(invention.getActualKnowledges(), decodedInvention.getActualKnowledges());
+        assertEquals(3, decodedInvention.getContributions().get(contributor).intValue());
+        assertEquals(2, decodedInvention.getRewards().size());
+        assertEquals(RewardType.CARD, decodedInvention.getRewards().get(0).getType());
+        assertEquals(3, decodedInvention.getRewards().get(1).getValue());
+        assertEquals(invention.getVictoryPoints(), decodedInvention.getVictoryPoints());
+    }
 }
@@ -1,5 +1,6 @@
 package engine.core;
 
+import com.google.gson.Gson;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -49,4 +50,23 @@ public class InventorsTest
         assertEquals(inventor.canWorkOn(invention), false);
         assertEquals(inventor.canWorkOn(invention), true);
     }
+
+    @Test
+    public void serializeInventorFields() throws Exception
+    {
+        Gson gson = new Gson();
+        Inventor inventor = new Inventor(3, "Inventeur", new Knowledges(1, 2, 3, 4), Team.Jaune);
+        inventor.makeBusy();
+
+        String json = gson.toJson(inventor);
+        Inventor decodedInventor = gson.fromJson(json, Inventor.class);
+
+        assertEquals("{\"id\":3,\"name\":\"Inventeur\",\"knowledges\":{\"phys\":1,\"chem\":2,\"mech\":3,\"math\":4}," +
+                "\"isBusy\":true,\"team\":\"Jaune\"}", json);
+        assertEquals(3, decodedInventor.getId());
+        assertEquals("Inventeur", decodedInventor.getName());
+        assertEquals(inventor.getKnowledges(), decodedInventor.getKnowledges());
+        assertEquals(Team.Jaune, decodedInventor.getTeam());
+        assertTrue(decodedInventor.isBusy());
+    }
 }
@@ -0,0 +1,87 @@
+package engine.core;
+
+import com.google.gson.Gson;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe destinée à tester la classe "Knowledges".
+ * @author Noé Mourton-Comte
+ */
+public class KnowledgesTest
+{
+    @Test
+    public void modifyKnowledges()
+    {
+        Knowledges knowledges = new Knowledges(1, 2, 3, 4);
+
+        knowledges.modPhys(2);
+        knowledges.modMath(-4);
+
+        assertEquals(new Knowledges(3, 2, 3, 0), knowledges);
+        assertEquals(8, knowledges.sum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectNegativeKnowledge()
+    {
+        new Knowledges(0, 0, 0, 1).modMath(-2);
+    }
+
+    @Test
+    public void addKnowledgesUpToLimit()
+    {
+        Knowledges actual = new Knowledges(0, 1, 2, 0);
+
+        int added = actual.addUpTo(new Knowledges(4, 4, 0, 1), new Knowledges(2, 3, 2, 0));
+
+        assertEquals(4, added);
+        assertEquals(new Knowledges(2, 3, 2, 0), actual);
+    }
+
+    @Test
+    public void remainingKnowledges()
+    {
+        Knowledges required = new Knowledges(3, 1, Knowledges.MAX_VALUE, 0);
+
+        assertEquals(new Knowledges(2, 0, Knowledges.MAX_VALUE - 1, 0), required.remaining(new Knowledges(1, 2, 1, 5)));
+        assertFalse(required.isSatisfiedBy(new Knowledges(3, 1, 2, 0)));
+        assertTrue(required.isSatisfiedBy(new Knowledges(3, 4, Knowledges.MAX_VALUE, 0)));
+    }
+
+    @Test
+    public void weightRemainingKnowledges()
+    {
+        Knowledges inventorKnowledges = new Knowledges(1, 2, 3, 4);
+
+        //(3 - 1) * 1 + (2 - 2) * 2 + (0 - 0) * 3 + (4 - 1) * 4
+        assertEquals(14, inventorKnowledges.weightRemaining(new Knowledges(3, 2, 0, 4), new Knowledges(1, 2, 0, 1)));
+    }
+
+    @Test
+    public void serializeKnowledgesFields()
+    {
+        Gson gson = new Gson();
+        Knowledges knowledges = new Knowledges(1, 2, 3, 4);
+
+        String json = gson.toJson(knowledges);
+
+        assertEquals("{\"phys\":1,\"chem\":2,\"mech\":3,\"math\":4}", json);
+        assertEquals(knowledges, gson.fromJson(json, Knowledges.class));
+    }
+
+    @Test
+    public void packedRoundTrip()
+    {
+        Knowledges knowledges = new Knowledges(1, 2, 3, 4);
+
+        assertEquals(knowledges, Knowledges.fromPacked(knowledges.toPacked()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidPackedValue()
+    {
+        Knowledges.fromPacked(0x80000000);
+    }
+}
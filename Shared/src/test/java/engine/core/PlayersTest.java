@@ -1,8 +1,14 @@
 package engine.core;
 
+import com.google.gson.Gson;
+import engine.core.rewards.Reward;
+import engine.core.rewards.RewardType;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.UUID;
+
 import static org.junit.Assert.*;
 
 /**
@@ -43,4 +49,65 @@ public class PlayersTest
         player.addInventor(inventor);
         Assert.assertTrue(player.getInventors().size() == 1 && player.getInventors().get(0) == inventor) ;
     }
+
+    @Test
+    public void sumPlayerVictoryPoints()
+    {
+        Player player = new Player();
+
+        player.addReward(new Reward(RewardType.CARD, 3));
+        player.addReward(new Reward(RewardType.VICTORY, 2));
+
+        assertEquals(5, player.getVictoryPoints());
+        assertEquals(2, player.getRewards().size());
+    }
+
+    @Test
+    public void trackBusyInventors() throws Exception
+    {
+        Player player = new Player();
+        Inventor inventor1 = new Inventor("Inventeur1", new Knowledges(0, 0, 0, 0), Team.Bleu);
+        Inventor inventor2 = new Inventor("Inventeur2", new Knowledges(1, 1, 1, 1), Team.Bleu);
+        Inventor inventor3 = new Inventor("Inventeur3", new Knowledges(1, 1, 1, 1), Team.Bleu);
+        player.addAllInventors(Arrays.asList(inventor1, inventor2, inventor3));
+
+        inventor2.makeBusy();
+
+        assertEquals(0b010, player.getBusyMask());
+        assertEquals(0b101, player.getFreeMask());
+        assertEquals(1, player.getBusyInventorsCount());
+        assertEquals(2, player.getFreeInventorsCount());
+        assertEquals(Arrays.asList(inventor1, inventor3), player.getFreeInventors());
+        assertSame(player.getFreeInventors(), player.getFreeInventors());
+
+        inventor2.makeAvailable();
+
+        assertEquals(0, player.getBusyMask());
+        assertEquals(3, player.getFreeInventors().size());
+        assertTrue(player.getBusyInventors().isEmpty());
+    }
+
+    @Test
+    public void serializePlayerFields() throws Exception
+    {
+        Gson gson = new Gson();
+        Player player = new Player("Joueur", UUID.randomUUID(), 1);
+        player.addAllInventors(Arrays.asList(new Inventor("Inventeur1", new Knowledges(1, 0, 0, 0), Team.Rouge),
+                new Inventor("Inventeur2", new Knowledges(0, 1, 0, 0), Team.Rouge)));
+        player.getInventor(1).makeBusy();
+        player.addCompletedInvention(new Invention("Invention", new Knowledges(1, 1, 1, 1), 1));
+        player.addReward(new Reward(RewardType.VICTORY, 2));
+        player.giveTrophy();
+
+        Player decodedPlayer = gson.fromJson(gson.toJson(player), Player.class);
+
+        assertEquals("Joueur", decodedPlayer.getName());
+        assertEquals(player.getUUID(), decodedPlayer.getUUID());
+        assertEquals(1, decodedPlayer.getSeat());
+        assertEquals(2, decodedPlayer.getInventors().size());
+        assertEquals(0b10, decodedPlayer.getBusyMask());
+        assertEquals("Invention", decodedPlayer.getCompletedInventions().get(0).getName());
+        assertEquals(player.getVictoryPoints(), decodedPlayer.getVictoryPoints());
+        assertTrue(decodedPlayer.hasLeonardoDaVinciTrophy());
+    }
 }
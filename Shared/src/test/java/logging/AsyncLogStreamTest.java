@@ -0,0 +1,139 @@
+package logging;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test de la classe "AsyncLogStream"
+ * @author Noé Mourton-Comte
+ */
+public class AsyncLogStreamTest
+{
+    @Test
+    public void linesAreWrittenInOrder() throws Exception
+    {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        AsyncLogStream asyncLogStream = new AsyncLogStream(target, 16, LogDropPolicy.BLOCK);
+        PrintStream printStream = new PrintStream(asyncLogStream, true, "UTF-8");
+
+        StringBuilder expected = new StringBuilder();
+        for(int i = 0; i < 100; i++)
+        {
+            printStream.println("ligne " + i);
+            expected.append("ligne ").append(i).append(System.lineSeparator());
+        }
+        printStream.print("ligne partielle");
+        printStream.close();
+
+        expected.append("ligne partielle");
+        assertEquals(expected.toString(), new String(target.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(0, asyncLogStream.getPendingLinesCount());
+    }
+
+    @Test
+    public void linesAreDroppedWhenFull() throws Exception
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        //Le flux cible bloque jusqu'à ce que le test le libère : la file se remplit
+        OutputStream blockedTarget = new OutputStream()
+        {
+            @Override
+            public void write(int b) throws java.io.IOException
+            {
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException ex)
+                {
+                    throw new java.io.IOException(ex);
+                }
+                written.write(b);
+            }
+        };
+
+        AsyncLogStream asyncLogStream = new AsyncLogStream(blockedTarget, 2, LogDropPolicy.DROP);
+        for(int i = 0; i < 10; i++)
+            asyncLogStream.write(("[main] INFO Test - ligne " + i + "\n").getBytes(StandardCharsets.UTF_8));
+
+        //Au plus une ligne en cours d'écriture et deux lignes en file, les autres sont abandonnées
+        assertTrue(asyncLogStream.getPendingLinesCount() <= 3);
+        assertTrue(asyncLogStream.getDroppedLinesCount() >= 7);
+
+        release.countDown();
+        asyncLogStream.close();
+
+        String output = new String(written.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(output.startsWith("[main] INFO Test - ligne 0\n"));
+        assertTrue(output.contains("[async-log]"));
+    }
+
+    @Test
+    public void errorsAndStackTracesAreNeverDropped() throws Exception
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        OutputStream blockedTarget = new OutputStream()
+        {
+            @Override
+            public void write(int b) throws java.io.IOException
+            {
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException ex)
+                {
+                    throw new java.io.IOException(ex);
+                }
+                written.write(b);
+            }
+        };
+
+        AsyncLogStream asyncLogStream = new AsyncLogStream(blockedTarget, 2, LogDropPolicy.DROP);
+
+        //La file est pleine : les erreurs et les piles d'appels attendent une place au lieu d'être abandonnées
+        PrintStream printStream = new PrintStream(asyncLogStream, false, "UTF-8");
+        Thread producer = new Thread(() ->
+        {
+            for(int i = 0; i < 3; i++)
+                printStream.print("[main] INFO Test - ligne " + i + "\n");
+
+            printStream.print("[main] ERROR Test - erreur\n");
+            printStream.print("java.lang.IllegalStateException: erreur\n\tat Test.main(Test.java:1)\n");
+            printStream.flush();
+        });
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive());
+
+        release.countDown();
+        producer.join(5000);
+        asyncLogStream.close();
+
+        String output = new String(written.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(output.contains("[main] ERROR Test - erreur\n"));
+        assertTrue(output.contains("java.lang.IllegalStateException: erreur\n\tat Test.main(Test.java:1)\n"));
+    }
+
+    @Test
+    public void onlyLowLevelLinesAreDroppable()
+    {
+        assertTrue(AsyncLogStream.isDroppable("[main] INFO engine.Game - Exécution du tour n°1...\n".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(AsyncLogStream.isDroppable("[worker-1] DEBUG engine.Game - détail\n".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(AsyncLogStream.isDroppable("[main] WARN engine.Game - avertissement\n".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(AsyncLogStream.isDroppable("[main] ERROR engine.Game - erreur\n".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(AsyncLogStream.isDroppable("\tat engine.Game.play(Game.java:42)\n".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(AsyncLogStream.isDroppable("Exception in thread \"main\" java.lang.OutOfMemoryError\n".getBytes(StandardCharsets.UTF_8)));
+    }
+}
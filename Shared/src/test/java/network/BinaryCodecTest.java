@@ -0,0 +1,157 @@
+package network;
+
+import engine.core.Invention;
+import engine.core.Inventor;
+import engine.core.Knowledges;
+import engine.core.Team;
+import engine.core.rewards.Reward;
+import engine.core.rewards.RewardType;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe destinée à tester la classe "BinaryCodec".
+ * @author Noé Mourton-Comte
+ */
+public class BinaryCodecTest
+{
+    @Test
+    public void packKnowledges()
+    {
+        Knowledges knowledges = new Knowledges(1, 15, 0, 7);
+
+        assertTrue(BinaryCodec.unpackKnowledges(BinaryCodec.packKnowledges(knowledges)).equals(knowledges));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void packTooLargeKnowledges()
+    {
+        BinaryCodec.packKnowledges(new Knowledges(16, 0, 0, 0));
+    }
+
+    @Test
+    public void packAction()
+    {
+        int packedAction = BinaryCodec.packAction(ProtocolTypes.WorkAction, 3, 4);
+
+        assertEquals(ProtocolTypes.WorkAction, BinaryCodec.unpackActionType(packedAction));
+        assertEquals(3, BinaryCodec.unpackActionInventor(packedAction));
+        assertEquals(4, BinaryCodec.unpackActionInvention(packedAction));
+    }
+
+    @Test
+    public void packActionWithLargeIds()
+    {
+        int packedAction = BinaryCodec.packAction(ProtocolTypes.WorkAction, 200, BinaryCodec.MAX_ACTION_ID);
+
+        assertEquals(ProtocolTypes.WorkAction, BinaryCodec.unpackActionType(packedAction));
+        assertEquals(200, BinaryCodec.unpackActionInventor(packedAction));
+        assertEquals(BinaryCodec.MAX_ACTION_ID, BinaryCodec.unpackActionInvention(packedAction));
+
+        packedAction = BinaryCodec.packAction(ProtocolTypes.MakeAvailableAction, Inventor.NO_ID, Invention.NO_ID);
+
+        assertEquals(ProtocolTypes.MakeAvailableAction, BinaryCodec.unpackActionType(packedAction));
+        assertEquals(Inventor.NO_ID, BinaryCodec.unpackActionInventor(packedAction));
+        assertEquals(Invention.NO_ID, BinaryCodec.unpackActionInvention(packedAction));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void packActionWithTooLargeId()
+    {
+        BinaryCodec.packAction(ProtocolTypes.WorkAction, BinaryCodec.MAX_ACTION_ID + 1, 0);
+    }
+
+    @Test
+    public void encodeInventors() throws Exception
+    {
+        UUID playerId = new UUID(1, 2);
+
+        Inventor busyInventor = new Inventor(5, "Inventeur1", new Knowledges(1, 0, 2, 0), Team.Vert);
+        busyInventor.makeBusy();
+
+        HashMap<UUID, List<Inventor>> inventors = new HashMap<>();
+        inventors.put(playerId, Arrays.asList(busyInventor, new Inventor("Inventeur2", new Knowledges(0, 1, 0, 1), Team.Vert)));
+
+        HashMap<UUID, List<Inventor>> decodedInventors = BinaryCodec.decodeInventors(BinaryCodec.encodeInventors(inventors));
+
+        assertEquals(1, decodedInventors.size());
+        assertEquals(2, decodedInventors.get(playerId).size());
+        assertEquals(5, decodedInventors.get(playerId).get(0).getId());
+        assertEquals(Inventor.NO_ID, decodedInventors.get(playerId).get(1).getId());
+        assertEquals("Inventeur1", decodedInventors.get(playerId).get(0).getName());
+        assertEquals(Team.Vert, decodedInventors.get(playerId).get(0).getTeam());
+        assertTrue(decodedInventors.get(playerId).get(0).getKnowledges().equals(new Knowledges(1, 0, 2, 0)));
+        assertTrue(decodedInventors.get(playerId).get(0).isBusy());
+        assertFalse(decodedInventors.get(playerId).get(1).isBusy());
+    }
+
+    @Test
+    public void encodeLargeIds() throws IOException
+    {
+        UUID playerId = new UUID(1, 2);
+
+        HashMap<UUID, List<Inventor>> inventors = new HashMap<>();
+        inventors.put(playerId, Arrays.asList(new Inventor(128, "Inventeur1", new Knowledges(1, 0, 0, 0), Team.Vert),
+                new Inventor(300, "Inventeur2", new Knowledges(0, 1, 0, 0), Team.Vert)));
+        Invention invention = new Invention(BinaryCodec.MAX_ID, "Téléphone", new Knowledges(1, 1, 1, 1), 1);
+
+        List<Inventor> decodedInventors = BinaryCodec.decodeInventors(BinaryCodec.encodeInventors(inventors)).get(playerId);
+        ArrayList<Invention> decodedInventions = BinaryCodec.decodeInventions(BinaryCodec.encodeInventions(Collections.singletonList(invention)));
+
+        assertEquals(128, decodedInventors.get(0).getId());
+        assertEquals(300, decodedInventors.get(1).getId());
+        assertEquals(BinaryCodec.MAX_ID, decodedInventions.get(0).getId());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void encodeTooLargeId() throws IOException
+    {
+        Invention invention = new Invention(BinaryCodec.MAX_ID + 1, "Téléphone", new Knowledges(1, 1, 1, 1), 1);
+
+        BinaryCodec.encodeInventions(Collections.singletonList(invention));
+    }
+
+    @Test
+    public void encodeInventions() throws IOException
+    {
+        UUID playerId = new UUID(1, 2);
+
+        Invention invention = new Invention(14, "Téléphone", new Knowledges(3, 1, 2, 3), 3);
+        invention.getActualKnowledges().modPhys(2);
+        invention.addContribution(playerId, 2);
+        invention.addReward(new Reward(RewardType.VICTORY, 2));
+
+        ArrayList<Invention> decodedInventions = BinaryCodec.decodeInventions(BinaryCodec.encodeInventions(Collections.singletonList(invention)));
+        Invention decodedInvention = decodedInventions.get(0);
+
+        assertEquals(1, decodedInventions.size());
+        assertEquals(14, decodedInvention.getId());
+        assertEquals("Téléphone", decodedInvention.getName());
+        assertEquals(3, decodedInvention.getEra());
+        assertTrue(decodedInvention.getRequiredKnowledges().equals(new Knowledges(3, 1, 2, 3)));
+        assertTrue(decodedInvention.getActualKnowledges().equals(new Knowledges(2, 0, 0, 0)));
+        assertEquals(2, decodedInvention.getContributions().get(playerId).intValue());
+        assertEquals(2, decodedInvention.getRewards().size());
+        assertEquals(RewardType.CARD, decodedInvention.getRewards().get(0).getType());
+        assertEquals(invention.getRewards().get(0).getValue(), decodedInvention.getRewards().get(0).getValue());
+        assertEquals(2, decodedInvention.getRewards().get(1).getValue());
+    }
+
+    @Test
+    public void encodeRewards() throws IOException
+    {
+        List<Reward> rewards = Arrays.asList(new Reward(RewardType.CARD, 5), new Reward(RewardType.VICTORY, 1));
+
+        ArrayList<Reward> decodedRewards = BinaryCodec.decodeRewards(BinaryCodec.encodeRewards(rewards));
+
+        assertEquals(2, decodedRewards.size());
+        assertEquals(RewardType.CARD, decodedRewards.get(0).getType());
+        assertEquals(5, decodedRewards.get(0).getValue());
+        assertEquals(RewardType.VICTORY, decodedRewards.get(1).getType());
+        assertEquals(1, decodedRewards.get(1).getValue());
+    }
+}
@@ -0,0 +1,62 @@
+package console;
+
+import engine.ai.strategies.RandomStrategy;
+import engine.ai.strategies.Strategy;
+import engine.ai.strategies.VictoryPointsStrategy;
+import logging.AsyncLogStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import simulation.SimulationReport;
+import simulation.Simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Point d'entrée du simulateur.
+ * Arguments : [nombre de parties] [nombre de threads] [stratégie...]
+ */
+public class SimulationMain
+{
+    static
+    {
+        //Les logs sont écrits par un thread dédié, avant la création du premier logger
+        AsyncLogStream.install();
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationMain.class);
+
+    @SuppressWarnings("unchecked")
+    public static void main(String[] args)
+    {
+        try
+        {
+            System.out.println("-----------------------------");
+            System.out.println("ProjectInventors - Simulation");
+            System.out.println("-----------------------------");
+
+            long gamesCount = args.length > 0 ? Long.parseLong(args[0]) : 100000;
+            int threadsCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+            List<Class<? extends Strategy>> strategies = new ArrayList<>();
+            for(int i = 2; i < args.length; i++)
+            {
+                strategies.add((Class<? extends Strategy>) Class.forName(args[i]).asSubclass(Strategy.class));
+            }
+
+            if(strategies.isEmpty())
+            {
+                strategies.add(RandomStrategy.class);
+                strategies.add(VictoryPointsStrategy.class);
+            }
+
+            SimulationReport report = new Simulator(strategies).run(gamesCount, threadsCount);
+            System.out.print(report);
+        }
+        catch (Exception ex)
+        {
+            log.error(ex.getMessage());
+            ex.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package console;
+
+import engine.ai.strategies.RandomStrategy;
+import engine.ai.strategies.StealStrategy;
+import engine.ai.strategies.Strategy;
+import engine.ai.strategies.VictoryPointsStrategy;
+import logging.AsyncLogStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import simulation.Tournament;
+import simulation.TournamentReport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Point d'entrée du tournoi entre stratégies.
+ * Arguments : [nombre de parties par paire de stratégies] [nombre de threads] [stratégie...]
+ */
+public class TournamentMain
+{
+    static
+    {
+        //Les logs sont écrits par un thread dédié, avant la création du premier logger
+        AsyncLogStream.install();
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(TournamentMain.class);
+
+    @SuppressWarnings("unchecked")
+    public static void main(String[] args)
+    {
+        try
+        {
+            System.out.println("---------------------------");
+            System.out.println("ProjectInventors - Tournoi");
+            System.out.println("---------------------------");
+
+            long gamesPerPairing = args.length > 0 ? Long.parseLong(args[0]) : 100000;
+            int threadsCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+            List<Class<? extends Strategy>> entrants = new ArrayList<>();
+            for(int i = 2; i < args.length; i++)
+            {
+                entrants.add((Class<? extends Strategy>) Class.forName(args[i]).asSubclass(Strategy.class));
+            }
+
+            if(entrants.isEmpty())
+            {
+                entrants.add(RandomStrategy.class);
+                entrants.add(VictoryPointsStrategy.class);
+                entrants.add(StealStrategy.class);
+            }
+
+            TournamentReport report = new Tournament(entrants).run(gamesPerPairing, threadsCount);
+            System.out.print(report);
+        }
+        catch (Exception ex)
+        {
+            log.error(ex.getMessage());
+            ex.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package simulation;
+
+import com.corundumstudio.socketio.AckCallback;
+import engine.Game;
+import engine.ai.strategies.Strategy;
+import engine.ai.strategies.providers.InventionProvider;
+import engine.ai.strategies.providers.OpponentsProvider;
+import engine.ai.strategies.providers.UUIDProvider;
+import engine.core.Invention;
+import engine.core.Inventor;
+import engine.core.Player;
+import engine.core.rewards.Reward;
+import network.BinaryCodec;
+import network.GameClient;
+import network.ProtocolMessages;
+import network.callbacks.ActionAckCallback;
+import network.callbacks.RewardAckCallback;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classe représentant un joueur artificiel exécuté dans le même processus que la partie.
+ * Les demandes de la partie sont transmises directement à la stratégie, qui travaille sur les objets de la partie :
+ * aucune sérialisation, aucun socket et aucune attente.
+ * @author Noé Mourton-Comte
+ */
+public class LocalGameClient implements GameClient, UUIDProvider, InventionProvider, OpponentsProvider
+{
+    private static final AtomicLong nextSessionId = new AtomicLong();
+
+    private final UUID sessionId;
+    private final Class<? extends Strategy> strategyType;
+
+    private Game game;
+    private Player player;
+    private Strategy strategy;
+
+    private boolean isKicked;
+    private boolean isWinner;
+
+    public LocalGameClient(Class<? extends Strategy> strategyType)
+    {
+        this.sessionId = new UUID(0, nextSessionId.incrementAndGet());
+        this.strategyType = strategyType;
+    }
+
+    /**
+     * Méthode permettant d'associer le client à sa partie et d'initialiser sa stratégie
+     * @param game partie à laquelle le client participe
+     */
+    public void bind(Game game) throws ReflectiveOperationException
+    {
+        this.game = game;
+        this.player = game.getPlayers().get(this);
+
+        Constructor<? extends Strategy> ctor = this.strategyType.getConstructor(Player.class, UUIDProvider.class, InventionProvider.class);
+        this.strategy = ctor.newInstance(this.player, this, this);
+    }
+
+    @Override
+    public void sendEvent(String eventName, Object... params)
+    {
+        //Les messages d'information et de synchronisation sont inutiles : la stratégie lit directement l'état de la partie
+        if(ProtocolMessages.KickedMessage.name().equals(eventName))
+            this.isKicked = true;
+        else if(ProtocolMessages.GameEndedMessage.name().equals(eventName))
+            this.isWinner = (boolean) params[0];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sendEvent(String eventName, AckCallback<?> ackCallback, Object... params)
+    {
+        try
+        {
+            if(ProtocolMessages.TurnStartedMessage.name().equals(eventName))
+            {
+                ((ActionAckCallback) ackCallback).onPackedSuccess(BinaryCodec.packAction(this.strategy.determinateAction()));
+            }
+            else if(ProtocolMessages.RewardMessage.name().equals(eventName))
+            {
+                List<Reward> rewards = (List<Reward>) params[0];
+                ArrayList<Reward> availableRewards = rewards instanceof ArrayList ? (ArrayList<Reward>) rewards : new ArrayList<>(rewards);
+
+                ((RewardAckCallback) ackCallback).onSuccess(this.strategy.determinateReward(availableRewards));
+            }
+        }
+        catch (RuntimeException ex)
+        {
+            //Une stratégie défaillante est traitée comme un joueur qui ne répond pas
+            ackCallback.onTimeout();
+        }
+    }
+
+    @Override
+    public void disconnect()
+    {
+        this.game = null;
+    }
+
+    @Override
+    public UUID getSessionId()
+    {
+        return this.sessionId;
+    }
+
+    @Override
+    public String getUUID()
+    {
+        return this.sessionId.toString();
+    }
+
+    @Override
+    public ArrayList<Invention> getInventions()
+    {
+        return this.game != null ? this.game.getInventionsList() : new ArrayList<>();
+    }
+
+    @Override
+    public Map<UUID, List<Inventor>> getOthersPlayersInventors()
+    {
+        Map<UUID, List<Inventor>> othersPlayersInventors = new HashMap<>();
+
+        if(this.game != null)
+        {
+            for(Map.Entry<GameClient, Player> playerEntry : this.game.getPlayers().entrySet())
+            {
+                if(playerEntry.getKey() != this)
+                    othersPlayersInventors.put(playerEntry.getValue().getUUID(), playerEntry.getValue().getInventors());
+            }
+        }
+
+        return othersPlayersInventors;
+    }
+
+    /**
+     * Fonction permettant de récupérer le type de stratégie du client
+     */
+    public Class<? extends Strategy> getStrategyType()
+    {
+        return this.strategyType;
+    }
+
+    /**
+     * Fonction permettant de récupérer le joueur associé au client dans la partie
+     */
+    public Player getPlayer()
+    {
+        return this.player;
+    }
+
+    /**
+     * Fonction permettant de savoir si le client a été expulsé de la partie
+     */
+    public boolean isKicked()
+    {
+        return this.isKicked;
+    }
+
+    /**
+     * Fonction permettant de savoir si le client a remporté la partie
+     */
+    public boolean isWinner()
+    {
+        return this.isWinner;
+    }
+}
@@ -0,0 +1,183 @@
+package simulation;
+
+import engine.ai.strategies.Strategy;
+
+import java.util.List;
+
+/**
+ * Classe regroupant les statistiques d'une série de parties simulées.
+ * Un rapport n'est pas partagé entre plusieurs threads : chaque travailleur remplit le sien, puis les rapports sont fusionnés.
+ * @author Noé Mourton-Comte
+ */
+public class SimulationReport
+{
+    private final List<Class<? extends Strategy>> strategies;
+
+    private long gamesCount;
+    private long failedGamesCount;
+    private long drawGamesCount;
+    private long turnsCount;
+
+    private final long[] wins;
+    private final long[] victoryPoints;
+    private final long[] kicks;
+
+    private long elapsedTime;
+
+    SimulationReport(List<Class<? extends Strategy>> strategies)
+    {
+        this.strategies = strategies;
+
+        this.wins = new long[strategies.size()];
+        this.victoryPoints = new long[strategies.size()];
+        this.kicks = new long[strategies.size()];
+    }
+
+    /**
+     * Méthode permettant d'ajouter le résultat d'une partie au rapport
+     * @param result résultat de la partie
+     */
+    void add(SimulationResult result)
+    {
+        this.gamesCount++;
+        this.turnsCount += result.getTurns();
+
+        if(result.getWinnerSeat() >= 0)
+            this.wins[result.getWinnerSeat()]++;
+        else
+            this.drawGamesCount++;
+
+        for(int seat = 0; seat < this.strategies.size(); seat++)
+        {
+            this.victoryPoints[seat] += result.getVictoryPoints(seat);
+
+            if(result.isKicked(seat))
+                this.kicks[seat]++;
+        }
+    }
+
+    /**
+     * Méthode permettant de comptabiliser une partie qui n'a pas pu être jouée jusqu'à son terme
+     */
+    void addFailure()
+    {
+        this.failedGamesCount++;
+    }
+
+    /**
+     * Méthode permettant de fusionner un autre rapport dans celui-ci
+     * @param report rapport à fusionner
+     */
+    void merge(SimulationReport report)
+    {
+        this.gamesCount += report.gamesCount;
+        this.failedGamesCount += report.failedGamesCount;
+        this.drawGamesCount += report.drawGamesCount;
+        this.turnsCount += report.turnsCount;
+
+        for(int seat = 0; seat < this.strategies.size(); seat++)
+        {
+            this.wins[seat] += report.wins[seat];
+            this.victoryPoints[seat] += report.victoryPoints[seat];
+            this.kicks[seat] += report.kicks[seat];
+        }
+    }
+
+    void setElapsedTime(long elapsedTime)
+    {
+        this.elapsedTime = elapsedTime;
+    }
+
+    public List<Class<? extends Strategy>> getStrategies()
+    {
+        return this.strategies;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de parties jouées jusqu'à leur terme
+     */
+    public long getGamesCount()
+    {
+        return this.gamesCount;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de parties terminées sur une erreur
+     */
+    public long getFailedGamesCount()
+    {
+        return this.failedGamesCount;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de parties sans gagnant
+     */
+    public long getDrawGamesCount()
+    {
+        return this.drawGamesCount;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre total de tours joués
+     */
+    public long getTurnsCount()
+    {
+        return this.turnsCount;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de victoires d'un joueur
+     * @param seat place du joueur
+     */
+    public long getWins(int seat)
+    {
+        return this.wins[seat];
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre total de points d'un joueur
+     * @param seat place du joueur
+     */
+    public long getVictoryPoints(int seat)
+    {
+        return this.victoryPoints[seat];
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre d'expulsions d'un joueur
+     * @param seat place du joueur
+     */
+    public long getKicks(int seat)
+    {
+        return this.kicks[seat];
+    }
+
+    /**
+     * Fonction permettant de récupérer la durée de la simulation (en millisecondes)
+     */
+    public long getElapsedTime()
+    {
+        return this.elapsedTime;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append(String.format("%d partie(s) jouée(s) en %d ms (%d échec(s), %d sans gagnant, %.1f tour(s) par partie)%n",
+                this.gamesCount, this.elapsedTime, this.failedGamesCount, this.drawGamesCount,
+                this.gamesCount > 0 ? (double) this.turnsCount / this.gamesCount : 0.0));
+
+        for(int seat = 0; seat < this.strategies.size(); seat++)
+        {
+            builder.append(String.format("  [%d] %s : %d victoire(s) (%.1f%%), %.2f point(s) par partie, %d expulsion(s)%n",
+                    seat, this.strategies.get(seat).getSimpleName(), this.wins[seat],
+                    this.gamesCount > 0 ? 100.0 * this.wins[seat] / this.gamesCount : 0.0,
+                    this.gamesCount > 0 ? (double) this.victoryPoints[seat] / this.gamesCount : 0.0,
+                    this.kicks[seat]));
+        }
+
+        return builder.toString();
+    }
+}
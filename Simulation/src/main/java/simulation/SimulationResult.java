@@ -0,0 +1,70 @@
+package simulation;
+
+import engine.ai.strategies.Strategy;
+
+import java.util.List;
+
+/**
+ * Classe représentant le résultat d'une partie simulée.
+ * Les joueurs sont désignés par leur place, c'est-à-dire leur position dans la liste des stratégies de la simulation.
+ * @author Noé Mourton-Comte
+ */
+public class SimulationResult
+{
+    private final List<Class<? extends Strategy>> strategies;
+    private final int[] victoryPoints;
+    private final boolean[] kicked;
+    private final int winnerSeat;
+    private final int turns;
+
+    SimulationResult(List<Class<? extends Strategy>> strategies, int[] victoryPoints, boolean[] kicked, int winnerSeat, int turns)
+    {
+        this.strategies = strategies;
+        this.victoryPoints = victoryPoints;
+        this.kicked = kicked;
+        this.winnerSeat = winnerSeat;
+        this.turns = turns;
+    }
+
+    /**
+     * Fonction permettant de récupérer les stratégies des joueurs, par place
+     */
+    public List<Class<? extends Strategy>> getStrategies()
+    {
+        return this.strategies;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de points d'un joueur
+     * @param seat place du joueur
+     */
+    public int getVictoryPoints(int seat)
+    {
+        return this.victoryPoints[seat];
+    }
+
+    /**
+     * Fonction permettant de savoir si un joueur a été expulsé de la partie
+     * @param seat place du joueur
+     */
+    public boolean isKicked(int seat)
+    {
+        return this.kicked[seat];
+    }
+
+    /**
+     * Fonction permettant de récupérer la place du gagnant, -1 si aucun gagnant n'a pu être déterminé
+     */
+    public int getWinnerSeat()
+    {
+        return this.winnerSeat;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de tours joués
+     */
+    public int getTurns()
+    {
+        return this.turns;
+    }
+}
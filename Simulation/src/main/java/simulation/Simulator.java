@@ -0,0 +1,194 @@
+package simulation;
+
+import engine.Game;
+import engine.ai.strategies.Strategy;
+import network.GameClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Classe permettant de simuler des parties entre intelligences artificielles, sans serveur ni socket.
+ * Les parties sont jouées avec les règles de la classe Game : chaque partie est exécutée du début à la fin sur le thread
+ * appelant, les joueurs répondant immédiatement aux demandes de la partie.
+ * @author Noé Mourton-Comte
+ */
+public class Simulator
+{
+    private static final Logger log = LoggerFactory.getLogger(Simulator.class);
+
+    private final List<Class<? extends Strategy>> strategies;
+    private final int maxTurns;
+
+    public Simulator(List<Class<? extends Strategy>> strategies)
+    {
+        this(strategies, Game.DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Constructeur du simulateur
+     * @param strategies stratégies des joueurs, une par place
+     * @param maxTurns nombre maximum de tours par partie
+     */
+    public Simulator(List<Class<? extends Strategy>> strategies, int maxTurns)
+    {
+        this.strategies = new ArrayList<>(strategies);
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Fonction permettant de jouer une partie
+     * @return résultat de la partie
+     */
+    public SimulationResult play() throws Exception
+    {
+        return play(this.strategies, this.maxTurns);
+    }
+
+    /**
+     * Fonction permettant de jouer une partie entre des stratégies données
+     * @param strategies stratégies des joueurs, une par place
+     * @param maxTurns nombre maximum de tours de la partie
+     * @return résultat de la partie
+     */
+    static SimulationResult play(List<Class<? extends Strategy>> strategies, int maxTurns) throws Exception
+    {
+        List<LocalGameClient> clients = new ArrayList<>(strategies.size());
+        for(Class<? extends Strategy> strategyType : strategies)
+        {
+            clients.add(new LocalGameClient(strategyType));
+        }
+
+        //Les réponses des joueurs sont traitées sur le thread courant
+        Game game = new Game(new ArrayList<GameClient>(clients), Runnable::run, maxTurns);
+
+        for(LocalGameClient client : clients)
+        {
+            client.bind(game);
+        }
+
+        game.init();
+        game.play();
+
+        int[] victoryPoints = new int[clients.size()];
+        boolean[] kicked = new boolean[clients.size()];
+
+        for(int seat = 0; seat < clients.size(); seat++)
+        {
+            LocalGameClient client = clients.get(seat);
+
+            victoryPoints[seat] = game.getPlayerVictoryPoint(client.getPlayer());
+            kicked[seat] = client.isKicked();
+        }
+
+        return new SimulationResult(strategies, victoryPoints, kicked, determinateWinnerSeat(victoryPoints, kicked),
+                game.getTurn());
+    }
+
+    /**
+     * Fonction permettant de déterminer le gagnant d'une partie à partir des scores des joueurs non expulsés.
+     * Comme dans la classe Game, le dernier joueur restant gagne ; sinon le gagnant doit avoir strictement plus de points
+     * que tous les autres : une égalité en tête, ou une partie où personne n'a marqué, est un match nul.
+     * @param victoryPoints points de chaque place
+     * @param kicked vrai pour les places expulsées
+     * @return la place du gagnant, ou -1 en cas de match nul
+     */
+    static int determinateWinnerSeat(int[] victoryPoints, boolean[] kicked)
+    {
+        int winnerSeat = -1;
+        int remainingPlayers = 0;
+        int maxVictoryPoints = 0;
+        boolean isTied = false;
+
+        for(int seat = 0; seat < victoryPoints.length; seat++)
+        {
+            if(kicked[seat])
+                continue;
+
+            remainingPlayers++;
+
+            if(remainingPlayers == 1 || victoryPoints[seat] > maxVictoryPoints)
+            {
+                maxVictoryPoints = victoryPoints[seat];
+                winnerSeat = seat;
+                isTied = false;
+            }
+            else if(victoryPoints[seat] == maxVictoryPoints)
+            {
+                isTied = true;
+            }
+        }
+
+        if(remainingPlayers > 1 && (isTied || maxVictoryPoints <= 0))
+            return -1;
+
+        return winnerSeat;
+    }
+
+    /**
+     * Fonction permettant de jouer une série de parties, réparties sur plusieurs threads
+     * @param gamesCount nombre de parties à jouer
+     * @param threadsCount nombre de threads à utiliser
+     * @return statistiques des parties jouées
+     */
+    public SimulationReport run(long gamesCount, int threadsCount) throws InterruptedException, ExecutionException
+    {
+        long startTime = System.currentTimeMillis();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threadsCount);
+        List<Future<SimulationReport>> partialReports = new ArrayList<>(threadsCount);
+
+        try
+        {
+            for(int i = 0; i < threadsCount; i++)
+            {
+                //Répartition des parties entre les threads, les premiers jouent les parties restantes
+                long workerGamesCount = gamesCount / threadsCount + (i < gamesCount % threadsCount ? 1 : 0);
+                partialReports.add(workers.submit(() -> this.run(workerGamesCount)));
+            }
+
+            SimulationReport report = new SimulationReport(this.strategies);
+            for(Future<SimulationReport> partialReport : partialReports)
+            {
+                report.merge(partialReport.get());
+            }
+
+            report.setElapsedTime(System.currentTimeMillis() - startTime);
+            return report;
+        }
+        finally
+        {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Fonction permettant de jouer une série de parties sur le thread courant
+     * @param gamesCount nombre de parties à jouer
+     * @return statistiques des parties jouées
+     */
+    public SimulationReport run(long gamesCount)
+    {
+        long startTime = System.currentTimeMillis();
+        SimulationReport report = new SimulationReport(this.strategies);
+
+        for(long i = 0; i < gamesCount; i++)
+        {
+            try
+            {
+                report.add(this.play());
+            }
+            catch (Exception ex)
+            {
+                log.error("La partie simulée s'est terminée sur une erreur : {}", ex.getMessage());
+                report.addFailure();
+            }
+        }
+
+        report.setElapsedTime(System.currentTimeMillis() - startTime);
+        return report;
+    }
+}
@@ -0,0 +1,144 @@
+package simulation;
+
+import engine.Game;
+import engine.ai.strategies.Strategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classe permettant d'organiser un tournoi entre stratégies : chaque paire de stratégies s'affronte le même nombre de
+ * fois (toutes rondes), les places étant alternées d'une partie à l'autre.
+ * Les parties sont distribuées par lots aux travailleurs, un travailleur qui a terminé son lot en prend un nouveau :
+ * tous les cœurs restent occupés jusqu'à la fin du tournoi, quelle que soit la durée des parties.
+ * @author Noé Mourton-Comte
+ */
+public class Tournament
+{
+    private static final Logger log = LoggerFactory.getLogger(Tournament.class);
+
+    //Nombre de parties prises à la fois par un travailleur
+    public static final int GAMES_PER_BATCH = 256;
+
+    private final List<Class<? extends Strategy>> entrants;
+    private final int[][] pairings;
+    private final int maxTurns;
+
+    public Tournament(List<Class<? extends Strategy>> entrants)
+    {
+        this(entrants, Game.DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Constructeur du tournoi
+     * @param entrants stratégies participant au tournoi (une stratégie seule affronte elle-même)
+     * @param maxTurns nombre maximum de tours par partie
+     */
+    public Tournament(List<Class<? extends Strategy>> entrants, int maxTurns)
+    {
+        if(entrants.isEmpty())
+            throw new IllegalArgumentException("Un tournoi nécessite au moins une stratégie.");
+
+        this.entrants = new ArrayList<>(entrants);
+        this.maxTurns = maxTurns;
+
+        List<int[]> pairings = new ArrayList<>();
+        for(int first = 0; first < entrants.size(); first++)
+        {
+            for(int second = first + 1; second < entrants.size(); second++)
+                pairings.add(new int[] { first, second });
+        }
+
+        if(pairings.isEmpty())
+            pairings.add(new int[] { 0, 0 });
+
+        this.pairings = pairings.toArray(new int[pairings.size()][]);
+    }
+
+    /**
+     * Fonction permettant de jouer le tournoi
+     * @param gamesPerPairing nombre de parties jouées par chaque paire de stratégies
+     * @param threadsCount nombre de threads à utiliser
+     * @return statistiques du tournoi
+     */
+    public TournamentReport run(long gamesPerPairing, int threadsCount) throws InterruptedException, ExecutionException
+    {
+        long startTime = System.nanoTime();
+        long gamesCount = gamesPerPairing * this.pairings.length;
+        AtomicLong nextGame = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threadsCount);
+        List<Future<TournamentReport>> partialReports = new ArrayList<>(threadsCount);
+
+        try
+        {
+            for(int i = 0; i < threadsCount; i++)
+                partialReports.add(workers.submit(() -> this.runBatches(nextGame, gamesCount, gamesPerPairing)));
+
+            TournamentReport report = new TournamentReport(this.entrants, this.maxTurns);
+            for(Future<TournamentReport> partialReport : partialReports)
+                report.merge(partialReport.get());
+
+            report.setElapsedTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            return report;
+        }
+        finally
+        {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Fonction exécutée par un travailleur : les lots de parties sont pris jusqu'à la fin du tournoi
+     * @param nextGame numéro de la prochaine partie à jouer, partagé par les travailleurs
+     * @param gamesCount nombre total de parties du tournoi
+     * @param gamesPerPairing nombre de parties jouées par chaque paire de stratégies
+     * @return statistiques des parties jouées par ce travailleur
+     */
+    private TournamentReport runBatches(AtomicLong nextGame, long gamesCount, long gamesPerPairing)
+    {
+        TournamentReport report = new TournamentReport(this.entrants, this.maxTurns);
+        int[] entrantsBySeat = new int[2];
+
+        long firstGame;
+        while((firstGame = nextGame.getAndAdd(GAMES_PER_BATCH)) < gamesCount)
+        {
+            long lastGame = Math.min(firstGame + GAMES_PER_BATCH, gamesCount);
+
+            for(long gameNumber = firstGame; gameNumber < lastGame; gameNumber++)
+            {
+                //Les parties d'une paire se suivent, les places sont échangées une partie sur deux
+                int[] pairing = this.pairings[(int) (gameNumber / gamesPerPairing)];
+                boolean isSwapped = (gameNumber % gamesPerPairing) % 2 == 1;
+                entrantsBySeat[0] = isSwapped ? pairing[1] : pairing[0];
+                entrantsBySeat[1] = isSwapped ? pairing[0] : pairing[1];
+
+                try
+                {
+                    report.add(Simulator.play(Arrays.asList(this.entrants.get(entrantsBySeat[0]),
+                            this.entrants.get(entrantsBySeat[1])), this.maxTurns), entrantsBySeat);
+                }
+                catch (Exception ex)
+                {
+                    log.error("La partie du tournoi s'est terminée sur une erreur : {}", ex.getMessage());
+                    report.addFailure();
+                }
+            }
+        }
+
+        return report;
+    }
+
+    /**
+     * Fonction permettant de connaître le nombre de paires de stratégies qui s'affrontent
+     */
+    public int getPairingsCount()
+    {
+        return this.pairings.length;
+    }
+}
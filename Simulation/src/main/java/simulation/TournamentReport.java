@@ -0,0 +1,310 @@
+package simulation;
+
+import engine.ai.strategies.Strategy;
+
+import java.util.List;
+
+/**
+ * Classe regroupant les statistiques d'un tournoi.
+ * Les scores et les durées des parties sont conservés sous forme d'histogrammes, ce qui permet de calculer des
+ * centiles sans garder les parties en mémoire. Comme pour SimulationReport, chaque travailleur remplit son propre
+ * rapport, puis les rapports sont fusionnés.
+ * @author Noé Mourton-Comte
+ */
+public class TournamentReport
+{
+    //Les scores supérieurs sont comptabilisés dans la dernière case de l'histogramme
+    public static final int MAX_TRACKED_SCORE = 127;
+
+    private final List<Class<? extends Strategy>> entrants;
+
+    private long gamesCount;
+    private long failedGamesCount;
+    private long drawGamesCount;
+    private long turnsCount;
+
+    private final long[] gamesPlayed;
+    private final long[] wins;
+    private final long[] kicks;
+    private final long[] victoryPoints;
+    //Victoires de la stratégie en ligne contre la stratégie en colonne
+    private final long[][] headToHeadWins;
+    private final long[][] scoresHistograms;
+    private final long[] turnsHistogram;
+
+    private long elapsedTime;
+
+    TournamentReport(List<Class<? extends Strategy>> entrants, int maxTurns)
+    {
+        this.entrants = entrants;
+
+        this.gamesPlayed = new long[entrants.size()];
+        this.wins = new long[entrants.size()];
+        this.kicks = new long[entrants.size()];
+        this.victoryPoints = new long[entrants.size()];
+        this.headToHeadWins = new long[entrants.size()][entrants.size()];
+        this.scoresHistograms = new long[entrants.size()][MAX_TRACKED_SCORE + 1];
+        this.turnsHistogram = new long[maxTurns + 1];
+    }
+
+    /**
+     * Méthode permettant d'ajouter le résultat d'une partie au rapport
+     * @param result résultat de la partie
+     * @param entrantsBySeat position dans le tournoi de la stratégie de chaque place
+     */
+    void add(SimulationResult result, int[] entrantsBySeat)
+    {
+        this.gamesCount++;
+        this.turnsCount += result.getTurns();
+        this.turnsHistogram[Math.min(result.getTurns(), this.turnsHistogram.length - 1)]++;
+
+        if(result.getWinnerSeat() < 0)
+            this.drawGamesCount++;
+
+        for(int seat = 0; seat < entrantsBySeat.length; seat++)
+        {
+            int entrant = entrantsBySeat[seat];
+            int score = result.getVictoryPoints(seat);
+
+            this.gamesPlayed[entrant]++;
+            this.victoryPoints[entrant] += score;
+            this.scoresHistograms[entrant][Math.min(Math.max(score, 0), MAX_TRACKED_SCORE)]++;
+
+            if(result.isKicked(seat))
+                this.kicks[entrant]++;
+
+            if(seat == result.getWinnerSeat())
+            {
+                this.wins[entrant]++;
+
+                for(int otherSeat = 0; otherSeat < entrantsBySeat.length; otherSeat++)
+                {
+                    if(otherSeat != seat)
+                        this.headToHeadWins[entrant][entrantsBySeat[otherSeat]]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Méthode permettant de comptabiliser une partie qui n'a pas pu être jouée jusqu'à son terme
+     */
+    void addFailure()
+    {
+        this.failedGamesCount++;
+    }
+
+    /**
+     * Méthode permettant de fusionner un autre rapport dans celui-ci
+     * @param report rapport à fusionner
+     */
+    void merge(TournamentReport report)
+    {
+        this.gamesCount += report.gamesCount;
+        this.failedGamesCount += report.failedGamesCount;
+        this.drawGamesCount += report.drawGamesCount;
+        this.turnsCount += report.turnsCount;
+
+        for(int turns = 0; turns < this.turnsHistogram.length; turns++)
+            this.turnsHistogram[turns] += report.turnsHistogram[turns];
+
+        for(int entrant = 0; entrant < this.entrants.size(); entrant++)
+        {
+            this.gamesPlayed[entrant] += report.gamesPlayed[entrant];
+            this.wins[entrant] += report.wins[entrant];
+            this.kicks[entrant] += report.kicks[entrant];
+            this.victoryPoints[entrant] += report.victoryPoints[entrant];
+
+            for(int other = 0; other < this.entrants.size(); other++)
+                this.headToHeadWins[entrant][other] += report.headToHeadWins[entrant][other];
+
+            for(int score = 0; score <= MAX_TRACKED_SCORE; score++)
+                this.scoresHistograms[entrant][score] += report.scoresHistograms[entrant][score];
+        }
+    }
+
+    void setElapsedTime(long elapsedTime)
+    {
+        this.elapsedTime = elapsedTime;
+    }
+
+    /**
+     * Fonction permettant de calculer un centile à partir d'un histogramme
+     * @param histogram nombre d'occurrences de chaque valeur
+     * @param count nombre total d'occurrences
+     * @param percentile centile recherché (entre 0 et 100)
+     * @return plus petite valeur atteinte ou dépassée par le pourcentage demandé d'occurrences
+     */
+    private static int percentile(long[] histogram, long count, double percentile)
+    {
+        if(count == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long cumulated = 0;
+
+        for(int value = 0; value < histogram.length; value++)
+        {
+            cumulated += histogram[value];
+            if(cumulated >= rank)
+                return value;
+        }
+
+        return histogram.length - 1;
+    }
+
+    public List<Class<? extends Strategy>> getEntrants()
+    {
+        return this.entrants;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de parties jouées jusqu'à leur terme
+     */
+    public long getGamesCount()
+    {
+        return this.gamesCount;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de parties terminées sur une erreur
+     */
+    public long getFailedGamesCount()
+    {
+        return this.failedGamesCount;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de parties sans gagnant
+     */
+    public long getDrawGamesCount()
+    {
+        return this.drawGamesCount;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de parties jouées par une stratégie
+     * @param entrant position de la stratégie dans le tournoi
+     */
+    public long getGamesPlayed(int entrant)
+    {
+        return this.gamesPlayed[entrant];
+    }
+
+    public long getWins(int entrant)
+    {
+        return this.wins[entrant];
+    }
+
+    public long getKicks(int entrant)
+    {
+        return this.kicks[entrant];
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de victoires d'une stratégie contre une autre
+     * @param winner position de la stratégie gagnante
+     * @param loser position de la stratégie perdante
+     */
+    public long getHeadToHeadWins(int winner, int loser)
+    {
+        return this.headToHeadWins[winner][loser];
+    }
+
+    /**
+     * Fonction permettant de récupérer le taux de victoire d'une stratégie (entre 0 et 1)
+     * @param entrant position de la stratégie dans le tournoi
+     */
+    public double getWinRate(int entrant)
+    {
+        return this.gamesPlayed[entrant] > 0 ? (double) this.wins[entrant] / this.gamesPlayed[entrant] : 0.0;
+    }
+
+    /**
+     * Fonction permettant de récupérer le score moyen d'une stratégie
+     * @param entrant position de la stratégie dans le tournoi
+     */
+    public double getMeanVictoryPoints(int entrant)
+    {
+        return this.gamesPlayed[entrant] > 0 ? (double) this.victoryPoints[entrant] / this.gamesPlayed[entrant] : 0.0;
+    }
+
+    /**
+     * Fonction permettant de récupérer un centile des scores d'une stratégie
+     * @param entrant position de la stratégie dans le tournoi
+     * @param percentile centile recherché (entre 0 et 100)
+     */
+    public int getVictoryPointsPercentile(int entrant, double percentile)
+    {
+        return percentile(this.scoresHistograms[entrant], this.gamesPlayed[entrant], percentile);
+    }
+
+    /**
+     * Fonction permettant de récupérer la durée moyenne d'une partie (en tours)
+     */
+    public double getMeanTurns()
+    {
+        return this.gamesCount > 0 ? (double) this.turnsCount / this.gamesCount : 0.0;
+    }
+
+    /**
+     * Fonction permettant de récupérer un centile de la durée des parties (en tours)
+     * @param percentile centile recherché (entre 0 et 100)
+     */
+    public int getTurnsPercentile(double percentile)
+    {
+        return percentile(this.turnsHistogram, this.gamesCount, percentile);
+    }
+
+    /**
+     * Fonction permettant de récupérer la durée du tournoi (en millisecondes)
+     */
+    public long getElapsedTime()
+    {
+        return this.elapsedTime;
+    }
+
+    /**
+     * Fonction permettant de récupérer le nombre de parties jouées par seconde
+     */
+    public double getGamesPerSecond()
+    {
+        return this.elapsedTime > 0 ? this.gamesCount * 1000.0 / this.elapsedTime : 0.0;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append(String.format("%d partie(s) jouée(s) en %d ms (%.0f partie(s) par seconde, %d échec(s), %d sans gagnant)%n",
+                this.gamesCount, this.elapsedTime, this.getGamesPerSecond(), this.failedGamesCount, this.drawGamesCount));
+        builder.append(String.format("Durée des parties : %.1f tour(s) en moyenne, médiane %d, 90e centile %d, 99e centile %d%n",
+                this.getMeanTurns(), this.getTurnsPercentile(50), this.getTurnsPercentile(90), this.getTurnsPercentile(99)));
+
+        for(int entrant = 0; entrant < this.entrants.size(); entrant++)
+        {
+            builder.append(String.format("  [%d] %s : %d victoire(s) sur %d (%.1f%%), %.2f point(s) par partie " +
+                            "(médiane %d, 10e centile %d, 90e centile %d), %d expulsion(s)%n",
+                    entrant, this.entrants.get(entrant).getSimpleName(), this.wins[entrant], this.gamesPlayed[entrant],
+                    100.0 * this.getWinRate(entrant), this.getMeanVictoryPoints(entrant),
+                    this.getVictoryPointsPercentile(entrant, 50), this.getVictoryPointsPercentile(entrant, 10),
+                    this.getVictoryPointsPercentile(entrant, 90), this.kicks[entrant]));
+        }
+
+        if(this.entrants.size() > 1)
+        {
+            builder.append(String.format("Victoires (ligne contre colonne) :%n"));
+
+            for(int winner = 0; winner < this.entrants.size(); winner++)
+            {
+                builder.append(String.format("  [%d]", winner));
+                for(int loser = 0; loser < this.entrants.size(); loser++)
+                    builder.append(String.format(" %8d", this.headToHeadWins[winner][loser]));
+                builder.append(String.format("%n"));
+            }
+        }
+
+        return builder.toString();
+    }
+}
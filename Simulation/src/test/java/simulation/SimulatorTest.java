@@ -0,0 +1,60 @@
+package simulation;
+
+import engine.ai.strategies.RandomStrategy;
+import engine.ai.strategies.Strategy;
+import engine.ai.strategies.VictoryPointsStrategy;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe destinée à tester la classe "Simulator".
+ * @author Noé Mourton-Comte
+ */
+public class SimulatorTest
+{
+    private List<Class<? extends Strategy>> strategies;
+
+    @Before
+    public void init()
+    {
+        this.strategies = new ArrayList<>();
+        this.strategies.add(RandomStrategy.class);
+        this.strategies.add(VictoryPointsStrategy.class);
+    }
+
+    @Test
+    public void playGameToTheEnd() throws Exception
+    {
+        SimulationResult result = new Simulator(this.strategies).play();
+
+        assertTrue(result.getTurns() > 0);
+        assertTrue(result.getWinnerSeat() >= 0);
+
+        //Le gagnant a au moins autant de points que son adversaire
+        int winnerSeat = result.getWinnerSeat();
+        assertTrue(result.getVictoryPoints(winnerSeat) >= result.getVictoryPoints(1 - winnerSeat));
+    }
+
+    @Test
+    public void stopGameAtMaxTurns() throws Exception
+    {
+        SimulationResult result = new Simulator(this.strategies, 3).play();
+
+        assertEquals(3, result.getTurns());
+    }
+
+    @Test
+    public void runGamesOnSeveralThreads() throws Exception
+    {
+        SimulationReport report = new Simulator(this.strategies).run(50, 2);
+
+        assertEquals(50, report.getGamesCount());
+        assertEquals(0, report.getFailedGamesCount());
+        assertEquals(50, report.getWins(0) + report.getWins(1) + report.getDrawGamesCount());
+    }
+}
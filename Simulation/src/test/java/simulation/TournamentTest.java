@@ -0,0 +1,86 @@
+package simulation;
+
+import engine.ai.strategies.RandomStrategy;
+import engine.ai.strategies.StealStrategy;
+import engine.ai.strategies.Strategy;
+import engine.ai.strategies.VictoryPointsStrategy;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe destinée à tester la classe "Tournament".
+ * @author Noé Mourton-Comte
+ */
+public class TournamentTest
+{
+    @Test
+    public void everyPairingPlaysItsGames() throws Exception
+    {
+        List<Class<? extends Strategy>> entrants = Arrays.asList(RandomStrategy.class, VictoryPointsStrategy.class, StealStrategy.class);
+        Tournament tournament = new Tournament(entrants);
+
+        TournamentReport report = tournament.run(20, 3);
+
+        assertEquals(3, tournament.getPairingsCount());
+        assertEquals(60, report.getGamesCount() + report.getFailedGamesCount());
+
+        //Chaque stratégie participe à deux paires
+        for(int entrant = 0; entrant < entrants.size(); entrant++)
+            assertEquals(40, report.getGamesPlayed(entrant));
+
+        long wins = 0;
+        for(int entrant = 0; entrant < entrants.size(); entrant++)
+        {
+            wins += report.getWins(entrant);
+            assertTrue(report.getVictoryPointsPercentile(entrant, 10) <= report.getVictoryPointsPercentile(entrant, 90));
+            assertEquals(0, report.getHeadToHeadWins(entrant, entrant));
+        }
+        assertEquals(report.getGamesCount(), wins + report.getDrawGamesCount());
+
+        assertTrue(report.getMeanTurns() > 0);
+        assertTrue(report.getTurnsPercentile(50) <= report.getTurnsPercentile(99));
+    }
+
+    @Test
+    public void singleEntrantPlaysItself() throws Exception
+    {
+        Tournament tournament = new Tournament(Collections.<Class<? extends Strategy>>singletonList(RandomStrategy.class), 5);
+
+        TournamentReport report = tournament.run(10, 2);
+
+        assertEquals(1, tournament.getPairingsCount());
+        assertEquals(20, report.getGamesPlayed(0));
+        assertEquals(5, report.getTurnsPercentile(100));
+    }
+
+    @Test
+    public void tiedGamesAreDraws()
+    {
+        List<Class<? extends Strategy>> entrants = Arrays.asList(RandomStrategy.class, VictoryPointsStrategy.class);
+        TournamentReport report = new TournamentReport(entrants, 10);
+        int[] entrantsBySeat = { 0, 1 };
+
+        //Une égalité en tête est un match nul, quel que soit l'ordre des places
+        int[] tiedScores = { 3, 3 };
+        boolean[] noKicks = { false, false };
+        int winnerSeat = Simulator.determinateWinnerSeat(tiedScores, noKicks);
+        assertEquals(-1, winnerSeat);
+        report.add(new SimulationResult(entrants, tiedScores, noKicks, winnerSeat, 10), entrantsBySeat);
+
+        assertEquals(1, report.getDrawGamesCount());
+        assertEquals(0, report.getWins(0));
+        assertEquals(0, report.getWins(1));
+        assertEquals(0, report.getHeadToHeadWins(0, 1));
+        assertEquals(0, report.getHeadToHeadWins(1, 0));
+
+        //Un score strictement supérieur, ou le dernier joueur restant, désigne un gagnant
+        assertEquals(1, Simulator.determinateWinnerSeat(new int[] { 2, 3 }, noKicks));
+        assertEquals(0, Simulator.determinateWinnerSeat(new int[] { 0, 5 }, new boolean[] { false, true }));
+        assertEquals(-1, Simulator.determinateWinnerSeat(new int[] { 0, 0 }, noKicks));
+    }
+}